@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a business method invocation through the client proxies generated by
+ * {@link org.jboss.weld.bean.proxy.ClientProxyFactory}, i.e. the proxy dispatch plus the contextual instance lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ClientProxyBenchmark {
+
+    private Computation applicationBean;
+
+    private Computation requestBean;
+
+    private Computation sessionBean;
+
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld, ThreadContextsState contexts) {
+        applicationBean = weld.getContainer().select(ApplicationBean.class).get();
+        requestBean = weld.getContainer().select(RequestBean.class).get();
+        sessionBean = weld.getContainer().select(SessionBean.class).get();
+    }
+
+    @Benchmark
+    public long applicationScoped() {
+        return applicationBean.compute(value++);
+    }
+
+    @Benchmark
+    public long requestScoped() {
+        return requestBean.compute(value++);
+    }
+
+    @Benchmark
+    public long sessionScoped() {
+        return sessionBean.compute(value++);
+    }
+
+}
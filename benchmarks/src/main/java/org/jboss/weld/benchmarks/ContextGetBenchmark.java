@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link org.jboss.weld.contexts.AbstractContext#get(jakarta.enterprise.context.spi.Contextual)} for an
+ * existing contextual instance in the request, session and application context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ContextGetBenchmark {
+
+    @Param({ "request", "session", "application" })
+    private String scope;
+
+    private Context context;
+
+    private Bean<Object> bean;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup(WeldContainerState weld, ThreadContextsState contexts) {
+        BeanManagerImpl beanManager = weld.getBeanManager();
+        Class<? extends Annotation> scopeType;
+        Class<?> beanClass;
+        switch (scope) {
+            case "request":
+                scopeType = RequestScoped.class;
+                beanClass = RequestBean.class;
+                break;
+            case "session":
+                scopeType = SessionScoped.class;
+                beanClass = SessionBean.class;
+                break;
+            case "application":
+                scopeType = ApplicationScoped.class;
+                beanClass = ApplicationBean.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported scope: " + scope);
+        }
+        bean = (Bean<Object>) beanManager.resolve(beanManager.getBeans(beanClass));
+        context = beanManager.getContext(scopeType);
+        // Make sure the measured lookups always hit an existing instance
+        context.get(bean, beanManager.createCreationalContext(bean));
+    }
+
+    @Benchmark
+    public Object get() {
+        return context.get(bean);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.WeldCreationalContext;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates and destroys an instance of {@link DependentGraph.Root}, i.e. a request-scoped bean with a
+ * {@link jakarta.enterprise.context.Dependent}
+ * graph. Run with {@code -prof gc} to see the allocation rate of the creational contexts. The auxiliary counters report how
+ * many of the creational contexts reachable from the root context actually hold dependent instances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CreationalContextBenchmark {
+
+    private BeanManagerImpl beanManager;
+
+    private Bean<DependentGraph.Root> rootBean;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld) {
+        beanManager = weld.getBeanManager();
+        rootBean = (Bean<DependentGraph.Root>) beanManager.resolve(beanManager.getBeans(DependentGraph.Root.class));
+    }
+
+    @Benchmark
+    public Object createAndDestroy(DependentInstancesCounters counters) {
+        WeldCreationalContext<DependentGraph.Root> creationalContext = beanManager.createCreationalContext(rootBean);
+        DependentGraph.Root instance = rootBean.create(creationalContext);
+        counters.count(creationalContext);
+        rootBean.destroy(instance, creationalContext);
+        return instance;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class DependentInstancesCounters {
+
+        public long contexts;
+
+        public long contextsWithDependents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            contexts = 0;
+            contextsWithDependents = 0;
+        }
+
+        void count(CreationalContext<?> creationalContext) {
+            if (creationalContext instanceof WeldCreationalContext<?>) {
+                WeldCreationalContext<?> weldCreationalContext = (WeldCreationalContext<?>) creationalContext;
+                contexts++;
+                if (weldCreationalContext.hasDependentInstances()) {
+                    contextsWithDependents++;
+                    for (ContextualInstance<?> dependentInstance : weldCreationalContext.getDependentInstances()) {
+                        count(dependentInstance.getCreationalContext());
+                    }
+                }
+            }
+        }
+
+    }
+
+}
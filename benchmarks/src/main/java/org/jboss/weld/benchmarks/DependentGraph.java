@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+/**
+ * A request-scoped bean with a three-level {@link Dependent} graph. Only {@link TrackedLeaf} declares a {@link PreDestroy}
+ * callback and thus needs to be recorded as a dependent instance, the remaining nodes are not tracked by Weld.
+ */
+public final class DependentGraph {
+
+    private DependentGraph() {
+    }
+
+    static Class<?>[] beanClasses() {
+        return new Class<?>[] { Root.class, Node.class, PlainLeaf.class, PlainLeaf.Value.class, TrackedLeaf.class };
+    }
+
+    @RequestScoped
+    public static class Root {
+
+        @Inject
+        Node left;
+
+        @Inject
+        Node right;
+
+    }
+
+    @Dependent
+    public static class Node {
+
+        @Inject
+        PlainLeaf plain;
+
+        @Inject
+        TrackedLeaf tracked;
+
+    }
+
+    @Dependent
+    public static class PlainLeaf {
+
+        @Inject
+        PlainLeaf.Value value;
+
+        @Dependent
+        public static class Value {
+        }
+
+    }
+
+    @Dependent
+    public static class TrackedLeaf {
+
+        @PreDestroy
+        void destroy() {
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.benchmarks.ObserversExtension.ManyObserversPayload;
+import org.jboss.weld.benchmarks.ObserversExtension.NoObserverPayload;
+import org.jboss.weld.benchmarks.ObserversExtension.Payload;
+import org.jboss.weld.benchmarks.ObserversExtension.SingleObserverPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Event#fire(Object)} for an event type with 0, 1 or 50 synchronous observers. The {@code beanManagerEvent}
+ * benchmark obtains a new {@link Event} from {@link BeanManager#getEvent()} for every event, as integrations often do, so
+ * that no per-facade cache is warm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EventFireBenchmark {
+
+    @Param({ "0", "1", "50" })
+    private int observers;
+
+    private Event<Object> event;
+
+    private BeanManager beanManager;
+
+    private Payload payload;
+
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld) {
+        event = weld.getContainer().event();
+        beanManager = weld.getBeanManager();
+        switch (observers) {
+            case 0:
+                payload = new NoObserverPayload();
+                break;
+            case 1:
+                payload = new SingleObserverPayload();
+                break;
+            case ObserversExtension.MANY_OBSERVERS:
+                payload = new ManyObserversPayload();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported number of observers: " + observers);
+        }
+    }
+
+    @Benchmark
+    public Payload fire() {
+        event.fire(payload);
+        return payload;
+    }
+
+    @Benchmark
+    public Payload beanManagerEvent() {
+        beanManager.getEvent().fire(payload);
+        return payload;
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BeanManagerImpl#getReference(Bean, java.lang.reflect.Type, jakarta.enterprise.context.spi.CreationalContext)}
+ * for a normal-scoped bean (client proxy lookup) and a dependent bean (instance creation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GetReferenceBenchmark {
+
+    private BeanManagerImpl beanManager;
+
+    private Bean<?> applicationBean;
+
+    private Bean<?> dependentBean;
+
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld) {
+        beanManager = weld.getBeanManager();
+        applicationBean = beanManager.resolve(beanManager.getBeans(ApplicationBean.class));
+        dependentBean = beanManager.resolve(beanManager.getBeans(DependentBean.class));
+    }
+
+    @Benchmark
+    public Object applicationScoped() {
+        return beanManager.getReference(applicationBean, ApplicationBean.class,
+                beanManager.createCreationalContext(applicationBean));
+    }
+
+    @Benchmark
+    public Object dependent() {
+        return beanManager.getReference(dependentBean, DependentBean.class, beanManager.createCreationalContext(dependentBean));
+    }
+
+}
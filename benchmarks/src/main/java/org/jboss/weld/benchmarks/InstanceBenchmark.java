@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.bean.builtin.InstanceSelector;
+import org.jboss.weld.inject.WeldInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures programmatic lookup through {@link Instance#get()} and
+ * {@link Instance#select(Class, java.lang.annotation.Annotation...)}, and through a reused {@link InstanceSelector}.
+ * Only a normal-scoped bean is used so that no dependent instances accumulate during the run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InstanceBenchmark {
+
+    private WeldInstance<Object> root;
+
+    private Instance<ApplicationBean> instance;
+
+    private InstanceSelector<ApplicationBean> selector;
+
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld) {
+        root = weld.getContainer();
+        instance = root.select(ApplicationBean.class);
+        selector = InstanceSelector.of(root.select(Object.class), ApplicationBean.class, Default.Literal.INSTANCE);
+    }
+
+    @Benchmark
+    public Object get() {
+        return instance.get();
+    }
+
+    @Benchmark
+    public Object select() {
+        return root.select(ApplicationBean.class).get();
+    }
+
+    @Benchmark
+    public Object selectQualified() {
+        return root.select(ApplicationBean.class, Default.Literal.INSTANCE).get();
+    }
+
+    @Benchmark
+    public Object selector() {
+        return selector.get();
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.benchmarks;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Ten distinct pass-through interceptors, each with its own binding, used to build interceptor chains of a given length.
+ */
+public final class InterceptorChain {
+
+    private InterceptorChain() {
+    }
+
+    static Class<?>[] interceptorClasses() {
+        return new Class<?>[] { Link1Interceptor.class, Link2Interceptor.class, Link3Interceptor.class, Link4Interceptor.class,
+                Link5Interceptor.class, Link6Interceptor.class, Link7Interceptor.class, Link8Interceptor.class,
+                Link9Interceptor.class, Link10Interceptor.class };
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link1 {
+    }
+
+    @Link1
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 1)
+    public static class Link1Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link2 {
+    }
+
+    @Link2
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 2)
+    public static class Link2Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link3 {
+    }
+
+    @Link3
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 3)
+    public static class Link3Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link4 {
+    }
+
+    @Link4
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 4)
+    public static class Link4Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link5 {
+    }
+
+    @Link5
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 5)
+    public static class Link5Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link6 {
+    }
+
+    @Link6
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 6)
+    public static class Link6Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link7 {
+    }
+
+    @Link7
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 7)
+    public static class Link7Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link8 {
+    }
+
+    @Link8
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 8)
+    public static class Link8Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link9 {
+    }
+
+    @Link9
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 9)
+    public static class Link9Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Link10 {
+    }
+
+    @Link10
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 10)
+    public static class Link10Interceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+}
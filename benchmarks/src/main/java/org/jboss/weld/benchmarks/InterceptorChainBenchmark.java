@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an intercepted business method invocation, i.e. {@link org.jboss.weld.interceptor.proxy.InterceptorMethodHandler}
+ * dispatch through a chain of 1, 3 or 10 pass-through interceptors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InterceptorChainBenchmark {
+
+    @Param({ "1", "3", "10" })
+    private int interceptors;
+
+    private Computation target;
+
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setup(WeldContainerState weld) {
+        switch (interceptors) {
+            case 1:
+                target = weld.getContainer().select(OneInterceptorBean.class).get();
+                break;
+            case 3:
+                target = weld.getContainer().select(ThreeInterceptorsBean.class).get();
+                break;
+            case 10:
+                target = weld.getContainer().select(TenInterceptorsBean.class).get();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported number of interceptors: " + interceptors);
+        }
+    }
+
+    @Benchmark
+    public long invoke() {
+        return target.compute(value++);
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Same as {@link InterceptorChainBenchmark} but interceptor methods are invoked through method handles, i.e. with
+ * {@code org.jboss.weld.interceptor.methodHandles} enabled. Compare the results of both benchmarks to see the difference
+ * between reflective and method handle based invocation.
+ */
+@Fork(value = 2, jvmArgsAppend = "-Dorg.jboss.weld.interceptor.methodHandles=true")
+public class InterceptorMethodHandlesBenchmark extends InterceptorChainBenchmark {
+
+}
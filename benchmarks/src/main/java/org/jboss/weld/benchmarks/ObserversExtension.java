@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+
+/**
+ * Registers a fixed number of synthetic observers for each benchmarked event type. Using synthetic observers keeps the
+ * observer body trivial so that {@link EventFireBenchmark} measures resolution and notification only.
+ */
+public class ObserversExtension implements Extension {
+
+    public static final int MANY_OBSERVERS = 50;
+
+    void registerObservers(@Observes AfterBeanDiscovery event) {
+        addObservers(event, SingleObserverPayload.class, 1);
+        addObservers(event, ManyObserversPayload.class, MANY_OBSERVERS);
+    }
+
+    private static void addObservers(AfterBeanDiscovery event, Class<?> payloadType, int count) {
+        for (int i = 0; i < count; i++) {
+            event.addObserverMethod().observedType(payloadType).notifyWith(ctx -> ((Payload) ctx.getEvent()).touch());
+        }
+    }
+
+    public abstract static class Payload {
+
+        private long notifications;
+
+        void touch() {
+            notifications++;
+        }
+
+        public long getNotifications() {
+            return notifications;
+        }
+    }
+
+    public static class NoObserverPayload extends Payload {
+    }
+
+    public static class SingleObserverPayload extends Payload {
+    }
+
+    public static class ManyObserversPayload extends Payload {
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.jboss.weld.benchmarks.InterceptorChain.Link1;
+import org.jboss.weld.benchmarks.InterceptorChain.Link2;
+
+/**
+ * A bean with intercepted methods of different arities and a method which is not intercepted at all.
+ */
+@Dependent
+public class PartiallyInterceptedBean {
+
+    private long counter;
+
+    @Link1
+    @Link2
+    public long next() {
+        return ++counter;
+    }
+
+    @Link1
+    @Link2
+    public long add(long value, int increment) {
+        return value + increment;
+    }
+
+    public long plain(long value) {
+        return value + 1;
+    }
+
+}
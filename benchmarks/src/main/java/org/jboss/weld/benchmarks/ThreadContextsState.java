@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.control.RequestContextController;
+
+import org.jboss.weld.context.bound.BoundSessionContext;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Keeps the request and session contexts active on each benchmark thread for the whole trial. JMH reuses the same worker
+ * thread for all iterations of a trial so the thread-bound contexts stay associated with it.
+ */
+@State(Scope.Thread)
+public class ThreadContextsState {
+
+    private WeldContainer container;
+
+    private RequestContextController requestContextController;
+
+    private BoundSessionContext sessionContext;
+
+    private Map<String, Object> sessionStorage;
+
+    @Setup(Level.Trial)
+    public void activate(WeldContainerState weld) {
+        container = weld.getContainer();
+        requestContextController = container.select(RequestContextController.class).get();
+        requestContextController.activate();
+        sessionContext = container.select(BoundSessionContext.class).get();
+        sessionStorage = new HashMap<>();
+        sessionContext.associate(sessionStorage);
+        sessionContext.activate();
+    }
+
+    @TearDown(Level.Trial)
+    public void deactivate() {
+        if (!container.isRunning()) {
+            // JMH may tear down the shared container first, the contexts are gone with it
+            return;
+        }
+        try {
+            sessionContext.invalidate();
+            sessionContext.deactivate();
+        } finally {
+            sessionContext.dissociate(sessionStorage);
+            requestContextController.deactivate();
+        }
+    }
+
+}
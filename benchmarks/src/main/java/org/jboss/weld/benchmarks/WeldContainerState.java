@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Boots a single Weld SE container shared by all threads of a benchmark trial. Discovery is disabled and the deployment
+ * consists of a fixed set of bean classes so that every run measures exactly the same bean graph. Weld configuration
+ * may be tuned through system properties, e.g. {@code -jvmArgsAppend -Dorg.jboss.weld.bootstrap.concurrentDeployment=false}.
+ */
+@State(Scope.Benchmark)
+public class WeldContainerState {
+
+    static final String CONTAINER_ID = "weld-benchmarks";
+
+    private WeldContainer container;
+
+    private BeanManagerImpl beanManager;
+
+    @Setup(Level.Trial)
+    public void start() {
+        container = new Weld(CONTAINER_ID)
+                .disableDiscovery()
+                .beanClasses(ApplicationBean.class, RequestBean.class, SessionBean.class, DependentBean.class,
+                        OneInterceptorBean.class, ThreeInterceptorsBean.class, TenInterceptorsBean.class,
+                        PartiallyInterceptedBean.class)
+                .addBeanClasses(InterceptorChain.interceptorClasses())
+                .addBeanClasses(DependentGraph.beanClasses())
+                .addExtension(new ObserversExtension())
+                .initialize();
+        beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        container.shutdown();
+    }
+
+    public WeldContainer getContainer() {
+        return container;
+    }
+
+    public BeanManagerImpl getBeanManager() {
+        return beanManager;
+    }
+
+}
@@ -28,6 +28,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import jakarta.annotation.Priority;
 
@@ -53,6 +57,14 @@ import org.jboss.weld.util.ServiceLoader;
  */
 public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
+    private static final String CACHED_ATTRIBUTE = DiscoveryCache.class.getName() + ".cached";
+
+    private static final String REF_ATTRIBUTE = DiscoveryCache.class.getName() + ".ref";
+
+    private static final String FINGERPRINT_ATTRIBUTE = DiscoveryCache.class.getName() + ".fingerprint";
+
+    private static final String ANNOTATIONS_ATTRIBUTE = DiscoveryCache.class.getName() + ".annotations";
+
     protected ResourceLoader resourceLoader;
 
     protected Bootstrap bootstrap;
@@ -61,6 +73,10 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
     protected BeanArchiveScanner scanner;
 
+    protected DiscoveryCache discoveryCache;
+
+    protected Executor executor;
+
     private final List<BeanArchiveHandler> handlers;
 
     private final BeanDiscoveryMode emptyBeansXmlDiscoveryMode;
@@ -102,6 +118,16 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         this.scanner = scanner;
     }
 
+    @Override
+    public void setDiscoveryCache(DiscoveryCache discoveryCache) {
+        this.discoveryCache = discoveryCache;
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
     public void setInitialBeanDefiningAnnotations(Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         this.initialBeanDefiningAnnotations = initialBeanDefiningAnnotations;
     }
@@ -117,27 +143,34 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         final Set<String> processedRefs = new HashSet<String>();
 
         List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
+        final DiscoveryCache cache = isDiscoveryCacheSupported() ? discoveryCache : null;
+        if (cache != null) {
+            cache.load(getDiscoveryConfiguration(beanArchiveHandlers));
+        }
 
+        final List<ScanResult> scanResults = new ArrayList<ScanResult>();
         for (ScanResult scanResult : scanner.scan()) {
             final String ref = scanResult.getBeanArchiveRef();
             if (processedRefs.contains(ref)) {
                 throw CommonLogger.LOG.invalidScanningResult(ref);
             }
-            CommonLogger.LOG.processingBeanArchiveReference(ref);
             processedRefs.add(ref);
-            BeanArchiveBuilder builder = null;
-            for (BeanArchiveHandler handler : beanArchiveHandlers) {
-                builder = handler.handle(ref);
-                if (builder != null) {
-                    CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
-                    builder.setId(scanResult.getBeanArchiveId());
-                    builder.setBeansXml(scanResult.getBeansXml());
-                    beanArchiveBuilders.add(builder);
-                    break;
-                }
+            scanResults.add(scanResult);
+        }
+
+        if (executor != null && scanResults.size() > 1 && isThreadSafe(beanArchiveHandlers)) {
+            CommonLogger.LOG.debugv("Handling {0} bean archive references in parallel", scanResults.size());
+            List<CompletableFuture<BeanArchiveBuilder>> futures = new ArrayList<>(scanResults.size());
+            for (ScanResult scanResult : scanResults) {
+                futures.add(CompletableFuture.supplyAsync(() -> handle(scanResult, beanArchiveHandlers, cache), executor));
+            }
+            // Join in the scanning order so that the results are deterministic
+            for (CompletableFuture<BeanArchiveBuilder> future : futures) {
+                addBuilder(beanArchiveBuilders, join(future));
             }
-            if (builder == null) {
-                CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        } else {
+            for (ScanResult scanResult : scanResults) {
+                addBuilder(beanArchiveBuilders, handle(scanResult, beanArchiveHandlers, cache));
             }
         }
 
@@ -146,25 +179,36 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
         for (Iterator<BeanArchiveBuilder> iterator = beanArchiveBuilders.iterator(); iterator.hasNext();) {
             BeanArchiveBuilder builder = iterator.next();
-            BeansXml beansXml = builder.getBeansXml();
-            if (beansXml != null) {
-                switch (beansXml.getBeanDiscoveryMode()) {
-                    case ALL:
-                        addToArchives(archives, processAllDiscovery(builder));
-                        break;
-                    case ANNOTATED:
-                        addToArchives(archives, processAnnotatedDiscovery(builder));
-                        break;
-                    case NONE:
-                        addToArchives(archives, processNoneDiscovery(builder));
-                        break;
-                    default:
-                        throw CommonLogger.LOG.undefinedBeanDiscoveryValue(beansXml.getBeanDiscoveryMode());
+            if (Boolean.TRUE.equals(builder.getAttribute(CACHED_ATTRIBUTE))) {
+                // Bean classes were already identified during a previous discovery
+                BeansXml beansXml = builder.getBeansXml();
+                if (beansXml != null && BeanDiscoveryMode.NONE.equals(beansXml.getBeanDiscoveryMode())) {
+                    addToArchives(archives, processNoneDiscovery(builder));
+                } else {
+                    addToArchives(archives, builder.build());
+                }
+                continue;
+            }
+            String fingerprint = (String) builder.getAttribute(FINGERPRINT_ATTRIBUTE);
+            Set<String> classes = fingerprint != null ? new HashSet<String>(builder.getClasses()) : null;
+            WeldBeanDeploymentArchive archive = processDiscovery(builder);
+            if (fingerprint != null) {
+                @SuppressWarnings("unchecked")
+                Set<String> annotations = (Set<String>) builder.getAttribute(ANNOTATIONS_ATTRIBUTE);
+                if (annotations != null) {
+                    // Changes of annotations declared in the archive itself change the fingerprint of the archive
+                    annotations.removeAll(classes);
+                } else {
+                    annotations = Collections.emptySet();
                 }
-            } else {
-                // A candidate for an implicit bean archive with no beans.xml
-                addToArchives(archives, processAnnotatedDiscovery(builder));
+                cache.put((String) builder.getAttribute(REF_ATTRIBUTE), fingerprint,
+                        archive != null ? archive.getBeanClasses() : Collections.<String> emptySet(),
+                        builder.getKnownClasses(), annotations, this::isBeanDefiningAnnotation);
             }
+            addToArchives(archives, archive);
+        }
+        if (cache != null) {
+            cache.store();
         }
         for (WeldBeanDeploymentArchive archive : archives) {
             archive.getServices().add(ResourceLoader.class, resourceLoader);
@@ -173,6 +217,165 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         return archives;
     }
 
+    private BeanArchiveBuilder handle(ScanResult scanResult, List<BeanArchiveHandler> beanArchiveHandlers,
+            DiscoveryCache cache) {
+        final String ref = scanResult.getBeanArchiveRef();
+        CommonLogger.LOG.processingBeanArchiveReference(ref);
+        String fingerprint = null;
+        if (cache != null) {
+            fingerprint = cache.fingerprint(ref, scanResult.getBeansXml());
+            DiscoveryCache.Entry entry = fingerprint != null ? cache.get(ref, fingerprint, this::isBeanDefiningAnnotation)
+                    : null;
+            if (entry != null) {
+                CommonLogger.LOG.debugv("Bean archive reference {0} loaded from the discovery cache", ref);
+                BeanArchiveBuilder builder = new BeanArchiveBuilder();
+                for (String className : entry.getBeanClasses()) {
+                    builder.addClass(className);
+                }
+                builder.setId(scanResult.getBeanArchiveId());
+                builder.setBeansXml(scanResult.getBeansXml());
+                if (entry.getKnownClasses() != null) {
+                    // A cold start would see all the classes of the archive, not only the bean classes
+                    builder.setKnownClasses(new HashSet<String>(entry.getKnownClasses()));
+                }
+                builder.setAttribute(CACHED_ATTRIBUTE, Boolean.TRUE);
+                return builder;
+            }
+        }
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            BeanArchiveBuilder builder = handler.handle(ref);
+            if (builder != null) {
+                CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
+                if (fingerprint != null) {
+                    builder.setAttribute(REF_ATTRIBUTE, ref);
+                    builder.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+                }
+                builder.setId(scanResult.getBeanArchiveId());
+                builder.setBeansXml(scanResult.getBeansXml());
+                return builder;
+            }
+        }
+        CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        return null;
+    }
+
+    private static void addBuilder(List<BeanArchiveBuilder> beanArchiveBuilders, BeanArchiveBuilder builder) {
+        if (builder != null) {
+            beanArchiveBuilders.add(builder);
+        }
+    }
+
+    private static BeanArchiveBuilder join(CompletableFuture<BeanArchiveBuilder> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isThreadSafe(List<BeanArchiveHandler> beanArchiveHandlers) {
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            if (!handler.isThreadSafe()) {
+                CommonLogger.LOG.debugv("Bean archive references are handled sequentially - {0} is not thread-safe", handler);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private WeldBeanDeploymentArchive processDiscovery(BeanArchiveBuilder builder) {
+        BeansXml beansXml = builder.getBeansXml();
+        if (beansXml != null) {
+            switch (beansXml.getBeanDiscoveryMode()) {
+                case ALL:
+                    return processAllDiscovery(builder);
+                case ANNOTATED:
+                    return processAnnotatedDiscovery(builder);
+                case NONE:
+                    return processNoneDiscovery(builder);
+                default:
+                    throw CommonLogger.LOG.undefinedBeanDiscoveryValue(beansXml.getBeanDiscoveryMode());
+            }
+        } else {
+            // A candidate for an implicit bean archive with no beans.xml
+            return processAnnotatedDiscovery(builder);
+        }
+    }
+
+    /**
+     * A strategy which supports the {@link DiscoveryCache} must not depend on the {@link BeanArchiveHandler}s being invoked for
+     * every bean archive, e.g. to build a bytecode index.
+     *
+     * @return <code>true</code> if the discovery results may be cached, <code>false</code> otherwise
+     */
+    protected boolean isDiscoveryCacheSupported() {
+        return false;
+    }
+
+    /**
+     * A class may be a bean class because of an annotation declared in another archive, e.g. a stereotype. A strategy which
+     * checks the bean defining annotations of the classes of an archive must record the annotations present on them, the
+     * cached discovery results of the archive are discarded if any of these annotations becomes or stops being a bean
+     * defining annotation. This method does nothing if the results of the given archive are not cached.
+     *
+     * @param builder
+     * @param annotations the annotations present on a class of the archive
+     * @see #isBeanDefiningAnnotation(String)
+     */
+    protected void addReferencedAnnotations(BeanArchiveBuilder builder, Annotation[] annotations) {
+        if (builder.getAttribute(FINGERPRINT_ATTRIBUTE) == null || annotations.length == 0) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> names = (Set<String>) builder.getAttribute(ANNOTATIONS_ATTRIBUTE);
+        if (names == null) {
+            names = new HashSet<String>();
+            builder.setAttribute(ANNOTATIONS_ATTRIBUTE, names);
+        }
+        for (Annotation annotation : annotations) {
+            names.add(annotation.annotationType().getName());
+        }
+    }
+
+    /**
+     *
+     * @param annotationName
+     * @return <code>true</code> if the annotation type with the given name is a bean defining annotation, <code>false</code>
+     *         otherwise
+     * @see #addReferencedAnnotations(BeanArchiveBuilder, Annotation[])
+     */
+    protected boolean isBeanDefiningAnnotation(String annotationName) {
+        return false;
+    }
+
+    /**
+     * The cache is discarded if the configuration changes.
+     *
+     * @param beanArchiveHandlers
+     * @return the string representation of the discovery configuration
+     */
+    protected String getDiscoveryConfiguration(List<BeanArchiveHandler> beanArchiveHandlers) {
+        StringBuilder builder = new StringBuilder(getClass().getName());
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            builder.append(',').append(handler.getClass().getName());
+        }
+        Set<String> annotations = new TreeSet<String>();
+        if (initialBeanDefiningAnnotations != null) {
+            for (Class<? extends Annotation> annotation : initialBeanDefiningAnnotations) {
+                annotations.add(annotation.getName());
+            }
+        }
+        builder.append(annotations);
+        return builder.toString();
+    }
+
     @Override
     public ClassFileServices getClassFileServices() {
         // By default no bytecode scanning facility available
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.jboss.weld.environment.util.URLUtils.JAR_URL_SEPARATOR;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * Computes the fingerprint of a bean archive, i.e. a checksum used to detect whether an archive changed since the previous
+ * discovery. The fingerprint covers the path, size and last modification time of the archive file or of every file in the
+ * archive directory. For an archive file, the name, CRC-32 and size of every entry are also included. The values are read
+ * from the central directory so that the fingerprint reflects the contents of the archive without reading the entries.
+ *
+ * @see DiscoveryCache
+ */
+public final class ArchiveFingerprint {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private ArchiveFingerprint() {
+    }
+
+    /**
+     *
+     * @param ref the bean archive reference
+     * @param discriminators additional values the fingerprint depends on
+     * @return the current fingerprint of the archive or <code>null</code> if the fingerprint cannot be computed
+     */
+    public static String compute(String ref, String... discriminators) {
+        File archive = new File(ref.contains(JAR_URL_SEPARATOR) ? ref.substring(0, ref.indexOf(JAR_URL_SEPARATOR)) : ref);
+        if (!archive.canRead()) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        // Strings are length-prefixed and numbers have a fixed width so that different values never produce the same input
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            update(out, ref);
+            for (String discriminator : discriminators) {
+                update(out, discriminator);
+            }
+            Path root = archive.toPath();
+            if (archive.isDirectory()) {
+                List<Path> files;
+                try (Stream<Path> stream = Files.walk(root)) {
+                    files = new ArrayList<>();
+                    stream.filter(Files::isRegularFile).forEach(files::add);
+                }
+                Collections.sort(files);
+                for (Path path : files) {
+                    update(out, root.relativize(path).toString(), path);
+                }
+            } else {
+                update(out, "", root);
+                try (ZipFile zip = new ZipFile(archive)) {
+                    Enumeration<? extends ZipEntry> entries = zip.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        update(out, entry.getName());
+                        out.writeLong(entry.getCrc());
+                        out.writeLong(entry.getSize());
+                    }
+                }
+            }
+            return toHex(digest.digest());
+        } catch (IOException e) {
+            CommonLogger.LOG.debugv(e, "Unable to compute the fingerprint of {0}", ref);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param value
+     * @return the hex-encoded checksum of the given value
+     */
+    public static String digest(String value) {
+        return toHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void update(DataOutputStream out, String name, Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        update(out, name);
+        out.writeLong(attributes.size());
+        out.writeLong(attributes.lastModifiedTime().toMillis());
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+}
@@ -105,6 +105,19 @@ public class BeanArchiveBuilder {
         return attributes.get(key);
     }
 
+    /**
+     *
+     * @return the known classes or <code>null</code> if only the bean classes are known
+     */
+    Set<String> getKnownClasses() {
+        return knownClasses;
+    }
+
+    BeanArchiveBuilder setKnownClasses(Set<String> knownClasses) {
+        this.knownClasses = knownClasses;
+        return this;
+    }
+
     public Iterator<String> getClassIterator() {
         return beanClasses.iterator();
     }
@@ -46,4 +46,15 @@ public interface BeanArchiveHandler {
      */
     BeanArchiveBuilder handle(String beanArchiveReference);
 
+    /**
+     * If the parallel discovery is enabled, bean archive references are only handled concurrently if all the handlers are
+     * thread-safe.
+     *
+     * @return <code>true</code> if {@link #handle(String)} may be invoked concurrently, <code>false</code> otherwise
+     * @see DiscoveryStrategy#PARALLEL_DISCOVERY
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -0,0 +1,289 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * An on-disk cache of discovery results. For each bean archive reference the cache holds the classes which were identified
+ * as bean classes and, for an archive with bean discovery mode {@code annotated}, all the classes of the archive. An entry
+ * is only trusted if the {@link ArchiveFingerprint} matches the fingerprint computed during the previous discovery.
+ * Otherwise, the archive is scanned again.
+ * <p>
+ * A class may also be a bean class because of an annotation declared in another archive, e.g. a stereotype. Therefore, the
+ * entry also holds the annotation types declared outside the archive and the fingerprint covers those of them which are
+ * bean defining annotations.
+ * <p>
+ * The whole cache is discarded if the discovery configuration changes, i.e. the discovery strategy, the bean archive handlers
+ * or the set of bean defining annotations.
+ *
+ * @see AbstractDiscoveryStrategy#setDiscoveryCache(DiscoveryCache)
+ */
+public class DiscoveryCache {
+
+    /**
+     * The path of the file the discovery results are stored in. The cache is not used if not set.
+     */
+    public static final String DISCOVERY_CACHE_FILE = "org.jboss.weld.discovery.cacheFile";
+
+    private static final int FORMAT_VERSION = 3;
+
+    private final Path file;
+
+    private final Map<String, Entry> entries;
+
+    private final Map<String, Entry> updatedEntries;
+
+    private String configuration;
+
+    /**
+     *
+     * @param file the cache file, does not need to exist
+     */
+    public DiscoveryCache(Path file) {
+        this.file = file;
+        // Bean archive references may be handled in parallel
+        this.entries = new ConcurrentHashMap<>();
+        this.updatedEntries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     *
+     * @param value the value of {@link #DISCOVERY_CACHE_FILE}
+     * @return the discovery cache or <code>null</code> if the value is <code>null</code> or empty
+     */
+    public static DiscoveryCache of(Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+        return new DiscoveryCache(Paths.get(value.toString()));
+    }
+
+    /**
+     * Loads the cache file. Entries which were created with a different configuration are discarded.
+     *
+     * @param configuration the string representation of the discovery configuration
+     */
+    void load(String configuration) {
+        this.configuration = ArchiveFingerprint.digest(configuration);
+        entries.clear();
+        updatedEntries.clear();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !this.configuration.equals(in.readUTF())) {
+                return;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String ref = in.readUTF();
+                String fingerprint = in.readUTF();
+                Set<String> beanClasses = readClasses(in);
+                Set<String> knownClasses = in.readBoolean() ? readClasses(in) : null;
+                Set<String> annotations = readClasses(in);
+                entries.put(ref, new Entry(fingerprint, beanClasses, knownClasses, annotations));
+            }
+        } catch (NoSuchFileException e) {
+            // First discovery
+        } catch (IOException e) {
+            entries.clear();
+            CommonLogger.LOG.unableToReadDiscoveryCache(file, e);
+        }
+    }
+
+    /**
+     *
+     * @param ref the bean archive reference
+     * @param beansXml the beans.xml descriptor of the archive, may be <code>null</code>
+     * @return the current fingerprint of the archive or <code>null</code> if the archive cannot be cached
+     */
+    String fingerprint(String ref, BeansXml beansXml) {
+        // The bean discovery mode of an empty beans.xml may be configured
+        return ArchiveFingerprint.compute(ref, beansXml != null ? beansXml.getBeanDiscoveryMode().name() : "IMPLICIT");
+    }
+
+    /**
+     *
+     * @param ref
+     * @param fingerprint the current fingerprint of the archive
+     * @param beanDefiningAnnotation tests whether the annotation type with the given name is a bean defining annotation
+     * @return the cached entry or <code>null</code> if there is no entry with the given fingerprint
+     */
+    Entry get(String ref, String fingerprint, Predicate<String> beanDefiningAnnotation) {
+        Entry entry = entries.get(ref);
+        if (entry != null && entry.fingerprint.equals(fingerprint(fingerprint, entry.annotations, beanDefiningAnnotation))) {
+            updatedEntries.put(ref, entry);
+            return entry;
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @param ref
+     * @param fingerprint the current fingerprint of the archive
+     * @param beanClasses the bean classes
+     * @param knownClasses all the classes of the archive, may be <code>null</code> if only the bean classes are known
+     * @param annotations the names of the annotation types declared outside the archive and present on its classes
+     * @param beanDefiningAnnotation tests whether the annotation type with the given name is a bean defining annotation
+     */
+    void put(String ref, String fingerprint, Collection<String> beanClasses, Collection<String> knownClasses,
+            Set<String> annotations, Predicate<String> beanDefiningAnnotation) {
+        updatedEntries.put(ref, new Entry(fingerprint(fingerprint, annotations, beanDefiningAnnotation),
+                new HashSet<>(beanClasses), knownClasses != null ? new HashSet<>(knownClasses) : null,
+                new HashSet<>(annotations)));
+    }
+
+    /**
+     * Stores the entries used or created during the current discovery. Entries of archives which are no longer part of the
+     * deployment are dropped.
+     */
+    void store() {
+        if (updatedEntries.equals(entries)) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(configuration);
+                out.writeInt(updatedEntries.size());
+                for (Map.Entry<String, Entry> entry : updatedEntries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue().fingerprint);
+                    writeClasses(out, entry.getValue().beanClasses);
+                    Set<String> knownClasses = entry.getValue().knownClasses;
+                    out.writeBoolean(knownClasses != null);
+                    if (knownClasses != null) {
+                        writeClasses(out, knownClasses);
+                    }
+                    writeClasses(out, entry.getValue().annotations);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            entries.clear();
+            entries.putAll(updatedEntries);
+        } catch (IOException e) {
+            CommonLogger.LOG.unableToStoreDiscoveryCache(file, e);
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private static String fingerprint(String fingerprint, Set<String> annotations,
+            Predicate<String> beanDefiningAnnotation) {
+        if (annotations.isEmpty()) {
+            return fingerprint;
+        }
+        StringBuilder builder = new StringBuilder(fingerprint);
+        for (String annotation : new TreeSet<>(annotations)) {
+            if (beanDefiningAnnotation.test(annotation)) {
+                builder.append(',').append(annotation);
+            }
+        }
+        return ArchiveFingerprint.digest(builder.toString());
+    }
+
+    private static Set<String> readClasses(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Set<String> classes = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            classes.add(in.readUTF());
+        }
+        return classes;
+    }
+
+    private static void writeClasses(DataOutputStream out, Set<String> classes) throws IOException {
+        out.writeInt(classes.size());
+        for (String className : new TreeSet<>(classes)) {
+            out.writeUTF(className);
+        }
+    }
+
+    static final class Entry {
+
+        private final String fingerprint;
+
+        private final Set<String> beanClasses;
+
+        private final Set<String> knownClasses;
+
+        private final Set<String> annotations;
+
+        private Entry(String fingerprint, Set<String> beanClasses, Set<String> knownClasses, Set<String> annotations) {
+            this.fingerprint = fingerprint;
+            this.beanClasses = beanClasses;
+            this.knownClasses = knownClasses;
+            this.annotations = annotations;
+        }
+
+        Set<String> getBeanClasses() {
+            return beanClasses;
+        }
+
+        /**
+         *
+         * @return all the classes of the archive or <code>null</code> if only the bean classes are known
+         */
+        Set<String> getKnownClasses() {
+            return knownClasses;
+        }
+
+        @Override
+        public int hashCode() {
+            return fingerprint.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry that = (Entry) obj;
+            return fingerprint.equals(that.fingerprint) && beanClasses.equals(that.beanClasses)
+                    && Objects.equals(knownClasses, that.knownClasses) && annotations.equals(that.annotations);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package org.jboss.weld.environment.deployment.discovery;
 
 import java.lang.annotation.Annotation;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
@@ -34,6 +35,13 @@ import org.jboss.weld.resources.spi.ResourceLoader;
  */
 public interface DiscoveryStrategy {
 
+    /**
+     * If set to <code>true</code>, bean archive references are handled in parallel, provided that all the registered
+     * {@link BeanArchiveHandler}s are thread-safe. The discovery results do not depend on the order in which the references
+     * were handled.
+     */
+    String PARALLEL_DISCOVERY = "org.jboss.weld.discovery.parallel";
+
     /**
      * Installs a {@link ResourceLoader} for use by the
      * implementation.
@@ -86,4 +94,26 @@ public interface DiscoveryStrategy {
      */
     ClassFileServices getClassFileServices();
 
+    /**
+     * Optionally, a client may set a cache of discovery results. An implementation which does not support caching ignores the
+     * cache.
+     *
+     * @param discoveryCache the cache, may be <code>null</code>
+     * @see DiscoveryCache#DISCOVERY_CACHE_FILE
+     */
+    default void setDiscoveryCache(DiscoveryCache discoveryCache) {
+        // No-op
+    }
+
+    /**
+     * Optionally, a client may set an executor used to handle bean archive references in parallel. An implementation which
+     * does not support parallel discovery ignores the executor.
+     *
+     * @param executor the executor, may be <code>null</code>
+     * @see #PARALLEL_DISCOVERY
+     */
+    default void setExecutor(Executor executor) {
+        // No-op
+    }
+
 }
@@ -21,8 +21,16 @@ import static org.jboss.weld.environment.util.URLUtils.PROCOTOL_JAR;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -68,7 +76,7 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         try {
             log.debugv("Handle path: {0}", path);
             if (file.isDirectory()) {
-                handleDirectory(new DirectoryEntry().setFile(file), builder);
+                handleDirectory(new DirectoryEntry().setFile(file.toPath()), builder);
             } else {
                 if (nested) {
                     handleNestedFile(path, file, builder);
@@ -83,12 +91,20 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         return builder;
     }
 
+    /**
+     * This handler keeps no state. Subclasses are not considered thread-safe unless they override this method.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return FileSystemBeanArchiveHandler.class.equals(getClass());
+    }
+
     protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle archive file: {0}", file);
         try (ZipFile zip = new ZipFile(file)) {
             Enumeration<? extends ZipEntry> entries = zip.entries();
             ZipFileEntry entry = new ZipFileEntry(
-                    PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
+                    PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR, zip);
             while (entries.hasMoreElements()) {
                 add(entry.setName(entries.nextElement().getName()), builder);
             }
@@ -97,22 +113,35 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     protected void handleDirectory(DirectoryEntry entry, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle directory: {0}", entry.getFile());
-        File[] files = entry.getFile().listFiles();
-        String parentPath = entry.getName();
-        for (File child : files) {
-            if (entry.getName() != null) {
-                entry.setPath(entry.getName() + "/" + child.getName());
-            } else {
-                entry.setPath(child.getName());
-            }
-            entry.setFile(child);
-            if (child.isDirectory()) {
-                handleDirectory(entry, builder);
-            } else {
-                add(entry, builder);
-            }
-            entry.setPath(parentPath);
-        }
+        final Path root = entry.getFile();
+        final String parentPath = entry.getName();
+        // Unlike File.listFiles(), the file attributes are usually obtained together with the directory entries
+        java.nio.file.Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                new SimpleFileVisitor<Path>() {
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        if (!attrs.isDirectory()) {
+                            String name = root.relativize(file).toString().replace(File.separatorChar, '/');
+                            entry.setPath(parentPath != null ? parentPath + "/" + name : name);
+                            entry.setFile(file);
+                            add(entry, builder);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                        if (exc instanceof FileSystemLoopException) {
+                            // A symbolic link pointing to one of its parents
+                            log.debugv("Skipping directory cycle: {0}", file);
+                            return FileVisitResult.CONTINUE;
+                        }
+                        throw exc;
+                    }
+                });
+        entry.setPath(parentPath);
+        entry.setFile(root);
     }
 
     protected void handleNestedFile(String path, File file, BeanArchiveBuilder builder) throws IOException {
@@ -178,6 +207,15 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
          */
         URL getUrl() throws MalformedURLException;
 
+        /**
+         *
+         * @return the input stream to read the contents of the entry
+         * @throws IOException
+         */
+        default InputStream openStream() throws IOException {
+            return getUrl().openStream();
+        }
+
     }
 
     private static class ZipFileEntry implements Entry {
@@ -186,8 +224,20 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
         private String archiveUrl;
 
+        private final ZipFile zip;
+
         ZipFileEntry(String archiveUrl) {
+            this(archiveUrl, null);
+        }
+
+        /**
+         *
+         * @param archiveUrl
+         * @param zip the open archive the entries are read from directly, may be <code>null</code>
+         */
+        ZipFileEntry(String archiveUrl, ZipFile zip) {
             this.archiveUrl = archiveUrl;
+            this.zip = zip;
         }
 
         @Override
@@ -200,6 +250,17 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
             return new URL(archiveUrl + name);
         }
 
+        @Override
+        public InputStream openStream() throws IOException {
+            if (zip != null) {
+                ZipEntry zipEntry = zip.getEntry(name);
+                if (zipEntry != null) {
+                    return zip.getInputStream(zipEntry);
+                }
+            }
+            return Entry.super.openStream();
+        }
+
         ZipFileEntry setName(String name) {
             this.name = name;
             return this;
@@ -211,7 +272,7 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
         private String path;
 
-        private File file;
+        private Path file;
 
         @Override
         public String getName() {
@@ -220,7 +281,12 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
         @Override
         public URL getUrl() throws MalformedURLException {
-            return file.toURI().toURL();
+            return file.toUri().toURL();
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return java.nio.file.Files.newInputStream(file);
         }
 
         public DirectoryEntry setPath(String path) {
@@ -228,11 +294,11 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
             return this;
         }
 
-        public File getFile() {
+        public Path getFile() {
             return file;
         }
 
-        public DirectoryEntry setFile(File dir) {
+        public DirectoryEntry setFile(Path dir) {
             this.file = dir;
             return this;
         }
@@ -56,11 +56,30 @@ public class ReflectionDiscoveryStrategy extends AbstractDiscoveryStrategy {
         while (classIterator.hasNext()) {
             String className = classIterator.next();
             Class<?> clazz = Reflections.loadClass(resourceLoader, className);
-            if (clazz == null || !Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)) {
+            if (clazz == null) {
+                classIterator.remove();
+                continue;
+            }
+            addReferencedAnnotations(builder, clazz.getAnnotations());
+            if (!Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)) {
                 classIterator.remove();
             }
         }
         return builder.build();
     }
 
+    @Override
+    protected boolean isBeanDefiningAnnotation(String annotationName) {
+        Class<?> annotationType = Reflections.loadClass(resourceLoader, annotationName);
+        return annotationType != null && annotationType.isAnnotation()
+                && Reflections.isBeanDefiningAnnotation(annotationType.asSubclass(Annotation.class),
+                        initialBeanDefiningAnnotations);
+    }
+
+    @Override
+    protected boolean isDiscoveryCacheSupported() {
+        // Bean archive handlers only collect class names, the bean defining annotations are checked afterwards
+        return true;
+    }
+
 }
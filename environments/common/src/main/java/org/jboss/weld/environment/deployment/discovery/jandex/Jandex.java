@@ -26,6 +26,12 @@ public class Jandex {
      */
     public static final String DISABLE_JANDEX_DISCOVERY_STRATEGY = "org.jboss.weld.discovery.disableJandexDiscovery";
 
+    /**
+     * The path of the directory the Jandex indexes built during bean discovery are stored in, see {@link JandexIndexCache}.
+     * The indexes are not cached if not set.
+     */
+    public static final String INDEX_CACHE_DIRECTORY = "org.jboss.weld.discovery.jandexIndexCacheDir";
+
     private Jandex() {
     }
 
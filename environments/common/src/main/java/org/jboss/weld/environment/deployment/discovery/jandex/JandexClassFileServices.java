@@ -17,6 +17,14 @@
 package org.jboss.weld.environment.deployment.discovery.jandex;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -25,7 +33,10 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.resources.ClassFileAnnotationIndex;
 import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileInfoException;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
@@ -35,13 +46,21 @@ import org.jboss.weld.util.collections.ImmutableSet;
  * Jandex implementation of the {@link ClassFileServices}), which is a service that is a faster alternative to get info about
  * class without a need to load it
  * with ClassLoader.
+ * <p>
+ * The service also implements {@link ClassFileAnnotationIndex}. The candidates are computed from a map of annotation names to
+ * the classes which contain the annotation, built from the whole index the first time it is needed.
+ * </p>
  *
  * @author Matej Briškár
  */
-public class JandexClassFileServices implements ClassFileServices {
+public class JandexClassFileServices implements ClassFileServices, ClassFileAnnotationIndex {
+
+    private static final DotName OBJECT_NAME = DotName.createSimple(Object.class.getName());
 
     private IndexView index;
     private ComputingCache<DotName, Set<String>> annotationClassAnnotationsCache;
+    private ComputingCache<Class<? extends Annotation>, Set<String>> candidatesCache;
+    private Map<DotName, List<ClassInfo>> annotatedClasses;
     private final ClassLoader classLoader;
 
     private class AnnotationClassAnnotationLoader implements Function<DotName, Set<String>> {
@@ -68,13 +87,92 @@ public class JandexClassFileServices implements ClassFileServices {
         }
     }
 
+    private class CandidatesLoader implements Function<Class<? extends Annotation>, Set<String>> {
+
+        @Override
+        public Set<String> apply(Class<? extends Annotation> annotation) {
+            final DotName requiredName = DotName.createSimple(annotation.getName());
+            final Set<ClassInfo> seeds = new HashSet<>();
+            // Type, members and meta-annotations
+            for (Entry<DotName, List<ClassInfo>> entry : getAnnotatedClasses().entrySet()) {
+                if (requiredName.equals(entry.getKey()) || isMetaAnnotatedWith(entry.getKey(), requiredName)) {
+                    seeds.addAll(entry.getValue());
+                }
+            }
+            // Superclasses and interfaces which are not part of the index
+            final Map<DotName, Boolean> externalTypes = new HashMap<>();
+            for (ClassInfo classInfo : index.getKnownClasses()) {
+                final DotName superName = classInfo.superName();
+                if (superName != null && !OBJECT_NAME.equals(superName) && index.getClassByName(superName) == null
+                        && externalTypes.computeIfAbsent(superName, name -> isExternalSuperclassCandidate(name, annotation))) {
+                    seeds.add(classInfo);
+                }
+                for (DotName interfaceName : classInfo.interfaceNames()) {
+                    if (index.getClassByName(interfaceName) == null && externalTypes.computeIfAbsent(interfaceName,
+                            name -> isExternalInterfaceCandidate(name, annotation))) {
+                        seeds.add(classInfo);
+                    }
+                }
+            }
+            // Subclasses and implementors
+            final ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            for (ClassInfo seed : seeds) {
+                builder.add(seed.name().toString());
+                for (ClassInfo subclass : index.getAllKnownSubclasses(seed.name())) {
+                    builder.add(subclass.name().toString());
+                }
+                if (Modifier.isInterface(seed.flags())) {
+                    for (ClassInfo implementor : index.getAllKnownImplementors(seed.name())) {
+                        builder.add(implementor.name().toString());
+                    }
+                }
+            }
+            return builder.build();
+        }
+
+        private boolean isMetaAnnotatedWith(DotName annotationName, DotName requiredName) {
+            try {
+                return annotationClassAnnotationsCache.getValue(annotationName).contains(requiredName.toString());
+            } catch (ClassFileInfoException e) {
+                // The annotation cannot be loaded - the classes need to be inspected one by one
+                return true;
+            }
+        }
+
+        private boolean isExternalSuperclassCandidate(DotName superName, Class<? extends Annotation> annotation) {
+            try {
+                return Reflections.containsAnnotation(classLoader.loadClass(superName.toString()), annotation);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return true;
+            }
+        }
+
+        private boolean isExternalInterfaceCandidate(DotName interfaceName, Class<? extends Annotation> annotation) {
+            try {
+                for (Method method : classLoader.loadClass(interfaceName.toString()).getDeclaredMethods()) {
+                    if (method.isDefault() && Reflections.containsAnnotations(method.getAnnotations(), annotation)) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return true;
+            }
+        }
+    }
+
     public JandexClassFileServices(JandexDiscoveryStrategy strategy) {
-        index = strategy.getCompositeJandexIndex();
+        this(strategy.getCompositeJandexIndex(), WeldResourceLoader.getClassLoader());
+    }
+
+    JandexClassFileServices(IndexView index, ClassLoader classLoader) {
         if (index == null) {
             throw CommonLogger.LOG.jandexIndexNotCreated(ClassFileServices.class.getSimpleName());
         }
-        this.classLoader = WeldResourceLoader.getClassLoader();
+        this.index = index;
+        this.classLoader = classLoader;
         this.annotationClassAnnotationsCache = ComputingCacheBuilder.newBuilder().build(new AnnotationClassAnnotationLoader());
+        this.candidatesCache = ComputingCacheBuilder.newBuilder().build(new CandidatesLoader());
     }
 
     @Override
@@ -82,12 +180,37 @@ public class JandexClassFileServices implements ClassFileServices {
         return new JandexClassFileInfo(className, index, annotationClassAnnotationsCache, classLoader);
     }
 
+    @Override
+    public Set<String> getCandidatesContaining(Class<? extends Annotation> annotation) {
+        return candidatesCache.getValue(annotation);
+    }
+
+    private synchronized Map<DotName, List<ClassInfo>> getAnnotatedClasses() {
+        if (annotatedClasses == null) {
+            Map<DotName, List<ClassInfo>> result = new HashMap<>();
+            for (ClassInfo classInfo : index.getKnownClasses()) {
+                for (DotName annotationName : classInfo.annotationsMap().keySet()) {
+                    result.computeIfAbsent(annotationName, name -> new ArrayList<>()).add(classInfo);
+                }
+            }
+            annotatedClasses = result;
+        }
+        return annotatedClasses;
+    }
+
     @Override
     public void cleanupAfterBoot() {
         if (annotationClassAnnotationsCache != null) {
             annotationClassAnnotationsCache.clear();
             annotationClassAnnotationsCache = null;
         }
+        if (candidatesCache != null) {
+            candidatesCache.clear();
+            candidatesCache = null;
+        }
+        synchronized (this) {
+            annotatedClasses = null;
+        }
         index = null;
     }
 
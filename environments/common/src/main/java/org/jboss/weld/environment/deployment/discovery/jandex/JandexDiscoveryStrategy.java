@@ -60,12 +60,25 @@ public class JandexDiscoveryStrategy extends AbstractDiscoveryStrategy {
 
     private JandexClassFileServices classFileServices;
 
+    private final JandexFileSystemBeanArchiveHandler fileSystemHandler;
+
     public JandexDiscoveryStrategy(ResourceLoader resourceLoader, Bootstrap bootstrap,
             Set<Class<? extends Annotation>> initialBeanDefiningAnnotations,
             BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
         super(resourceLoader, bootstrap, initialBeanDefiningAnnotations, emptyBeansXmlDiscoveryMode);
         registerHandler(new JandexIndexBeanArchiveHandler());
-        registerHandler(new JandexFileSystemBeanArchiveHandler());
+        this.fileSystemHandler = new JandexFileSystemBeanArchiveHandler();
+        registerHandler(fileSystemHandler);
+    }
+
+    /**
+     * Optionally, the indexes built for bean archives without <code>META-INF/jandex.idx</code> may be cached.
+     *
+     * @param indexCache the cache, may be <code>null</code>
+     * @see Jandex#INDEX_CACHE_DIRECTORY
+     */
+    public void setIndexCache(JandexIndexCache indexCache) {
+        fileSystemHandler.setIndexCache(indexCache);
     }
 
     @Override
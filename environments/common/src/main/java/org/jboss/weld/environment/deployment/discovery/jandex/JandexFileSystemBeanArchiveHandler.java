@@ -19,62 +19,102 @@ package org.jboss.weld.environment.deployment.discovery.jandex;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
 
-import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
+import org.jboss.weld.environment.deployment.discovery.ArchiveFingerprint;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
 import org.jboss.weld.environment.deployment.discovery.FileSystemBeanArchiveHandler;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.util.Files;
 
 /**
- * Builds and attaches a jandex index to each bean archive.
+ * Builds and attaches a jandex index to each bean archive. Optionally, the built indexes are stored in a
+ * {@link JandexIndexCache} and loaded during the next discovery.
  *
  * @author Matej Briškár
  * @author Martin Kouba
  */
 public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
 
-    private final Indexer indexer = new Indexer();
+    // A separate indexer is used for each bean archive reference so that references may be handled in parallel
+    private final ThreadLocal<Indexer> indexer = new ThreadLocal<Indexer>();
+
+    private volatile JandexIndexCache indexCache;
+
+    /**
+     *
+     * @param indexCache the cache of built indexes, may be <code>null</code>
+     */
+    public void setIndexCache(JandexIndexCache indexCache) {
+        this.indexCache = indexCache;
+    }
 
     @Override
     public BeanArchiveBuilder handle(String path) {
-        BeanArchiveBuilder builder = super.handle(path);
-        if (builder == null) {
-            return null;
+        final JandexIndexCache cache = this.indexCache;
+        String fingerprint = null;
+        if (cache != null) {
+            fingerprint = ArchiveFingerprint.compute(path);
+            BeanArchiveBuilder cached = fingerprint != null ? cache.load(path, fingerprint) : null;
+            if (cached != null) {
+                CommonLogger.LOG.debugv("Jandex index of {0} loaded from {1}", path, cache);
+                return cached;
+            }
+        }
+        BeanArchiveBuilder builder = buildIndex(path);
+        if (builder != null && fingerprint != null) {
+            cache.store(path, fingerprint, builder);
         }
-        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex());
         return builder;
     }
 
+    private BeanArchiveBuilder buildIndex(String path) {
+        Indexer previous = indexer.get();
+        indexer.set(new Indexer());
+        try {
+            BeanArchiveBuilder builder = super.handle(path);
+            if (builder == null) {
+                return null;
+            }
+            builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, indexer.get().complete());
+            return builder;
+        } finally {
+            if (previous != null) {
+                indexer.set(previous);
+            } else {
+                indexer.remove();
+            }
+        }
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return JandexFileSystemBeanArchiveHandler.class.equals(getClass());
+    }
+
     @Override
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
         if (Files.isClass(entry.getName())) {
-            addToIndex(entry.getUrl());
+            addToIndex(entry);
         }
     }
 
-    private void addToIndex(URL url) {
+    private void addToIndex(Entry entry) throws MalformedURLException {
         InputStream fs = null;
         try {
-            fs = url.openStream();
-            indexer.index(fs);
+            fs = entry.openStream();
+            indexer.get().index(fs);
         } catch (IOException ex) {
-            CommonLogger.LOG.couldNotOpenStreamForURL(url, ex);
+            CommonLogger.LOG.couldNotOpenStreamForURL(entry.getUrl(), ex);
         } finally {
             try {
                 if (fs != null) {
                     fs.close();
                 }
             } catch (IOException ex) {
-                CommonLogger.LOG.couldNotCloseStreamForURL(url, ex);
+                CommonLogger.LOG.couldNotCloseStreamForURL(entry.getUrl(), ex);
             }
         }
     }
-
-    private Index buildIndex() {
-        return indexer.complete();
-    }
 }
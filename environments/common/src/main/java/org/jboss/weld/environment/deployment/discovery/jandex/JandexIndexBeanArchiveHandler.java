@@ -36,7 +36,7 @@ import org.jboss.weld.util.Preconditions;
  * {@link JandexIndexBeanArchiveHandler#handle(String)} method will return null.
  *
  * <p>
- * The class is not thread-safe and should only be used by a single thread.
+ * The class keeps no state and may be used by multiple threads, see {@link #isThreadSafe()}.
  * </p>
  *
  * @author Stefan Großmann
@@ -63,6 +63,11 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
         return builder;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return JandexIndexBeanArchiveHandler.class.equals(getClass());
+    }
+
     private Index getIndex(final File beanArchiveFile) {
         Preconditions.checkArgumentNotNull(beanArchiveFile, "beanArchiveFile");
         logger.debugv("Try to get Jandex index for: {0}", beanArchiveFile);
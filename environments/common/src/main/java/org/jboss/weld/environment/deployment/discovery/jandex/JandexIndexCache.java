@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.weld.environment.deployment.discovery.ArchiveFingerprint;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * An on-disk cache of Jandex indexes built by {@link JandexFileSystemBeanArchiveHandler}. Each bean archive reference is
+ * stored in a separate file, together with the {@link ArchiveFingerprint} of the archive and the classes found in the archive.
+ * A cached index is only used if the fingerprint matches, otherwise the archive is indexed again and the file is replaced.
+ * <p>
+ * Files of archives which are no longer deployed are not removed automatically.
+ *
+ * @see Jandex#INDEX_CACHE_DIRECTORY
+ */
+public class JandexIndexCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FILE_SUFFIX = ".idx";
+
+    private final Path directory;
+
+    /**
+     *
+     * @param directory the cache directory, does not need to exist
+     */
+    public JandexIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     *
+     * @param value the value of {@link Jandex#INDEX_CACHE_DIRECTORY}
+     * @return the index cache or <code>null</code> if the value is <code>null</code> or empty
+     */
+    public static JandexIndexCache of(Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+        return new JandexIndexCache(Paths.get(value.toString()));
+    }
+
+    /**
+     *
+     * @param ref the bean archive reference
+     * @param fingerprint the current fingerprint of the archive
+     * @return the builder with the cached classes and index or <code>null</code> if there is no index with the given
+     *         fingerprint
+     */
+    BeanArchiveBuilder load(String ref, String fingerprint) {
+        Path file = getFile(ref);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !ref.equals(in.readUTF()) || !fingerprint.equals(in.readUTF())) {
+                return null;
+            }
+            BeanArchiveBuilder builder = new BeanArchiveBuilder();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                builder.addClass(in.readUTF());
+            }
+            builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, new IndexReader(in).read());
+            return builder;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // Jandex throws an unchecked exception if the index format is not supported
+            CommonLogger.LOG.unableToReadCachedJandexIndex(file, ref, e);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param ref the bean archive reference
+     * @param fingerprint the current fingerprint of the archive
+     * @param builder the builder with the classes and the index of the archive
+     */
+    void store(String ref, String fingerprint, BeanArchiveBuilder builder) {
+        Index index = (Index) builder.getAttribute(Jandex.INDEX_ATTRIBUTE_NAME);
+        if (index == null) {
+            return;
+        }
+        Path file = getFile(ref);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(ref);
+                    out.writeUTF(fingerprint);
+                    Set<String> classes = new TreeSet<>(builder.getClasses());
+                    out.writeInt(classes.size());
+                    for (String className : classes) {
+                        out.writeUTF(className);
+                    }
+                    new IndexWriter(out).write(index);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                // Do not leave the temporary file behind
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            CommonLogger.LOG.unableToStoreJandexIndex(ref, file, e);
+        }
+    }
+
+    Path getFile(String ref) {
+        return directory.resolve(ArchiveFingerprint.digest(ref) + FILE_SUFFIX);
+    }
+
+    @Override
+    public String toString() {
+        return "JandexIndexCache [directory=" + directory + "]";
+    }
+
+}
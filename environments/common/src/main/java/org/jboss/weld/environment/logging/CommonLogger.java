@@ -164,4 +164,20 @@ public interface CommonLogger extends WeldEnvironmentLogger {
     @Message(id = 42, value = "Class path entry does not exist: {0}", format = Format.MESSAGE_FORMAT)
     void classPathEntryDoesNotExist(Object entry);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 43, value = "Unable to read the discovery cache {0}, full discovery is performed", format = Format.MESSAGE_FORMAT)
+    void unableToReadDiscoveryCache(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 44, value = "Unable to store the discovery cache {0}", format = Format.MESSAGE_FORMAT)
+    void unableToStoreDiscoveryCache(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 45, value = "Unable to read the cached Jandex index {0}, bean archive {1} is indexed again", format = Format.MESSAGE_FORMAT)
+    void unableToReadCachedJandexIndex(Object file, Object ref, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 46, value = "Unable to store the Jandex index of bean archive {0} in {1}", format = Format.MESSAGE_FORMAT)
+    void unableToStoreJandexIndex(Object ref, Object file, @Cause Throwable cause);
+
 }
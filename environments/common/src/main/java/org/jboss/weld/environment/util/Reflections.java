@@ -173,6 +173,25 @@ public final class Reflections {
         return false;
     }
 
+    /**
+     *
+     * @param annotationType
+     * @param initialBeanDefiningAnnotations
+     * @return <code>true</code> if the given annotation type is a bean defining annotation, <code>false</code> otherwise
+     */
+    public static boolean isBeanDefiningAnnotation(Class<? extends Annotation> annotationType,
+            Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
+        if (initialBeanDefiningAnnotations.contains(annotationType)) {
+            return true;
+        }
+        for (Class<? extends Annotation> metaAnnotation : META_ANNOTATIONS) {
+            if (annotationType.isAnnotationPresent(metaAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static boolean hasBeanDefiningAnnotation(Class<?> clazz,
             Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         for (Class<? extends Annotation> beanDefiningAnnotation : initialBeanDefiningAnnotations) {
@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveFingerprintTest {
+
+    private static final FileTime LAST_MODIFIED = FileTime.fromMillis(1000000L);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testAdjacentValuesDoNotCollide() throws IOException {
+        File archive = folder.newFolder("archive");
+        // The name "x1" followed by the size 0 and the name "x" followed by the size 10 used to be the same input
+        Path first = writeFile(archive, "x1", 0);
+        String fingerprint = ArchiveFingerprint.compute(archive.getPath());
+        assertNotNull(fingerprint);
+        Files.delete(first);
+        writeFile(archive, "x", 10);
+        assertNotEquals(fingerprint, ArchiveFingerprint.compute(archive.getPath()));
+    }
+
+    private static Path writeFile(File directory, String name, int size) throws IOException {
+        Path file = Files.write(new File(directory, name).toPath(), new byte[size]);
+        Files.setLastModifiedTime(file, LAST_MODIFIED);
+        return file;
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Stereotype;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoveryCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File archive;
+
+    private File cacheFile;
+
+    private BeansXml beansXml;
+
+    @Before
+    public void init() throws IOException {
+        archive = folder.newFolder("archive");
+        cacheFile = new File(folder.getRoot(), "cache/discovery.bin");
+        addClassFile(Foo.class);
+        addClassFile(Bar.class);
+    }
+
+    @Test
+    public void testDiscoveryResultsReused() throws IOException {
+        CountingResourceLoader resourceLoader = new CountingResourceLoader();
+        assertBeanClasses(discover(resourceLoader), Foo.class);
+        assertEquals(2, resourceLoader.loadedClasses.get());
+        assertTrue(cacheFile.exists());
+
+        // Nothing changed, bean classes are not loaded again
+        resourceLoader = new CountingResourceLoader();
+        assertBeanClasses(discover(resourceLoader), Foo.class);
+        assertEquals(0, resourceLoader.loadedClasses.get());
+
+        // The archive changed
+        addClassFile(Baz.class);
+        resourceLoader = new CountingResourceLoader();
+        assertBeanClasses(discover(resourceLoader), Foo.class, Baz.class);
+        assertEquals(3, resourceLoader.loadedClasses.get());
+    }
+
+    @Test
+    public void testCacheDiscardedIfConfigurationChanges() {
+        CountingResourceLoader resourceLoader = new CountingResourceLoader();
+        discover(resourceLoader);
+        resourceLoader = new CountingResourceLoader();
+        // No bean class found, the archive is ignored
+        assertTrue(discover(resourceLoader, Collections.emptySet()).isEmpty());
+        assertEquals(2, resourceLoader.loadedClasses.get());
+    }
+
+    @Test
+    public void testEntryDiscardedIfStereotypeOfAnotherArchiveChanges() throws IOException {
+        // Qux is annotated with a stereotype which is not declared in the archive
+        addClassFile(Qux.class);
+        CountingResourceLoader resourceLoader = new CountingResourceLoader();
+        assertBeanClasses(discover(resourceLoader), Foo.class, Qux.class);
+
+        resourceLoader = new CountingResourceLoader();
+        assertBeanClasses(discover(resourceLoader), Foo.class, Qux.class);
+        assertEquals(0, resourceLoader.loadedClasses.get());
+
+        // The stereotype is no longer a bean defining annotation, the archive is scanned again
+        resourceLoader = new CountingResourceLoader();
+        resourceLoader.replacements.put(Action.class.getName(), NotAStereotype.class);
+        discover(resourceLoader);
+        assertEquals(3, resourceLoader.loadedClasses.get());
+    }
+
+    @Test
+    public void testKnownClassesOfAnnotatedArchiveRestored() {
+        beansXml = BeansXml.EMPTY_BEANS_XML;
+        assertEquals(BeanDiscoveryMode.ANNOTATED, beansXml.getBeanDiscoveryMode());
+        CountingResourceLoader resourceLoader = new CountingResourceLoader();
+        WeldBeanDeploymentArchive cold = discover(resourceLoader);
+        assertBeanClasses(cold, Foo.class);
+        assertEquals(2, cold.getKnownClasses().size());
+        assertTrue(cold.getKnownClasses().contains(Bar.class.getName()));
+
+        resourceLoader = new CountingResourceLoader();
+        WeldBeanDeploymentArchive warm = discover(resourceLoader);
+        assertEquals(0, resourceLoader.loadedClasses.get());
+        assertBeanClasses(warm, Foo.class);
+        assertEquals(new HashSet<>(cold.getKnownClasses()), new HashSet<>(warm.getKnownClasses()));
+    }
+
+    private WeldBeanDeploymentArchive discover(ResourceLoader resourceLoader) {
+        Set<WeldBeanDeploymentArchive> archives = discover(resourceLoader, Collections.singleton(Dependent.class));
+        assertEquals(1, archives.size());
+        return archives.iterator().next();
+    }
+
+    private Set<WeldBeanDeploymentArchive> discover(ResourceLoader resourceLoader,
+            Set<Class<? extends Annotation>> beanDefiningAnnotations) {
+        DiscoveryStrategy strategy = DiscoveryStrategyFactory.create(resourceLoader, null, beanDefiningAnnotations, true,
+                BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(new BeanArchiveScanner() {
+            @Override
+            public List<ScanResult> scan() {
+                return Collections.singletonList(new ScanResult(beansXml, archive.getPath(), "archive"));
+            }
+        });
+        strategy.setDiscoveryCache(DiscoveryCache.of(cacheFile.getPath()));
+        return strategy.performDiscovery();
+    }
+
+    private void assertBeanClasses(WeldBeanDeploymentArchive archive, Class<?>... classes) {
+        Collection<String> beanClasses = archive.getBeanClasses();
+        assertEquals(classes.length, beanClasses.size());
+        for (Class<?> clazz : classes) {
+            assertTrue(beanClasses.contains(clazz.getName()));
+        }
+    }
+
+    private void addClassFile(Class<?> clazz) throws IOException {
+        File file = new File(archive, clazz.getName().replace('.', '/') + ".class");
+        file.getParentFile().mkdirs();
+        // Only the file name matters
+        Files.write(file.toPath(), clazz.getName().getBytes());
+    }
+
+    private class CountingResourceLoader implements ResourceLoader {
+
+        private final ResourceLoader delegate = new ClassLoaderResourceLoader(DiscoveryCacheTest.class.getClassLoader());
+
+        private final AtomicInteger loadedClasses = new AtomicInteger();
+
+        private final Map<String, Class<?>> replacements = new HashMap<>();
+
+        @Override
+        public Class<?> classForName(String name) {
+            Class<?> clazz = replacements.containsKey(name) ? replacements.get(name) : delegate.classForName(name);
+            // Only count the classes of the archive
+            if (name.startsWith(DiscoveryCacheTest.class.getName()) && !clazz.isAnnotation()) {
+                loadedClasses.incrementAndGet();
+            }
+            return clazz;
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return delegate.getResource(name);
+        }
+
+        @Override
+        public Collection<URL> getResources(String name) {
+            return delegate.getResources(name);
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+    }
+
+    @Dependent
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+
+    @Dependent
+    static class Baz {
+    }
+
+    @Action
+    static class Qux {
+    }
+
+    @Stereotype
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Action {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface NotAStereotype {
+    }
+
+}
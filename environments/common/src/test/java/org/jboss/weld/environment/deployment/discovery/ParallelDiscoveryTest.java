@@ -0,0 +1,190 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParallelDiscoveryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<ScanResult> scanResults;
+
+    @Before
+    public void init() throws IOException {
+        scanResults = new ArrayList<ScanResult>();
+        File alpha = folder.newFolder("alpha");
+        addClassFile(alpha, Alpha.class);
+        addClassFile(alpha, Delta.class);
+        scanResults.add(new ScanResult(null, alpha.getPath(), "alpha"));
+        File beta = folder.newFolder("beta");
+        addClassFile(beta, Beta.class);
+        scanResults.add(new ScanResult(null, beta.getPath(), "beta"));
+        File gamma = folder.newFile("gamma.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(gamma.toPath()))) {
+            addClassFile(out, Gamma.class);
+            addClassFile(out, Delta.class);
+        }
+        scanResults.add(new ScanResult(null, gamma.getPath(), "gamma"));
+    }
+
+    @Test
+    public void testResultsMatchSequentialDiscovery() {
+        for (boolean disableJandex : new boolean[] { true, false }) {
+            Map<String, Set<String>> expected = discover(disableJandex, null);
+            assertEquals(3, expected.size());
+            assertEquals(classNames(Alpha.class), expected.get("alpha"));
+            assertEquals(classNames(Beta.class), expected.get("beta"));
+            assertEquals(classNames(Gamma.class), expected.get("gamma"));
+
+            AtomicInteger tasks = new AtomicInteger();
+            Executor executor = (task) -> {
+                tasks.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            };
+            assertEquals(expected, discover(disableJandex, executor));
+            assertEquals(scanResults.size(), tasks.get());
+        }
+    }
+
+    @Test
+    public void testParallelDiscoveryWithCache() {
+        Map<String, Set<String>> expected = discover(true, null);
+        DiscoveryCache cache = DiscoveryCache.of(new File(folder.getRoot(), "discovery.bin").getPath());
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = (task) -> {
+            tasks.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        };
+        // The first discovery fills the cache, the second one is served from the cache
+        for (int i = 0; i < 2; i++) {
+            DiscoveryStrategy strategy = createStrategy(true, executor);
+            strategy.setDiscoveryCache(cache);
+            Map<String, Set<String>> result = new HashMap<String, Set<String>>();
+            for (WeldBeanDeploymentArchive archive : strategy.performDiscovery()) {
+                result.put(archive.getId(), new HashSet<String>(archive.getBeanClasses()));
+            }
+            assertEquals(expected, result);
+        }
+        assertEquals(2 * scanResults.size(), tasks.get());
+        assertTrue(cache.getFile().toFile().exists());
+    }
+
+    @Test
+    public void testSequentialIfHandlerNotThreadSafe() {
+        AtomicInteger tasks = new AtomicInteger();
+        DiscoveryStrategy strategy = createStrategy(true, (task) -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+        strategy.registerHandler((ref) -> null);
+        assertEquals(3, strategy.performDiscovery().size());
+        assertEquals(0, tasks.get());
+    }
+
+    private Map<String, Set<String>> discover(boolean disableJandex, Executor executor) {
+        Map<String, Set<String>> result = new HashMap<String, Set<String>>();
+        for (WeldBeanDeploymentArchive archive : createStrategy(disableJandex, executor).performDiscovery()) {
+            result.put(archive.getId(), new HashSet<String>(archive.getBeanClasses()));
+        }
+        return result;
+    }
+
+    private DiscoveryStrategy createStrategy(boolean disableJandex, Executor executor) {
+        DiscoveryStrategy strategy = DiscoveryStrategyFactory.create(
+                new ClassLoaderResourceLoader(ParallelDiscoveryTest.class.getClassLoader()), null,
+                Collections.singleton(Dependent.class),
+                disableJandex, BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(() -> scanResults);
+        strategy.setExecutor(executor);
+        return strategy;
+    }
+
+    private static Set<String> classNames(Class<?>... classes) {
+        Set<String> result = new HashSet<String>();
+        for (Class<?> clazz : classes) {
+            result.add(clazz.getName());
+        }
+        return result;
+    }
+
+    private static void addClassFile(File dir, Class<?> clazz) throws IOException {
+        File file = new File(dir, getClassFileName(clazz));
+        file.getParentFile().mkdirs();
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(getClassFileName(clazz))) {
+            Files.copy(in, file.toPath());
+        }
+    }
+
+    private static void addClassFile(ZipOutputStream out, Class<?> clazz) throws IOException {
+        out.putNextEntry(new ZipEntry(getClassFileName(clazz)));
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(getClassFileName(clazz))) {
+            in.transferTo(out);
+        }
+        out.closeEntry();
+    }
+
+    private static String getClassFileName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    @Dependent
+    static class Alpha {
+    }
+
+    @Dependent
+    static class Beta {
+    }
+
+    @Dependent
+    static class Gamma {
+    }
+
+    static class Delta {
+    }
+
+}
@@ -10,4 +10,9 @@ class TestHandler implements BeanArchiveHandler {
         return null;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
 }
\ No newline at end of file
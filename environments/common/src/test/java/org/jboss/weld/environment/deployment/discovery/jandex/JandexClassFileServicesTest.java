@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JandexClassFileServicesTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Marker
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface MetaMarked {
+    }
+
+    static class Annotated {
+
+        @Marker
+        String field;
+
+    }
+
+    @MetaMarked
+    static class MetaAnnotated {
+    }
+
+    static class AnnotatedSubclass extends Annotated {
+    }
+
+    interface DefaultMarked {
+
+        @Marker
+        default void ping() {
+        }
+
+    }
+
+    static class DefaultMarkedImpl implements DefaultMarked {
+    }
+
+    @SuppressWarnings("serial")
+    static class ExternalSuperclass extends ArrayList<String> {
+    }
+
+    static class ExternalInterface implements Runnable {
+
+        @Override
+        public void run() {
+        }
+
+    }
+
+    static class Unrelated {
+    }
+
+    private Index index;
+
+    private JandexClassFileServices services;
+
+    @Before
+    public void init() throws IOException {
+        index = Index.of(Marker.class, MetaMarked.class, Annotated.class, MetaAnnotated.class, AnnotatedSubclass.class,
+                DefaultMarked.class, DefaultMarkedImpl.class, ExternalSuperclass.class, ExternalInterface.class,
+                Unrelated.class);
+        services = new JandexClassFileServices(index, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testCandidates() {
+        Set<String> expected = new HashSet<>();
+        for (Class<?> clazz : new Class<?>[] { MetaMarked.class, Annotated.class, MetaAnnotated.class,
+                AnnotatedSubclass.class, DefaultMarked.class, DefaultMarkedImpl.class }) {
+            expected.add(clazz.getName());
+        }
+        assertEquals(expected, services.getCandidatesContaining(Marker.class));
+    }
+
+    @Test
+    public void testCandidatesContainAllMatchingClasses() {
+        for (Class<? extends Annotation> annotation : Arrays.<Class<? extends Annotation>> asList(Marker.class,
+                MetaMarked.class, Retention.class, Override.class)) {
+            Set<String> candidates = services.getCandidatesContaining(annotation);
+            for (ClassInfo classInfo : index.getKnownClasses()) {
+                String className = classInfo.name().toString();
+                if (services.getClassFileInfo(className).containsAnnotation(annotation)) {
+                    assertTrue(className + " not a candidate for " + annotation, candidates.contains(className));
+                }
+            }
+        }
+    }
+
+}
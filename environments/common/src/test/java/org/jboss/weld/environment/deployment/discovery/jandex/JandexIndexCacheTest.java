@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JandexIndexCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File archive;
+
+    private JandexIndexCache cache;
+
+    @Before
+    public void init() throws IOException {
+        archive = new File(folder.getRoot(), "archive.jar");
+        cache = JandexIndexCache.of(new File(folder.getRoot(), "cache").getPath());
+    }
+
+    @Test
+    public void testIndexReused() throws IOException {
+        writeArchive(Foo.class, Bar.class);
+        CountingHandler handler = new CountingHandler();
+        assertIndex(handler.handle(archive.getPath()), Foo.class, Bar.class);
+        assertEquals(2, handler.indexedClasses.get());
+        assertTrue(Files.exists(cache.getFile(archive.getPath())));
+
+        // Nothing changed, the index is loaded from the cache
+        handler = new CountingHandler();
+        assertIndex(handler.handle(archive.getPath()), Foo.class, Bar.class);
+        assertEquals(0, handler.indexedClasses.get());
+
+        // The archive changed
+        writeArchive(Foo.class, Bar.class, Baz.class);
+        handler = new CountingHandler();
+        assertIndex(handler.handle(archive.getPath()), Foo.class, Bar.class, Baz.class);
+        assertEquals(3, handler.indexedClasses.get());
+    }
+
+    @Test
+    public void testCorruptedFileIgnored() throws IOException {
+        writeArchive(Foo.class);
+        new CountingHandler().handle(archive.getPath());
+        Files.write(cache.getFile(archive.getPath()), new byte[] { 0, 0, 0, 1, 0 });
+        CountingHandler handler = new CountingHandler();
+        assertIndex(handler.handle(archive.getPath()), Foo.class);
+        assertEquals(1, handler.indexedClasses.get());
+    }
+
+    @Test
+    public void testTemporaryFileDeletedIfStoreFails() throws IOException {
+        writeArchive(Foo.class);
+        // A non-empty directory cannot be replaced by the cache file
+        Files.createDirectories(cache.getFile(archive.getPath()).resolve("blocker"));
+        assertIndex(new CountingHandler().handle(archive.getPath()), Foo.class);
+        try (Stream<Path> files = Files.list(cache.getFile(archive.getPath()).getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    private void assertIndex(BeanArchiveBuilder builder, Class<?>... classes) {
+        assertNotNull(builder);
+        Index index = (Index) builder.getAttribute(Jandex.INDEX_ATTRIBUTE_NAME);
+        assertNotNull(index);
+        assertEquals(classes.length, builder.getClasses().size());
+        assertEquals(classes.length, index.getKnownClasses().size());
+        for (Class<?> clazz : classes) {
+            assertTrue(builder.getClasses().contains(clazz.getName()));
+            assertNotNull(index.getClassByName(DotName.createSimple(clazz.getName())));
+        }
+    }
+
+    private void writeArchive(Class<?>... classes) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive.toPath()))) {
+            for (Class<?> clazz : classes) {
+                String name = clazz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new ZipEntry(name));
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        }
+    }
+
+    private class CountingHandler extends JandexFileSystemBeanArchiveHandler {
+
+        private final AtomicInteger indexedClasses = new AtomicInteger();
+
+        CountingHandler() {
+            setIndexCache(cache);
+        }
+
+        @Override
+        protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
+            indexedClasses.incrementAndGet();
+            super.add(entry, builder);
+        }
+
+    }
+
+    @Dependent
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+
+    @Dependent
+    static class Baz {
+    }
+
+}
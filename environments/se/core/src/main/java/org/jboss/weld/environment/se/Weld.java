@@ -43,6 +43,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -78,9 +79,12 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.WeldDeployment;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryCache;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexIndexCache;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.ContainerLifecycleObserver.ContainerLifecycleObserverExtension;
 import org.jboss.weld.environment.se.contexts.ThreadScoped;
@@ -830,14 +834,47 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      * @see WeldContainer#shutdown()
      */
     public WeldContainer initialize() {
+        final WeldBootstrap bootstrap = new WeldBootstrap();
+        final Deployment deployment = prepareDeployment(bootstrap);
+
+        final String containerId = this.containerId != null ? this.containerId : UUID.randomUUID().toString();
+        bootstrap.startContainer(containerId, Environments.SE, deployment);
 
+        final WeldContainer weldContainer = WeldContainer.startInitialization(containerId, deployment, bootstrap);
+
+        try {
+            bootstrap.startInitialization();
+            bootstrap.deployBeans();
+            bootstrap.validateBeans();
+            bootstrap.endInitialization();
+            WeldContainer.endInitialization(weldContainer, isEnabled(SHUTDOWN_HOOK_SYSTEM_PROPERTY, true));
+            initializedContainers.put(containerId, weldContainer);
+        } catch (Throwable e) {
+            // Discard the container if a bootstrap problem occurs, e.g. validation error
+            WeldContainer.discard(weldContainer.getId());
+            throw e;
+        }
+        return weldContainer;
+    }
+
+    /**
+     * Performs all the steps of {@link #initialize()} which precede the start of the container, i.e. creates the deployment
+     * and registers the external configuration.
+     * <p>
+     * Subclasses may use this method to drive the bootstrap on their own, e.g. tools which only need the validated
+     * deployment and never start the application.
+     * </p>
+     *
+     * @param bootstrap
+     * @return the deployment
+     */
+    protected Deployment prepareDeployment(CDI11Bootstrap bootstrap) {
         // If also building a synthetic bean archive or the implicit scan is enabled, the check for beans.xml is not necessary
         if (!isSyntheticBeanArchiveRequired() && !isImplicitScanEnabled()
                 && resourceLoader.getResource(WeldDeployment.BEANS_XML) == null) {
             throw CommonLogger.LOG.missingBeansXml();
         }
 
-        final WeldBootstrap bootstrap = new WeldBootstrap();
         // load possible additional BDA
         parseAdditionalBeanDefiningAnnotations();
         final Deployment deployment = createDeployment(resourceLoader, bootstrap);
@@ -853,31 +890,15 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             String key = property.getKey();
             if (SHUTDOWN_HOOK_SYSTEM_PROPERTY.equals(key) || ARCHIVE_ISOLATION_SYSTEM_PROPERTY.equals(key)
                     || SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY.equals(key) || JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT.equals(key)
-                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)) {
+                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)
+                    || DiscoveryCache.DISCOVERY_CACHE_FILE.equals(key) || DiscoveryStrategy.PARALLEL_DISCOVERY.equals(key)
+                    || Jandex.INDEX_CACHE_DIRECTORY.equals(key)) {
                 continue;
             }
             configurationBuilder.add(key, property.getValue());
         }
         deployment.getServices().add(ExternalConfiguration.class, configurationBuilder.build());
-
-        final String containerId = this.containerId != null ? this.containerId : UUID.randomUUID().toString();
-        bootstrap.startContainer(containerId, Environments.SE, deployment);
-
-        final WeldContainer weldContainer = WeldContainer.startInitialization(containerId, deployment, bootstrap);
-
-        try {
-            bootstrap.startInitialization();
-            bootstrap.deployBeans();
-            bootstrap.validateBeans();
-            bootstrap.endInitialization();
-            WeldContainer.endInitialization(weldContainer, isEnabled(SHUTDOWN_HOOK_SYSTEM_PROPERTY, true));
-            initializedContainers.put(containerId, weldContainer);
-        } catch (Throwable e) {
-            // Discard the container if a bootstrap problem occurs, e.g. validation error
-            WeldContainer.discard(weldContainer.getId());
-            throw e;
-        }
-        return weldContainer;
+        return deployment;
     }
 
     /**
@@ -1028,6 +1049,16 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             if (isImplicitScanEnabled()) {
                 strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, emptyBeansXmlDiscoveryMode));
             }
+            strategy.setDiscoveryCache(DiscoveryCache.of(getPropertyValue(DiscoveryCache.DISCOVERY_CACHE_FILE,
+                    System.getProperty(DiscoveryCache.DISCOVERY_CACHE_FILE))));
+            if (isEnabled(DiscoveryStrategy.PARALLEL_DISCOVERY, false)) {
+                strategy.setExecutor(ForkJoinPool.commonPool());
+            }
+            final Object indexCacheDirectory = getPropertyValue(Jandex.INDEX_CACHE_DIRECTORY,
+                    System.getProperty(Jandex.INDEX_CACHE_DIRECTORY));
+            if (indexCacheDirectory != null && strategy instanceof JandexDiscoveryStrategy) {
+                ((JandexDiscoveryStrategy) strategy).setIndexCache(JandexIndexCache.of(indexCacheDirectory));
+            }
             beanDeploymentArchives.addAll(strategy.performDiscovery());
             ClassFileServices classFileServices = strategy.getClassFileServices();
             if (classFileServices != null) {
@@ -94,4 +94,11 @@ public interface WeldSELogger extends WeldEnvironmentLogger {
 
     @Message(id = 2019, value = "Failed to parse the following string as additional bean defining annotation: {0}. The exception was: {1}", format = Format.MESSAGE_FORMAT)
     IllegalArgumentException failedToLoadClass(String className, String exception);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 2020, value = "{0} proxy classes generated and written to {1}", format = Format.MESSAGE_FORMAT)
+    void proxyClassesGenerated(Object count, Object target);
+
+    @Message(id = 2021, value = "The target directory or JAR file for the generated proxy classes must be specified", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException proxyGeneratorTargetNotSpecified();
 }
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.conversation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.Conversation;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequest;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConversationExpirationTest {
+
+    private final Map<String, Object> session = new HashMap<>();
+
+    @Before
+    public void reset() {
+        Wizard.DESTROYED.clear();
+    }
+
+    @Test
+    public void testExpiredConversationDestroyedAtTheEndOfNextRequest() throws InterruptedException {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Wizard.class).initialize()) {
+            int[] active = new int[1];
+            String activeCid = request(container, null, conversation -> {
+                conversation.begin();
+                active[0] = container.select(Wizard.class).get().getId();
+            });
+            int[] expired = new int[1];
+            request(container, null, conversation -> {
+                conversation.begin();
+                conversation.setTimeout(1);
+                expired[0] = container.select(Wizard.class).get().getId();
+            });
+            Thread.sleep(50);
+            assertTrue(Wizard.DESTROYED.isEmpty());
+
+            // Any request within the session destroys the expired conversation
+            request(container, null, conversation -> {
+            });
+            assertTrue(Wizard.DESTROYED.contains(expired[0]));
+            assertFalse(Wizard.DESTROYED.contains(active[0]));
+
+            // The other conversation is not affected
+            request(container, activeCid, conversation -> {
+                assertEquals(active[0], container.select(Wizard.class).get().getId());
+            });
+            assertEquals(1, Wizard.DESTROYED.size());
+        }
+    }
+
+    @Test
+    public void testEndedConversationDestroyed() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Wizard.class).initialize()) {
+            int[] id = new int[1];
+            String cid = request(container, null, conversation -> {
+                conversation.begin();
+                id[0] = container.select(Wizard.class).get().getId();
+            });
+            request(container, cid, Conversation::end);
+            assertTrue(Wizard.DESTROYED.contains(id[0]));
+        }
+    }
+
+    @Test
+    public void testSweeperDestroysExpiredConversation() throws InterruptedException {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Wizard.class)
+                .property(ConfigurationKey.CONVERSATION_SWEEPER_INTERVAL.get(), 10L).initialize()) {
+            int[] id = new int[1];
+            request(container, null, conversation -> {
+                conversation.begin();
+                conversation.setTimeout(20);
+                id[0] = container.select(Wizard.class).get().getId();
+            });
+            // No other request is made
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (!Wizard.DESTROYED.contains(id[0]) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(Wizard.DESTROYED.contains(id[0]));
+        }
+    }
+
+    private String request(WeldContainer container, String cid, Consumer<Conversation> action) {
+        BoundRequestContext requestContext = container.select(BoundRequestContext.class).get();
+        BoundConversationContext conversationContext = container.select(BoundConversationContext.class).get();
+        Map<String, Object> requestMap = new HashMap<>();
+        BoundRequest request = new MutableBoundRequest(requestMap, session);
+        requestContext.associate(requestMap);
+        requestContext.activate();
+        conversationContext.associate(request);
+        conversationContext.activate(cid);
+        try {
+            Conversation conversation = container.select(Conversation.class).get();
+            action.accept(conversation);
+            return conversation.getId();
+        } finally {
+            conversationContext.invalidate();
+            conversationContext.deactivate();
+            conversationContext.dissociate(request);
+            requestContext.invalidate();
+            requestContext.deactivate();
+            requestContext.dissociate(requestMap);
+        }
+    }
+
+}
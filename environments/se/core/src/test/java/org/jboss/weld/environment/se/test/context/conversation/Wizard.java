@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.conversation;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ConversationScoped;
+
+@ConversationScoped
+public class Wizard implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    static final Set<Integer> DESTROYED = ConcurrentHashMap.newKeySet();
+
+    private final int id = SEQUENCE.incrementAndGet();
+
+    public int getId() {
+        return id;
+    }
+
+    @PreDestroy
+    void destroy() {
+        DESTROYED.add(id);
+    }
+
+}
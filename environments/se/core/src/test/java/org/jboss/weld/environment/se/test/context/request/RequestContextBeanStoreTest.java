@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import jakarta.enterprise.context.control.RequestContextController;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.AbstractUnboundContext;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+
+/**
+ * Tests that instances of request scoped beans are stored in the array of the {@link IndexedBeanStore}, even though the
+ * bean identifier index optimization is disabled in Weld SE.
+ */
+public class RequestContextBeanStoreTest {
+
+    @Test
+    public void testRequestScopedInstanceStoredInSlot() throws Exception {
+        try (WeldContainer container = new Weld().disableDiscovery().addBeanClass(Counter.class).initialize()) {
+            BeanManagerImpl manager = BeanManagerProxy.unwrap(container.getBeanManager());
+            CommonBean<?> bean = (CommonBean<?>) manager.resolve(manager.getBeans(Counter.class));
+            int slot = manager.getServices().get(BeanStoreIndex.class).getSlot(bean.getIdentifier());
+            assertTrue(slot >= 0);
+
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            controller.activate();
+            try {
+                assertEquals(1, container.select(Counter.class).get().increment());
+                RequestContext requestContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+                Method getBeanStore = AbstractUnboundContext.class.getDeclaredMethod("getBeanStore");
+                getBeanStore.setAccessible(true);
+                Object beanStore = getBeanStore.invoke(requestContext);
+                assertTrue(beanStore instanceof IndexedBeanStore);
+                Field instances = IndexedBeanStore.class.getDeclaredField("instances");
+                instances.setAccessible(true);
+                ContextualInstance<?> instance = ((ContextualInstance<?>[]) instances.get(beanStore))[slot];
+                assertNotNull(instance);
+                assertEquals(2, ((Counter) instance.getInstance()).increment());
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.executor.virtual;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.environment.se.test.executor.virtual.AsyncObserver.Ping;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.executor.VirtualThreadExecutorServices;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.junit.Test;
+
+public class VirtualThreadExecutorTest {
+
+    @Test
+    public void testAsyncEventDeliveredOnVirtualThread() throws Exception {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(AsyncObserver.class)
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), "VIRTUAL").initialize()) {
+            ExecutorServices executor = container.select(BeanManagerImpl.class).get().getServices()
+                    .get(ExecutorServices.class);
+            Ping ping = container.event().select(Ping.class).fireAsync(new Ping()).toCompletableFuture().get(5,
+                    TimeUnit.SECONDS);
+            if (VirtualThreadExecutorServices.isSupported()) {
+                assertTrue(executor.toString(), executor instanceof VirtualThreadExecutorServices);
+                assertTrue(ping.threadName, ping.threadName.startsWith("weld-vworker-"));
+            } else {
+                // Fallback on older JVMs
+                assertTrue(executor.toString(), executor instanceof FixedThreadPoolExecutorServices);
+                assertTrue(ping.threadName, ping.threadName.startsWith("weld-worker-"));
+            }
+        }
+    }
+
+}
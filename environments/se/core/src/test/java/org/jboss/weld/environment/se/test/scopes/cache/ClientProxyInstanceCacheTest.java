@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.scopes.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+/**
+ * Tests the client proxy fast path which returns the contextual instance cached by the
+ * {@link org.jboss.weld.bean.ContextualInstanceStrategy} of a bean.
+ */
+public class ClientProxyInstanceCacheTest {
+
+    @Test
+    public void testApplicationScopedInstanceCached() {
+        ApplicationCounter counter;
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(ApplicationCounter.class).initialize()) {
+            counter = container.select(ApplicationCounter.class).get();
+            int id = counter.getId();
+            assertEquals(id, counter.getId());
+            // The cached instance is flushed if the instance is destroyed
+            destroy(container.getBeanManager(), ApplicationScoped.class, ApplicationCounter.class);
+            assertNotEquals(id, counter.getId());
+        }
+        try {
+            counter.getId();
+            fail("The contextual reference must not be valid after shutdown");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testRequestScopedInstanceCached() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(RequestCounter.class).initialize()) {
+            RequestCounter counter = container.select(RequestCounter.class).get();
+            BoundRequestContext requestContext = container.select(BoundRequestContext.class).get();
+
+            int id;
+            Map<String, Object> storage = activate(requestContext);
+            try {
+                id = counter.getId();
+                assertEquals(id, counter.getId());
+                destroy(container.getBeanManager(), RequestScoped.class, RequestCounter.class);
+                int newId = counter.getId();
+                assertNotEquals(id, newId);
+                assertEquals(newId, counter.getId());
+                id = newId;
+            } finally {
+                deactivate(requestContext, storage);
+            }
+
+            // A new request must not see the instance cached during the previous one
+            storage = activate(requestContext);
+            try {
+                assertNotEquals(id, counter.getId());
+            } finally {
+                deactivate(requestContext, storage);
+            }
+        }
+    }
+
+    private static Map<String, Object> activate(BoundRequestContext requestContext) {
+        Map<String, Object> storage = new HashMap<>();
+        requestContext.associate(storage);
+        requestContext.activate();
+        return storage;
+    }
+
+    private static void deactivate(BoundRequestContext requestContext, Map<String, Object> storage) {
+        try {
+            requestContext.invalidate();
+            requestContext.deactivate();
+        } finally {
+            requestContext.dissociate(storage);
+        }
+    }
+
+    private static void destroy(BeanManager beanManager, Class<? extends Annotation> scope,
+            Class<?> beanClass) {
+        ((AlterableContext) beanManager.getContext(scope)).destroy(beanManager.resolve(beanManager.getBeans(beanClass)));
+    }
+
+}
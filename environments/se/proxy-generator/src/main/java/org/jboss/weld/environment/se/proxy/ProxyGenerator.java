@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.proxy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.api.Environments;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.logging.WeldSELogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.serialization.spi.ProxyServices;
+
+/**
+ * Generates the proxy classes of a Weld SE application ahead of time, i.e. client proxies, intercepted subclasses and
+ * decorator proxies.
+ * <p>
+ * The generator is configured the same way as {@link Weld}. Instead of {@link #initialize()}, {@link #generate()} boots the
+ * container up to the validation of the deployment, generates the proxy classes for all the beans and shuts the container
+ * down again. The container is never fully initialized - no startup events are fired and no bean instances are created.
+ * </p>
+ * <p>
+ * Weld always attempts to load a proxy class before generating it. Once the generated classes are packaged next to the
+ * application classes, a production container loads them instead of generating and defining new classes during bootstrap.
+ * Typically, the generator is run against the compiled classes before the application JAR is built:
+ * </p>
+ *
+ * <pre>
+ * java -cp weld-se-proxy-generator.jar:weld-se-shaded.jar:target/classes org.jboss.weld.environment.se.proxy.ProxyGenerator target/classes
+ * </pre>
+ *
+ * <p>
+ * If the target is an existing JAR file, the classes are added to the JAR.
+ * </p>
+ * <p>
+ * The names of some proxy classes, e.g. client proxies of beans whose types are interfaces only, are derived from the
+ * bean identifier. Such classes are only reused if the production container has the same container id and the same bean
+ * archives as the generator. Otherwise, Weld simply generates the missing classes at runtime as usual. If no container id
+ * is set, the generator uses {@link RegistrySingletonProvider#STATIC_INSTANCE}, the same id as
+ * {@link org.jboss.weld.environment.se.StartMain}.
+ * </p>
+ * <p>
+ * Pre-generated intercepted subclasses and decorator proxies are loaded without any verification. Their names do not depend
+ * on the interceptors and decorators bound to the bean, so the interceptor and decorator configuration of the production
+ * container must match the configuration used by the generator. Otherwise, the classes have to be generated again.
+ * </p>
+ * <p>
+ * The generated bytecode refers to Weld internals, e.g. fields and constants of the proxy implementation classes, which may
+ * change in any Weld release. The proxy classes must therefore be generated again after every Weld upgrade, using the
+ * same Weld version as the production container.
+ * </p>
+ *
+ * @see #containerId(String)
+ */
+@Vetoed
+public class ProxyGenerator extends Weld {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * The first argument is the target directory or JAR file, the second optional argument is the container id.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the generated classes cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw WeldSELogger.LOG.proxyGeneratorTargetNotSpecified();
+        }
+        ProxyGenerator generator = new ProxyGenerator();
+        if (args.length > 1) {
+            generator.containerId(args[1]);
+        }
+        Path target = Paths.get(args[0]);
+        Map<String, byte[]> classes = generator.generate();
+        write(classes, target);
+        WeldSELogger.LOG.proxyClassesGenerated(classes.size(), target);
+    }
+
+    public ProxyGenerator() {
+        super();
+    }
+
+    public ProxyGenerator(String containerId) {
+        super(containerId);
+    }
+
+    /**
+     * Boots the container up to the validation of the deployment and generates the proxy classes.
+     *
+     * @return the bytecode of the generated classes, keyed by the binary class name
+     */
+    public Map<String, byte[]> generate() {
+        final WeldBootstrap bootstrap = new WeldBootstrap();
+        final Deployment deployment = prepareDeployment(bootstrap);
+        final RecordingProxyServices proxyServices = new RecordingProxyServices();
+        deployment.getServices().add(ProxyServices.class, proxyServices);
+
+        final String containerId = getContainerId() != null ? getContainerId() : RegistrySingletonProvider.STATIC_INSTANCE;
+        bootstrap.startContainer(containerId, Environments.SE, deployment);
+        try {
+            bootstrap.startInitialization();
+            // Intercepted subclasses and decorator proxies are generated as soon as the injection targets are initialized
+            bootstrap.deployBeans();
+            bootstrap.validateBeans();
+            // Client proxies are generated lazily by default
+            for (BeanManagerImpl manager : Container.instance(containerId).beanDeploymentArchives().values()) {
+                for (Bean<?> bean : manager.getBeans()) {
+                    if (isClientProxyRequired(manager, bean)) {
+                        manager.getClientProxyProvider().getClientProxy(bean);
+                    }
+                }
+            }
+            return proxyServices.getBytecode();
+        } finally {
+            bootstrap.shutdown();
+        }
+    }
+
+    /**
+     * Writes the given classes to the target. If the target is an existing file, it is treated as a JAR file the classes are
+     * added to. Otherwise, the target is a directory which is created if needed. Existing class files are replaced.
+     *
+     * @param classes the bytecode keyed by the binary class name
+     * @param target the target directory or JAR file
+     * @throws IOException
+     */
+    public static void write(Map<String, byte[]> classes, Path target) throws IOException {
+        if (Files.isRegularFile(target)) {
+            try (FileSystem jar = FileSystems.newFileSystem(URI.create("jar:" + target.toUri()),
+                    Collections.<String, Object> emptyMap())) {
+                write(classes, jar.getPath("/"));
+            }
+            return;
+        }
+        for (Entry<String, byte[]> entry : classes.entrySet()) {
+            Path classFile = target.resolve(entry.getKey().replace('.', '/') + CLASS_FILE_SUFFIX);
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, entry.getValue());
+        }
+    }
+
+    private static boolean isClientProxyRequired(BeanManagerImpl manager, Bean<?> bean) {
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).isProxyRequired();
+        }
+        return manager.isNormalScope(bean.getScope());
+    }
+
+}
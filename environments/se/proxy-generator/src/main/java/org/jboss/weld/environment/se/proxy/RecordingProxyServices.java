@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.proxy;
+
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.bean.proxy.util.WeldDefaultProxyServices;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.serialization.spi.ProxyServices;
+
+/**
+ * Defines proxy classes through {@link WeldDefaultProxyServices} and keeps the bytecode of every class defined.
+ * <p>
+ * Unlike the default implementation, {@link #loadClass(Class, String)} only finds the classes defined by this instance.
+ * Proxy classes which already exist on the class path, e.g. generated by a previous run of the {@link ProxyGenerator}, are
+ * therefore always generated again.
+ * <p>
+ * Proxies of Weld's own beans, e.g. {@link jakarta.enterprise.event.Event}, are defined but not recorded. These classes
+ * belong to the Weld version used at runtime and should never be packaged with an application.
+ */
+class RecordingProxyServices implements ProxyServices {
+
+    private final WeldDefaultProxyServices delegate;
+
+    private final Set<String> weldCodeSources;
+
+    private final Map<String, Class<?>> classes;
+
+    private final Map<String, byte[]> bytecode;
+
+    RecordingProxyServices() {
+        this.delegate = new WeldDefaultProxyServices();
+        this.weldCodeSources = new HashSet<>();
+        this.weldCodeSources.add(getCodeSource(ProxyFactory.class));
+        this.weldCodeSources.add(getCodeSource(Weld.class));
+        this.classes = new ConcurrentHashMap<>();
+        this.bytecode = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Class<?> defineClass(Class<?> originalClass, String className, byte[] classBytes, int off, int len)
+            throws ClassFormatError {
+        return record(originalClass, className, delegate.defineClass(originalClass, className, classBytes, off, len),
+                classBytes, off, len);
+    }
+
+    @Override
+    public Class<?> defineClass(Class<?> originalClass, String className, byte[] classBytes, int off, int len,
+            ProtectionDomain protectionDomain) throws ClassFormatError {
+        return record(originalClass, className,
+                delegate.defineClass(originalClass, className, classBytes, off, len, protectionDomain),
+                classBytes, off, len);
+    }
+
+    @Override
+    public Class<?> loadClass(Class<?> originalClass, String classBinaryName) throws ClassNotFoundException {
+        Class<?> clazz = classes.get(classBinaryName);
+        if (clazz == null) {
+            throw new ClassNotFoundException(classBinaryName);
+        }
+        return clazz;
+    }
+
+    /**
+     *
+     * @return the bytecode of all the classes defined so far, sorted by class name
+     */
+    Map<String, byte[]> getBytecode() {
+        return new TreeMap<>(bytecode);
+    }
+
+    @Override
+    public void cleanup() {
+        delegate.cleanup();
+    }
+
+    private Class<?> record(Class<?> originalClass, String className, Class<?> clazz, byte[] classBytes, int off, int len) {
+        classes.put(className, clazz);
+        if (!className.startsWith(ProxyFactory.WELD_PROXY_PREFIX) && !weldCodeSources.contains(getCodeSource(originalClass))) {
+            bytecode.put(className, Arrays.copyOfRange(classBytes, off, off + len));
+        }
+        return clazz;
+    }
+
+    private static String getCodeSource(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        return codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toString() : null;
+    }
+
+}
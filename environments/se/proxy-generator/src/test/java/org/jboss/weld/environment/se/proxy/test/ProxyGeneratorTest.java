@@ -0,0 +1,214 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.proxy.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.bean.proxy.util.WeldDefaultProxyServices;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.environment.se.beans.ParametersFactory;
+import org.jboss.weld.environment.se.proxy.ProxyGenerator;
+import org.jboss.weld.serialization.spi.ProxyServices;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyGeneratorTest {
+
+    private static Map<String, byte[]> classes;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void generate() {
+        ProxyGenerator generator = new ProxyGenerator();
+        generator.disableDiscovery().addBeanClasses(DefaultGreeter.class, GreeterDecorator.class, Counter.class,
+                CountedInterceptor.class);
+        classes = generator.generate();
+    }
+
+    @Test
+    public void testProxyClassesGenerated() {
+        assertNotNull(getClassName(DefaultGreeter.class.getName(), "_$$_WeldClientProxy"));
+        assertNotNull(getClassName(Counter.class.getName(), "_$$_WeldSubclass"));
+        assertNotNull(getClassName(GreeterDecorator.class.getPackage().getName(), "_$$_WeldDecoratorProxy"));
+        // Dependent beans do not need a client proxy
+        assertNull(getClassName(Counter.class.getName(), "_$$_WeldClientProxy"));
+        // Proxies of built-in beans are never recorded
+        assertNull(getClassName(ProxyFactory.WELD_PROXY_PREFIX, ""));
+        assertNull(getClassName(ParametersFactory.class.getName(), ""));
+    }
+
+    @Test
+    public void testApplicationNotStarted() {
+        assertEquals(0, CountedInterceptor.COUNT.get());
+        assertTrue(WeldContainer.getRunningContainerIds().isEmpty());
+    }
+
+    @Test
+    public void testWriteToDirectory() throws IOException {
+        Path target = folder.newFolder().toPath();
+        ProxyGenerator.write(classes, target);
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            Path classFile = target.resolve(entry.getKey().replace('.', '/') + ".class");
+            assertTrue(Files.isRegularFile(classFile));
+            assertArrayEquals(entry.getValue(), Files.readAllBytes(classFile));
+        }
+    }
+
+    @Test
+    public void testWriteToJar() throws IOException {
+        File jar = folder.newFile("app.jar");
+        try (OutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()), new Manifest())) {
+            // Empty JAR with manifest only
+        }
+        ProxyGenerator.write(classes, jar.toPath());
+        try (JarFile jarFile = new JarFile(jar)) {
+            assertNotNull(jarFile.getManifest());
+            for (String className : classes.keySet()) {
+                ZipEntry entry = jarFile.getEntry(className.replace('.', '/') + ".class");
+                assertNotNull(className, entry);
+                assertEquals(classes.get(className).length, entry.getSize());
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedClassesLoadedAtRuntime() throws Exception {
+        Path target = folder.newFolder().toPath();
+        ProxyGenerator.write(classes, target);
+        URL testClasses = Counter.class.getProtectionDomain().getCodeSource().getLocation();
+        // The generator defined the proxy classes in the test class loader, the application needs a fresh one
+        try (URLClassLoader loader = new ApplicationClassLoader(testClasses, target.toUri().toURL())) {
+            DefiningProxyServices proxyServices = new DefiningProxyServices();
+            // The name of the decorator proxy is derived from the bean identifier, i.e. the container id must match
+            Weld weld = new Weld(RegistrySingletonProvider.STATIC_INSTANCE).disableDiscovery().setClassLoader(loader)
+                    .addServices(proxyServices);
+            for (Class<?> beanClass : new Class<?>[] { DefaultGreeter.class, GreeterDecorator.class, Counter.class,
+                    CountedInterceptor.class }) {
+                weld.addBeanClass(loader.loadClass(beanClass.getName()));
+            }
+            try (WeldContainer container = weld.initialize()) {
+                Object greeter = container.select(loader.loadClass(DefaultGreeter.class.getName())).get();
+                assertTrue(classes.containsKey(greeter.getClass().getName()));
+                assertEquals(loader, greeter.getClass().getClassLoader());
+                assertEquals("Hello Weld!", greeter.getClass().getMethod("greet", String.class).invoke(greeter, "Weld"));
+                Object counter = container.select(loader.loadClass(Counter.class.getName())).get();
+                assertTrue(classes.containsKey(counter.getClass().getName()));
+                assertEquals(loader, counter.getClass().getClassLoader());
+            }
+            for (String className : proxyServices.defined) {
+                assertFalse(className, className.startsWith(Counter.class.getPackage().getName()));
+            }
+        }
+    }
+
+    private static String getClassName(String prefix, String suffix) {
+        return classes.keySet().stream().filter(name -> name.startsWith(prefix) && name.endsWith(suffix)).findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Loads the classes of the test package itself, so that the proxy classes are looked up on its class path.
+     */
+    private static class ApplicationClassLoader extends URLClassLoader {
+
+        private static final String PACKAGE_PREFIX = Counter.class.getPackage().getName() + ".";
+
+        ApplicationClassLoader(URL... urls) {
+            super(urls, ApplicationClassLoader.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PACKAGE_PREFIX)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    clazz = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+    }
+
+    /**
+     * Records the names of the proxy classes generated at runtime.
+     */
+    private static class DefiningProxyServices implements ProxyServices {
+
+        private final WeldDefaultProxyServices delegate = new WeldDefaultProxyServices();
+
+        private final Set<String> defined = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Class<?> defineClass(Class<?> originalClass, String className, byte[] classBytes, int off, int len)
+                throws ClassFormatError {
+            defined.add(className);
+            return delegate.defineClass(originalClass, className, classBytes, off, len);
+        }
+
+        @Override
+        public Class<?> defineClass(Class<?> originalClass, String className, byte[] classBytes, int off, int len,
+                ProtectionDomain protectionDomain) throws ClassFormatError {
+            defined.add(className);
+            return delegate.defineClass(originalClass, className, classBytes, off, len, protectionDomain);
+        }
+
+        @Override
+        public Class<?> loadClass(Class<?> originalClass, String classBinaryName) throws ClassNotFoundException {
+            return delegate.loadClass(originalClass, classBinaryName);
+        }
+
+        @Override
+        public void cleanup() {
+            delegate.cleanup();
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
@@ -50,9 +51,12 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.WeldDeployment;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveHandler;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryCache;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexIndexCache;
 import org.jboss.weld.environment.jetty.JettyContainer;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.servlet.deployment.ServletContextBeanArchiveHandler;
@@ -296,6 +300,14 @@ public class WeldServletLifecycle {
                 typeDiscoveryConfiguration.getKnownBeanDefiningAnnotations(),
                 Boolean.parseBoolean(context.getInitParameter(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY)),
                 emptyBeansXmlDiscoveryMode);
+        strategy.setDiscoveryCache(DiscoveryCache.of(context.getInitParameter(DiscoveryCache.DISCOVERY_CACHE_FILE)));
+        if (Boolean.parseBoolean(context.getInitParameter(DiscoveryStrategy.PARALLEL_DISCOVERY))) {
+            strategy.setExecutor(ForkJoinPool.commonPool());
+        }
+        final String indexCacheDirectory = context.getInitParameter(Jandex.INDEX_CACHE_DIRECTORY);
+        if (indexCacheDirectory != null && strategy instanceof JandexDiscoveryStrategy) {
+            ((JandexDiscoveryStrategy) strategy).setIndexCache(JandexIndexCache.of(indexCacheDirectory));
+        }
 
         if (Jandex.isJandexAvailable(resourceLoader)) {
             try {
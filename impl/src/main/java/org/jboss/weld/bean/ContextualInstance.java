@@ -72,6 +72,17 @@ public final class ContextualInstance {
         return bean.getContextualInstanceStrategy().getIfExists(bean, manager);
     }
 
+    /**
+     * Unlike {@link #getIfExists(RIBean, BeanManagerImpl)}, this method never looks up the context and is therefore only
+     * suitable as a fast path.
+     *
+     * @param bean the given bean
+     * @return the contextual instance cached by the {@link ContextualInstanceStrategy} of the given bean or null
+     */
+    public static <T> T getIfCached(RIBean<T> bean) {
+        return bean.getContextualInstanceStrategy().getIfCached();
+    }
+
     private static <T> ContextualInstanceStrategy<T> getStrategy(Bean<T> bean) {
         if (bean instanceof RIBean<?>) {
             return ((RIBean<T>) bean).getContextualInstanceStrategy();
@@ -33,6 +33,7 @@ import jakarta.enterprise.inject.spi.BeanAttributes;
 import jakarta.inject.Singleton;
 
 import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.contexts.cache.RequestScopedInstanceSlots;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.Reflections;
@@ -53,7 +54,8 @@ import org.jboss.weld.util.reflection.Reflections;
  *
  * For {@link SessionScoped}, {@link ConversationScoped} and {@link RequestScoped} beans a special strategy is used which caches
  * contextual bean instances in
- * a {@link ThreadLocal}. This implementation respects the possibility of an instance being destroyed via
+ * a per-thread slot array, see {@link RequestScopedInstanceSlots}. This implementation respects the possibility of an instance
+ * being destroyed via
  * {@link AlterableContext} and the cached instance is
  * flushed in such case. This is done indirectly by {@link RequestScopedCache}.
  *
@@ -72,7 +74,8 @@ public abstract class ContextualInstanceStrategy<T> {
         if (ApplicationScoped.class == bean.getScope() || Singleton.class == bean.getScope()) {
             return new ApplicationScopedContextualInstanceStrategy<T>();
         } else if (CachingContextualInstanceStrategy.CACHEABLE_SCOPES.contains(bean.getScope())) {
-            return new CachingContextualInstanceStrategy<T>();
+            RequestScopedInstanceSlots slots = manager.getServices().get(RequestScopedInstanceSlots.class);
+            return slots != null ? new CachingContextualInstanceStrategy<T>(slots) : defaultStrategy();
         }
         return defaultStrategy();
     }
@@ -86,6 +89,15 @@ public abstract class ContextualInstanceStrategy<T> {
 
     abstract void destroy(Bean<T> bean);
 
+    /**
+     * Unlike {@link #getIfExists(Bean, BeanManagerImpl)}, this method never looks up the context.
+     *
+     * @return the cached contextual instance or <code>null</code> if no instance is cached
+     */
+    T getIfCached() {
+        return null;
+    }
+
     private static class DefaultContextualInstanceStrategy<T> extends ContextualInstanceStrategy<T> {
 
         static final ContextualInstanceStrategy<Object> INSTANCE = new DefaultContextualInstanceStrategy<Object>();
@@ -161,6 +173,11 @@ public abstract class ContextualInstanceStrategy<T> {
         void destroy(Bean<T> bean) {
             value = null;
         }
+
+        @Override
+        T getIfCached() {
+            return value;
+        }
     }
 
     private static class CachingContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T> {
@@ -168,32 +185,43 @@ public abstract class ContextualInstanceStrategy<T> {
         private static final Set<Class<? extends Annotation>> CACHEABLE_SCOPES = ImmutableSet.of(RequestScoped.class,
                 ConversationScoped.class,
                 SessionScoped.class);
-        private final ThreadLocal<T> cache = new ThreadLocal<T>();
+
+        private final RequestScopedInstanceSlots slots;
+
+        private final int slot;
+
+        CachingContextualInstanceStrategy(RequestScopedInstanceSlots slots) {
+            this.slots = slots;
+            this.slot = slots.nextSlot();
+        }
 
         @Override
         T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
-            T cached = cache.get();
+            T cached = getIfCached();
             if (cached != null) {
                 return cached;
             }
             cached = super.getIfExists(bean, manager);
-            if (cached != null && RequestScopedCache.addItemIfActive(cache)) {
-                cache.set(cached);
+            if (cached != null) {
+                slots.put(slot, cached);
             }
             return cached;
         }
 
         @Override
         T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx) {
-            T cached = cache.get();
+            T cached = getIfCached();
             if (cached != null) {
                 return cached;
             }
             cached = super.get(bean, manager, ctx);
-            if (RequestScopedCache.addItemIfActive(cache)) {
-                cache.set(cached);
-            }
+            slots.put(slot, cached);
             return cached;
         }
+
+        @Override
+        T getIfCached() {
+            return Reflections.cast(slots.get(slot));
+        }
     }
 }
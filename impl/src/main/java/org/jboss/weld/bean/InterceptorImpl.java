@@ -69,8 +69,8 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
     private InterceptorClassMetadata<T> initInterceptorMetadata() {
         CdiInterceptorFactory<T> reference = new CdiInterceptorFactory<T>(this);
         return new InterceptorMetadataImpl<T>((Class<T>) getBeanClass(), reference,
-                InterceptorMetadataUtils.buildMethodMap(getEnhancedAnnotated(), false,
-                        getBeanManager()));
+                InterceptorMetadataUtils.buildMethodMap(getEnhancedAnnotated(), false, getBeanManager()),
+                InterceptorMetadataUtils.isMethodHandleInvocationEnabled(getBeanManager()));
     }
 
     @Override
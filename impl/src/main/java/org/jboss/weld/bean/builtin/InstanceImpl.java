@@ -162,7 +162,43 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
         return (WeldInstance<X>) selectInstance(subtype, qualifiers);
     }
 
-    private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+    /**
+     * Unlike {@link #select(Class, Annotation...)}, the returned selector performs the selection and the typesafe resolution
+     * only once and may be reused.
+     *
+     * @param subtype the required type
+     * @param qualifiers the additional required qualifiers
+     * @return a new selector
+     * @see InstanceSelector
+     */
+    public <U extends T> InstanceSelector<U> selector(Type subtype, Annotation... qualifiers) {
+        return new Selector<U>(subtype, qualifiers);
+    }
+
+    /**
+     * Used by {@link InstanceSelector#of(Instance, Class, Annotation...)}.
+     */
+    static <T, U extends T> InstanceSelector<U> createSelector(Instance<T> instance, Type subtype, Annotation[] qualifiers,
+            Supplier<Instance<U>> selection) {
+        if (instance instanceof InstanceImpl<?>) {
+            return Reflections.<InstanceImpl<T>> cast(instance).selector(subtype, qualifiers);
+        }
+        // E.g. a decorated Instance - the selection cannot be reused
+        return new InstanceSelector<U>() {
+
+            @Override
+            public U get() {
+                return selection.get().get();
+            }
+
+            @Override
+            public boolean isResolvable() {
+                return selection.get().isResolvable();
+            }
+        };
+    }
+
+    private <U extends T> InstanceImpl<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
         InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Instance.class,
                 subtype, getQualifiers(),
                 newQualifiers);
@@ -355,6 +391,55 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
 
     }
 
+    private class Selector<U extends T> implements InstanceSelector<U> {
+
+        private final Type subtype;
+        private final Annotation[] qualifiers;
+        private volatile Selection<U> selection;
+
+        private Selector(Type subtype, Annotation[] qualifiers) {
+            this.subtype = subtype;
+            this.qualifiers = qualifiers.clone();
+        }
+
+        @Override
+        public U get() {
+            return select().get();
+        }
+
+        @Override
+        public boolean isResolvable() {
+            return select().isResolvable();
+        }
+
+        private InstanceImpl<U> select() {
+            // Read the generation first so that a concurrent clear always results in a new selection
+            int generation = getBeanManager().getBeanResolver().getGeneration();
+            Selection<U> current = selection;
+            if (current == null || current.generation != generation) {
+                current = new Selection<U>(selectInstance(subtype, qualifiers), generation);
+                selection = current;
+            }
+            return current.instance;
+        }
+
+        @Override
+        public String toString() {
+            return "Selector for " + select();
+        }
+    }
+
+    private static class Selection<U> {
+
+        private final InstanceImpl<U> instance;
+        private final int generation;
+
+        private Selection(InstanceImpl<U> instance, int generation) {
+            this.instance = instance;
+            this.generation = generation;
+        }
+    }
+
     private static class HandlerImpl<T> implements Handler<T> {
 
         private final LazyValueHolder<T> value;
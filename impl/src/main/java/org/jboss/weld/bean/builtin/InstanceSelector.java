@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.builtin;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.TypeLiteral;
+
+/**
+ * A reusable, thread-safe lookup of a required type and required qualifiers, obtained from an {@link Instance}. Unlike
+ * <code>instance.select(type, qualifiers).get()</code>, the selection and the typesafe resolution are only performed once,
+ * so a selector may be held in a field and {@link #get()} called repeatedly:
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Any
+ * Instance&lt;Plugin&gt; plugins;
+ *
+ * InstanceSelector&lt;Plugin&gt; selector = InstanceSelector.of(plugins, Plugin.class, new TenantLiteral(tenant));
+ * selector.get().execute();
+ * </pre>
+ *
+ * The resolution is discarded if the container clears its resolvers, e.g. during bootstrap. As with {@link Instance#get()},
+ * each call to {@link #get()} creates a new instance of a {@link jakarta.enterprise.context.Dependent} bean which is
+ * destroyed together with the underlying {@link Instance}.
+ *
+ * @param <T> the required type
+ */
+public interface InstanceSelector<T> extends Supplier<T> {
+
+    /**
+     *
+     * @param instance the instance to select from
+     * @param subtype the required type
+     * @param qualifiers the additional required qualifiers
+     * @return a new selector
+     * @see Instance#select(Class, Annotation...)
+     */
+    static <T, U extends T> InstanceSelector<U> of(Instance<T> instance, Class<U> subtype, Annotation... qualifiers) {
+        return InstanceImpl.createSelector(instance, subtype, qualifiers, () -> instance.select(subtype, qualifiers));
+    }
+
+    /**
+     *
+     * @param instance the instance to select from
+     * @param subtype the required type
+     * @param qualifiers the additional required qualifiers
+     * @return a new selector
+     * @see Instance#select(TypeLiteral, Annotation...)
+     */
+    static <T, U extends T> InstanceSelector<U> of(Instance<T> instance, TypeLiteral<U> subtype, Annotation... qualifiers) {
+        return InstanceImpl.createSelector(instance, subtype.getType(), qualifiers, () -> instance.select(subtype, qualifiers));
+    }
+
+    /**
+     *
+     * @return the contextual reference of the resolved bean
+     * @throws jakarta.enterprise.inject.UnsatisfiedResolutionException if there is no bean that matches
+     * @throws jakarta.enterprise.inject.AmbiguousResolutionException if there is more than one bean that matches
+     * @see Instance#get()
+     */
+    @Override
+    T get();
+
+    /**
+     *
+     * @return <code>true</code> if there is exactly one bean that matches
+     * @see Instance#isResolvable()
+     */
+    boolean isResolvable();
+
+}
@@ -68,10 +68,18 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     private static final String BEAN_ID_FIELD = "BEAN_ID_FIELD";
     private static final String CONTEXT_ID_FIELD = "CONTEXT_ID_FIELD";
 
+    /**
+     * If set, the generated forwarding methods obtain the bean instance from this field directly instead of going through
+     * the {@link ProxyMethodHandler}. The field is set before the proxy is published and so it does not need to be
+     * volatile.
+     */
+    private static final String BEAN_INSTANCE_FIELD = "BEAN_INSTANCE_FIELD";
+
     private final BeanIdentifier beanId;
 
     private volatile Field beanIdField;
     private volatile Field contextIdField;
+    private volatile Field beanInstanceField;
 
     public ClientProxyFactory(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean) {
         super(contextId, proxiedBeanType, typeClosure, bean);
@@ -92,8 +100,16 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
                 Reflections.ensureAccessible(f);
                 contextIdField = f;
             }
+            if (beanInstanceField == null) {
+                final Field f = instance.getClass().getDeclaredField(BEAN_INSTANCE_FIELD);
+                Reflections.ensureAccessible(f);
+                beanInstanceField = f;
+            }
             beanIdField.set(instance, beanId);
             contextIdField.set(instance, getContextId());
+            if (beanInstance instanceof ContextBeanInstance<?>) {
+                beanInstanceField.set(instance, beanInstance);
+            }
             return instance;
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
@@ -139,6 +155,7 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         super.addFields(proxyClassType, initialValueBytecode);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, BEAN_ID_FIELD, BeanIdentifier.class);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, CONTEXT_ID_FIELD, String.class);
+        proxyClassType.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT, BEAN_INSTANCE_FIELD, ContextBeanInstance.class);
     }
 
     @Override
@@ -244,11 +261,27 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         }.runStartIfNotEmpty();
     }
 
+    /**
+     * The corresponding java code: <code>
+     * ContextBeanInstance beanInstance = this.BEAN_INSTANCE_FIELD;
+     * (beanInstance != null ? beanInstance.getInstance() : this.methodHandler.getInstance())
+     * </code>
+     */
     private void loadBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
+        b.aload(0);
+        b.getfield(file.getName(), BEAN_INSTANCE_FIELD, ContextBeanInstance.class);
+        b.dup();
+        final BranchEnd methodHandlerLookup = b.ifnull();
+        // fast path - the contextual instance may be cached, see ContextualInstanceStrategy
+        b.invokevirtual(ContextBeanInstance.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        final BranchEnd end = b.gotoInstruction();
+        b.branchEnd(methodHandlerLookup);
+        b.pop();
         b.aload(0);
         getMethodHandlerField(file, b);
         // lets invoke the method
         b.invokevirtual(ProxyMethodHandler.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        b.branchEnd(end);
         b.checkcast(methodInfo.getDeclaringClass());
     }
 
@@ -26,7 +26,9 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.bean.ContextualInstance;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.contexts.CreationalContextImpl;
 import org.jboss.weld.contexts.WeldCreationalContext;
 import org.jboss.weld.injection.CurrentInjectionPoint;
@@ -60,6 +62,9 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     private final transient Class<?> instanceType;
     private final transient BeanManagerImpl manager;
     private final transient CurrentInjectionPoint currentInjectionPoint;
+    private final transient Container container;
+    // Non-null if the contextual instance may be cached by the ContextualInstanceStrategy of the bean
+    private final transient RIBean<T> cachingBean;
 
     private static final ThreadLocal<WeldCreationalContext<?>> currentCreationalContext = new ThreadLocal<WeldCreationalContext<?>>();
 
@@ -75,11 +80,20 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
         this.contextId = contextId;
         this.instanceType = computeInstanceType(bean);
         BeanLogger.LOG.createdContextInstance(bean, id);
-        this.manager = Container.instance(contextId).deploymentManager();
+        this.container = Container.instance(contextId);
+        this.manager = container.deploymentManager();
+        this.cachingBean = bean instanceof RIBean<?> ? cast(bean) : null;
         this.currentInjectionPoint = manager.getServices().get(CurrentInjectionPoint.class);
     }
 
     public T getInstance() {
+        if (cachingBean != null && container.getState() != ContainerState.SHUTDOWN) {
+            // Fast path - skip the context lookup if the instance is cached
+            T cachedInstance = ContextualInstance.getIfCached(cachingBean);
+            if (cachedInstance != null) {
+                return cachedInstance;
+            }
+        }
         if (!Container.isSet(contextId)) {
             throw ContextLogger.LOG.contextualReferenceNotValidAfterShutdown(bean, contextId);
         }
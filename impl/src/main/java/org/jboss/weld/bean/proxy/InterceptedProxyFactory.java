@@ -17,7 +17,6 @@
 package org.jboss.weld.bean.proxy;
 
 import static org.jboss.classfilewriter.util.DescriptorUtils.isPrimitive;
-import static org.jboss.classfilewriter.util.DescriptorUtils.isWide;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -189,27 +188,7 @@ public class InterceptedProxyFactory<T> extends ProxyFactory<T> {
                 methodInfo.getParameterTypes(), staticConstructor);
         b.aconstNull();
 
-        b.iconst(method.getParameterCount());
-        b.anewarray(JAVA_LANG_OBJECT);
-
-        int localVariableCount = 1;
-
-        for (int i = 0; i < method.getParameterCount(); ++i) {
-            String typeString = methodInfo.getParameterTypes()[i];
-            b.dup(); // duplicate the array reference
-            b.iconst(i);
-            // load the parameter value
-            BytecodeUtils.addLoadInstruction(b, typeString, localVariableCount);
-            // box the parameter if necessary
-            Boxing.boxIfNessesary(b, typeString);
-            // and store it in the array
-            b.aastore();
-            if (isWide(typeString)) {
-                localVariableCount = localVariableCount + 2;
-            } else {
-                localVariableCount++;
-            }
-        }
+        BytecodeUtils.pushParameterArray(b, methodInfo.getParameterTypes());
 
         b.invokeinterface(MethodHandler.class.getName(), INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT,
                 new String[] { LJAVA_LANG_OBJECT, LJAVA_LANG_REFLECT_METHOD, LJAVA_LANG_REFLECT_METHOD,
@@ -242,25 +221,7 @@ public class InterceptedProxyFactory<T> extends ProxyFactory<T> {
                 methodInfo.getParameterTypes(), staticConstructor);
         b.dup();
         // Params
-        b.iconst(method.getParameterCount());
-        b.anewarray(JAVA_LANG_OBJECT);
-        int localVariableCount = 1;
-        for (int i = 0; i < method.getParameterCount(); ++i) {
-            String typeString = methodInfo.getParameterTypes()[i];
-            b.dup(); // duplicate the array reference
-            b.iconst(i);
-            // load the parameter value
-            BytecodeUtils.addLoadInstruction(b, typeString, localVariableCount);
-            // box the parameter if necessary
-            Boxing.boxIfNessesary(b, typeString);
-            // and store it in the array
-            b.aastore();
-            if (isWide(typeString)) {
-                localVariableCount = localVariableCount + 2;
-            } else {
-                localVariableCount++;
-            }
-        }
+        BytecodeUtils.pushParameterArray(b, methodInfo.getParameterTypes());
 
         b.invokeinterface(StackAwareMethodHandler.class.getName(), INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT,
                 InterceptedSubclassFactory.INVOKE_METHOD_PARAMETERS);
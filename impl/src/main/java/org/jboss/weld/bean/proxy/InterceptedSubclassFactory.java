@@ -18,7 +18,6 @@
 package org.jboss.weld.bean.proxy;
 
 import static org.jboss.classfilewriter.util.DescriptorUtils.isPrimitive;
-import static org.jboss.classfilewriter.util.DescriptorUtils.isWide;
 import static org.jboss.classfilewriter.util.DescriptorUtils.makeDescriptor;
 
 import java.lang.reflect.Field;
@@ -236,6 +235,8 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
                             } else {
                                 // this method is not intercepted
                                 // we still need to override and push InterceptionDecorationContext stack to prevent full interception
+                                // the thread-local lookup cannot be skipped even though the method has no interceptors - the pushed
+                                // handler is what suppresses the interception of self-invocations made by this method
                                 ClassMethod classMethod = proxyClassType.addMethod(method);
                                 new RunWithinInterceptionDecorationContextGenerator(classMethod, this) {
 
@@ -494,27 +495,7 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
             b.aconstNull();
         }
 
-        b.iconst(methodInfo.getParameterTypes().length);
-        b.anewarray(Object.class.getName());
-
-        int localVariableCount = 1;
-
-        for (int i = 0; i < methodInfo.getParameterTypes().length; ++i) {
-            String typeString = methodInfo.getParameterTypes()[i];
-            b.dup(); // duplicate the array reference
-            b.iconst(i);
-            // load the parameter value
-            BytecodeUtils.addLoadInstruction(b, typeString, localVariableCount);
-            // box the parameter if necessary
-            Boxing.boxIfNessesary(b, typeString);
-            // and store it in the array
-            b.aastore();
-            if (isWide(typeString)) {
-                localVariableCount = localVariableCount + 2;
-            } else {
-                localVariableCount++;
-            }
-        }
+        BytecodeUtils.pushParameterArray(b, methodInfo.getParameterTypes());
         // now we have all our arguments on the stack
         // lets invoke the method
         b.invokeinterface(StackAwareMethodHandler.class.getName(), INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT,
@@ -619,25 +600,7 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         // 4. No proceed method
         b.aconstNull();
         // 5. Load method params
-        b.iconst(methodInfo.getParameterTypes().length);
-        b.anewarray(Object.class.getName());
-        int localVariableCount = 1;
-        for (int i = 0; i < methodInfo.getParameterTypes().length; ++i) {
-            String typeString = methodInfo.getParameterTypes()[i];
-            b.dup(); // duplicate the array reference
-            b.iconst(i);
-            // load the parameter value
-            BytecodeUtils.addLoadInstruction(b, typeString, localVariableCount);
-            // box the parameter if necessary
-            Boxing.boxIfNessesary(b, typeString);
-            // and store it in the array
-            b.aastore();
-            if (isWide(typeString)) {
-                localVariableCount = localVariableCount + 2;
-            } else {
-                localVariableCount++;
-            }
-        }
+        BytecodeUtils.pushParameterArray(b, methodInfo.getParameterTypes());
         // Invoke PrivateMethodHandler
         b.invokeinterface(MethodHandler.class.getName(), INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT,
                 new String[] { LJAVA_LANG_OBJECT, LJAVA_LANG_REFLECT_METHOD, LJAVA_LANG_REFLECT_METHOD,
@@ -20,6 +20,7 @@ package org.jboss.weld.bean.proxy;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
 
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.contexts.cache.RequestScopedItem;
@@ -43,13 +44,16 @@ public class InterceptionDecorationContext {
 
     public static class Stack implements RequestScopedItem {
         private boolean removeWhenEmpty;
-        private final Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
+        // The top of the stack is held separately so that the deque is only allocated for nested interception contexts
+        private CombinedInterceptorAndDecoratorStackMethodHandler top;
+        private Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
         private final ThreadLocal<Stack> interceptionContexts;
+        private final Thread thread;
         private boolean valid;
 
         private Stack(ThreadLocal<Stack> interceptionContexts) {
             this.interceptionContexts = interceptionContexts;
-            this.elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
+            this.thread = Thread.currentThread();
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
              * if RequestScopedCache is active we register the thread-local for removal at the end of the
@@ -71,7 +75,7 @@ public class InterceptionDecorationContext {
          */
         public boolean startIfNotOnTop(CombinedInterceptorAndDecoratorStackMethodHandler context) {
             checkState();
-            if (elements.isEmpty() || peek() != context) {
+            if (top != context) {
                 push(context);
                 return true;
             }
@@ -84,19 +88,29 @@ public class InterceptionDecorationContext {
 
         private void push(CombinedInterceptorAndDecoratorStackMethodHandler item) {
             checkState();
-            elements.addFirst(item);
+            if (top != null) {
+                if (elements == null) {
+                    elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
+                }
+                elements.addFirst(top);
+            }
+            top = item;
         }
 
         public CombinedInterceptorAndDecoratorStackMethodHandler peek() {
             checkState();
-            return elements.peekFirst();
+            return top;
         }
 
         private CombinedInterceptorAndDecoratorStackMethodHandler pop() {
             checkState();
-            CombinedInterceptorAndDecoratorStackMethodHandler top = elements.removeFirst();
+            CombinedInterceptorAndDecoratorStackMethodHandler result = top;
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            top = (elements != null) ? elements.pollFirst() : null;
             removeIfEmpty();
-            return top;
+            return result;
         }
 
         private void checkState() {
@@ -120,19 +134,33 @@ public class InterceptionDecorationContext {
         }
 
         private void removeIfEmpty() {
-            if (removeWhenEmpty && elements.isEmpty()) {
+            if (removeWhenEmpty && top == null) {
                 interceptionContexts.remove();
                 valid = false;
             }
         }
 
         public int size() {
-            return elements.size();
+            if (top == null) {
+                return 0;
+            }
+            return (elements != null) ? elements.size() + 1 : 1;
         }
 
         @Override
         public String toString() {
-            return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + elements + "]";
+            StringBuilder builder = new StringBuilder("[");
+            if (top != null) {
+                builder.append(top);
+                if (elements != null) {
+                    for (CombinedInterceptorAndDecoratorStackMethodHandler element : elements) {
+                        builder.append(", ");
+                        builder.append(element);
+                    }
+                }
+            }
+            builder.append("]");
+            return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + builder + "]";
         }
 
     }
@@ -188,7 +216,7 @@ public class InterceptionDecorationContext {
      */
     public static Stack startIfNotEmpty() {
         Stack stack = getStack();
-        if (!stack.elements.isEmpty()) {
+        if (stack.top != null) {
             stack.push(CombinedInterceptorAndDecoratorStackMethodHandler.NULL_INSTANCE);
             return stack;
         } else {
@@ -214,6 +242,25 @@ public class InterceptionDecorationContext {
         return null;
     }
 
+    /**
+     * Same as {@link #startIfNotOnTop(CombinedInterceptorAndDecoratorStackMethodHandler)} but the given stack is used
+     * instead of looking up the current one, provided it's still valid and belongs to the current thread. This allows
+     * callers which already obtained the stack to skip the thread-local lookup.
+     *
+     * @param stack the stack obtained previously, may be null
+     * @param context the given context
+     * @return the stack if the given context was pushed to the top of the stack, null otherwise
+     */
+    public static Stack startIfNotOnTop(Stack stack, CombinedInterceptorAndDecoratorStackMethodHandler context) {
+        if (stack == null || !stack.valid || stack.thread != Thread.currentThread()) {
+            return startIfNotOnTop(context);
+        }
+        if (stack.startIfNotOnTop(context)) {
+            return stack;
+        }
+        return null;
+    }
+
     /**
      * Gets the current Stack. If the stack is not set, a new empty instance is created and set.
      *
@@ -248,7 +295,7 @@ public class InterceptionDecorationContext {
         if (stack == null) {
             return true;
         } else {
-            return stack.elements.isEmpty();
+            return stack.top == null;
         }
     }
 }
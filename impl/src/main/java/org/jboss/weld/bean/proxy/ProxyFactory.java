@@ -18,7 +18,6 @@
 package org.jboss.weld.bean.proxy;
 
 import static org.jboss.classfilewriter.util.DescriptorUtils.isPrimitive;
-import static org.jboss.classfilewriter.util.DescriptorUtils.isWide;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.io.File;
@@ -61,6 +60,7 @@ import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.interceptor.proxy.LifecycleMixin;
 import org.jboss.weld.interceptor.util.proxy.TargetInstanceProxy;
 import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.metrics.ContainerMetrics;
 import org.jboss.weld.proxy.WeldConstruct;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
@@ -94,6 +94,8 @@ public class ProxyFactory<T> {
     public static final String WELD_PROXY_PREFIX = "org.jboss.weld.generated.proxies";
     public static final String DEFAULT_PROXY_PACKAGE = WELD_PROXY_PREFIX + ".default";
     public static final String CONSTRUCTED_FLAG_NAME = "constructed";
+    // passed by generated proxies to the method handler for methods without parameters, must be in an exported package
+    public static final Object[] EMPTY_PARAMETERS = new Object[0];
     protected static final BytecodeMethodResolver DEFAULT_METHOD_RESOLVER = new DefaultBytecodeMethodResolver();
     protected static final String LJAVA_LANG_REFLECT_METHOD = "Ljava/lang/reflect/Method;";
     protected static final String LJAVA_LANG_BYTE = "Ljava/lang/Byte;";
@@ -413,7 +415,12 @@ public class ProxyFactory<T> {
         } catch (ClassNotFoundException e) {
             // Create the proxy class for this instance
             try {
+                ContainerMetrics metrics = ContainerMetrics.getActive(Container.instance(contextId).services());
+                long start = metrics != null ? System.nanoTime() : 0L;
                 proxyClass = createProxyClass(originalClass, proxyClassName);
+                if (metrics != null) {
+                    metrics.proxyClassGenerated(proxyClassName, System.nanoTime() - start);
+                }
             } catch (Throwable e1) {
                 //attempt to load the class again, just in case another thread
                 //defined it between the check and the create method
@@ -800,27 +807,7 @@ public class ProxyFactory<T> {
                 method.getParameterTypes(), staticConstructor);
         b.aconstNull();
 
-        b.iconst(method.getParameterTypes().length);
-        b.anewarray("java.lang.Object");
-
-        int localVariableCount = 1;
-
-        for (int i = 0; i < method.getParameterTypes().length; ++i) {
-            String typeString = method.getParameterTypes()[i];
-            b.dup(); // duplicate the array reference
-            b.iconst(i);
-            // load the parameter value
-            BytecodeUtils.addLoadInstruction(b, typeString, localVariableCount);
-            // box the parameter if necessary
-            Boxing.boxIfNessesary(b, typeString);
-            // and store it in the array
-            b.aastore();
-            if (isWide(typeString)) {
-                localVariableCount = localVariableCount + 2;
-            } else {
-                localVariableCount++;
-            }
-        }
+        BytecodeUtils.pushParameterArray(b, method.getParameterTypes());
         // now we have all our arguments on the stack
         // lets invoke the method
         b.invokeinterface(MethodHandler.class.getName(), INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT,
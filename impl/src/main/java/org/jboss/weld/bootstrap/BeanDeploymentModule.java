@@ -100,6 +100,10 @@ public final class BeanDeploymentModule {
         notifier.fireEvent(eventType, event, metadata, qualifiers);
     }
 
+    void enableResolutionIndex() {
+        notifier.enableResolutionIndex();
+    }
+
     void addManager(BeanManagerImpl manager) {
         if (this.managers.add(manager)) {
             notifier.clear();
@@ -66,6 +66,10 @@ public final class BeanDeploymentModules implements Service, Iterable<BeanDeploy
         for (BeanDeployment deployment : deployments) {
             getModule(deployment.getBeanManager());
         }
+        // modules are processed once the deployment is validated, i.e. all observer methods are known
+        for (BeanDeploymentModule module : modules.values()) {
+            module.enableResolutionIndex();
+        }
     }
 
     @Override
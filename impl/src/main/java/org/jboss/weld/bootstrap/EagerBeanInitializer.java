@@ -0,0 +1,262 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.event.Reception;
+import jakarta.enterprise.event.Startup;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.event.ObserverMethodImpl;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * Creates the instances of application scoped beans which would be created by the
+ * <code>@Initialized(ApplicationScoped.class)</code>
+ * and {@link Startup} events anyway, before the events are fired. Only used if
+ * {@link ConfigurationKey#CONCURRENT_EAGER_INITIALIZATION} is enabled.
+ * <p>
+ * The beans are linked through the beans resolved for their injection points during validation (and through the declaring
+ * beans of producers). Each connected group of beans is created serially on a single thread, dependencies first, so that two
+ * threads never wait for each other's beans. Independent groups are created concurrently using {@link ExecutorServices}.
+ * <p>
+ * If an observer method declares a priority, the groups are created in waves: a group is only started once all the groups
+ * with a lower priority (i.e. the lowest observer priority of the group) are created.
+ * <p>
+ * Only the observers notified during bootstrap are taken into account. If the deployment is EE modules aware, the observers
+ * of web modules are ignored because the events are fired later by the web module. {@link Startup} observers are ignored if
+ * the environment does not fire the event automatically.
+ * <p>
+ * Dependencies which are not visible as injection points, e.g. a programmatic lookup in a constructor, are not taken into
+ * account. Note that the bean instances are created before any observer of these events is notified. Static observer
+ * methods and observer methods declared on beans with other scopes are therefore notified after the constructors of the
+ * eager beans run, even if they declare a lower priority.
+ */
+final class EagerBeanInitializer {
+
+    private final BeanManagerImpl deploymentManager;
+    private final Collection<BeanDeployment> beanDeployments;
+    private final ExecutorServices executor;
+    private final boolean startupEventFired;
+
+    EagerBeanInitializer(BeanManagerImpl deploymentManager, Collection<BeanDeployment> beanDeployments,
+            ExecutorServices executor, boolean startupEventFired) {
+        this.deploymentManager = deploymentManager;
+        this.beanDeployments = beanDeployments;
+        this.executor = executor;
+        this.startupEventFired = startupEventFired;
+    }
+
+    void initialize() {
+        Map<Bean<?>, Integer> eagerBeans = findEagerBeans();
+        if (eagerBeans.isEmpty()) {
+            return;
+        }
+        Map<Bean<?>, Set<Bean<?>>> dependencies = new HashMap<>();
+        for (Bean<?> bean : eagerBeans.keySet()) {
+            collectDependencies(bean, dependencies);
+        }
+        // Wave priority -> groups, each group in creation order
+        TreeMap<Integer, List<List<Bean<?>>>> waves = new TreeMap<>();
+        int groups = 0;
+        for (List<Bean<?>> group : createGroups(eagerBeans, dependencies)) {
+            int priority = group.stream().mapToInt(eagerBeans::get).min().getAsInt();
+            waves.computeIfAbsent(priority, p -> new ArrayList<>()).add(group);
+            groups++;
+        }
+        BootstrapLogger.LOG.eagerInitialization(eagerBeans.size(), groups, waves.size());
+
+        Context applicationContext = deploymentManager.getContext(ApplicationScoped.class);
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        for (List<List<Bean<?>>> wave : waves.values()) {
+            if (executor == null || wave.size() == 1) {
+                for (List<Bean<?>> group : wave) {
+                    create(group, applicationContext);
+                }
+            } else {
+                List<Callable<Void>> tasks = new ArrayList<>(wave.size());
+                for (List<Bean<?>> group : wave) {
+                    tasks.add(() -> {
+                        Thread thread = Thread.currentThread();
+                        ClassLoader original = thread.getContextClassLoader();
+                        thread.setContextClassLoader(tccl);
+                        try {
+                            create(group, applicationContext);
+                        } finally {
+                            thread.setContextClassLoader(original);
+                        }
+                        return null;
+                    });
+                }
+                executor.invokeAllAndCheckForExceptions(tasks);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the application scoped beans declaring an observer method which creates the bean instance when the
+     *         <code>@Initialized(ApplicationScoped.class)</code> or {@link Startup} event is fired, mapped to the lowest
+     *         priority of these observer methods
+     */
+    private Map<Bean<?>, Integer> findEagerBeans() {
+        Map<Bean<?>, Integer> eagerBeans = new LinkedHashMap<>();
+        Set<ObserverMethod<?>> observers = new HashSet<>();
+        BeanDeploymentModules modules = deploymentManager.getServices().get(BeanDeploymentModules.class);
+        if (modules != null) {
+            // Web modules fire the events later, see HttpContextLifecycle
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                if (!modules.getModule(beanDeployment.getBeanManager()).isWebModule()) {
+                    observers.addAll(beanDeployment.getBeanManager().getObservers());
+                }
+            }
+        } else {
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                observers.addAll(beanDeployment.getBeanManager().getObservers());
+            }
+            observers.addAll(deploymentManager.getObservers());
+        }
+        for (ObserverMethod<?> observer : observers) {
+            if (!(observer instanceof ObserverMethodImpl<?, ?>) || observer.isAsync()
+                    || Reception.IF_EXISTS.equals(observer.getReception()) || !isEagerEvent(observer)) {
+                continue;
+            }
+            Bean<?> bean = ((ObserverMethodImpl<?, ?>) observer).getDeclaringBean();
+            if (bean != null && ApplicationScoped.class.equals(bean.getScope())
+                    && !((ObserverMethodImpl<?, ?>) observer).getMethod().getAnnotated().isStatic()) {
+                eagerBeans.merge(bean, observer.getPriority(), Math::min);
+            }
+        }
+        return eagerBeans;
+    }
+
+    private boolean isEagerEvent(ObserverMethod<?> observer) {
+        return (startupEventFired && Startup.class.equals(observer.getObservedType()))
+                || observer.getObservedQualifiers().contains(Initialized.Literal.APPLICATION);
+    }
+
+    private void collectDependencies(Bean<?> bean, Map<Bean<?>, Set<Bean<?>>> dependencies) {
+        if (dependencies.containsKey(bean)) {
+            return;
+        }
+        Set<Bean<?>> beanDependencies = new LinkedHashSet<>();
+        dependencies.put(bean, beanDependencies);
+        if (bean instanceof AbstractProducerBean<?, ?, ?>) {
+            beanDependencies.add(((AbstractProducerBean<?, ?, ?>) bean).getDeclaringBean());
+        }
+        BeanManagerImpl manager = bean instanceof RIBean<?> ? ((RIBean<?>) bean).getBeanManager() : deploymentManager;
+        for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+            if (injectionPoint.isDelegate()) {
+                continue;
+            }
+            Bean<?> resolved = manager.resolve(manager.getBeans(injectionPoint));
+            if (resolved != null) {
+                beanDependencies.add(resolved);
+            }
+        }
+        for (Bean<?> dependency : beanDependencies) {
+            collectDependencies(dependency, dependencies);
+        }
+    }
+
+    /**
+     * Partitions the dependency graph into connected groups and orders the eager beans of each group so that eager
+     * dependencies are created first.
+     */
+    private static List<List<Bean<?>>> createGroups(Map<Bean<?>, Integer> eagerBeans,
+            Map<Bean<?>, Set<Bean<?>>> dependencies) {
+        // Union-find over all the beans of the graph
+        Map<Bean<?>, Bean<?>> parents = new HashMap<>();
+        for (Map.Entry<Bean<?>, Set<Bean<?>>> entry : dependencies.entrySet()) {
+            for (Bean<?> dependency : entry.getValue()) {
+                Bean<?> root = find(parents, entry.getKey());
+                Bean<?> dependencyRoot = find(parents, dependency);
+                if (root != dependencyRoot) {
+                    parents.put(root, dependencyRoot);
+                }
+            }
+        }
+        List<Bean<?>> sortedBeans = new ArrayList<>(eagerBeans.keySet());
+        sortedBeans.sort(Comparator.comparing(eagerBeans::get));
+        Map<Bean<?>, List<Bean<?>>> groups = new LinkedHashMap<>();
+        Set<Bean<?>> visited = new HashSet<>();
+        for (Bean<?> bean : sortedBeans) {
+            List<Bean<?>> group = groups.computeIfAbsent(find(parents, bean), r -> new ArrayList<>());
+            addInCreationOrder(bean, eagerBeans, dependencies, visited, group);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static Bean<?> find(Map<Bean<?>, Bean<?>> parents, Bean<?> bean) {
+        Bean<?> root = bean;
+        Bean<?> parent;
+        while ((parent = parents.get(root)) != null) {
+            root = parent;
+        }
+        if (root != bean) {
+            parents.put(bean, root);
+        }
+        return root;
+    }
+
+    private static void addInCreationOrder(Bean<?> bean, Map<Bean<?>, Integer> eagerBeans,
+            Map<Bean<?>, Set<Bean<?>>> dependencies, Set<Bean<?>> visited, List<Bean<?>> group) {
+        if (!visited.add(bean)) {
+            return;
+        }
+        for (Bean<?> dependency : dependencies.get(bean)) {
+            addInCreationOrder(dependency, eagerBeans, dependencies, visited, group);
+        }
+        if (eagerBeans.containsKey(bean)) {
+            group.add(bean);
+        }
+    }
+
+    private void create(List<Bean<?>> group, Context applicationContext) {
+        for (Bean<?> bean : group) {
+            create(bean, applicationContext);
+        }
+    }
+
+    private <T> void create(Bean<T> bean, Context applicationContext) {
+        BeanManagerImpl manager = bean instanceof RIBean<?> ? ((RIBean<?>) bean).getBeanManager() : deploymentManager;
+        applicationContext.get(bean, manager.createCreationalContext(bean));
+    }
+
+}
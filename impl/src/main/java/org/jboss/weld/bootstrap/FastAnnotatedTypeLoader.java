@@ -83,7 +83,7 @@ class FastAnnotatedTypeLoader extends AnnotatedTypeLoader {
             // secondly, let's resolve PAT observers for this class
             Set<ContainerLifecycleEventObserverMethod<?>> observerMethods = Collections.emptySet();
             if (containerLifecycleEvents.isProcessAnnotatedTypeObserved()) {
-                observerMethods = resolver.resolveProcessAnnotatedTypeObservers(classFileServices, className);
+                observerMethods = resolver.resolveProcessAnnotatedTypeObservers(classFileServices, className, classFileInfo);
                 if (!observerMethods.isEmpty()) {
                     // there are PAT observers for this class, register the class now
                     return createContext(className, classFileInfo, observerMethods, bdaId);
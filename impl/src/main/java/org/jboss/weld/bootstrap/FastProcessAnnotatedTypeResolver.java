@@ -21,6 +21,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -30,10 +32,13 @@ import java.util.function.Predicate;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.inject.spi.WithAnnotations;
 
 import org.jboss.weld.bootstrap.api.helpers.AbstractBootstrapService;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
+import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
+import org.jboss.weld.resources.ClassFileAnnotationIndex;
 import org.jboss.weld.resources.spi.ClassFileInfo;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.util.Types;
@@ -52,6 +57,10 @@ import org.jboss.weld.util.reflection.Reflections;
  * resolution using the default
  * {@link TypeSafeObserverResolver} is performed instead.
  *
+ * If the {@link ClassFileServices} implements {@link ClassFileAnnotationIndex}, the {@link WithAnnotations} restriction of an
+ * observer method is first evaluated against the candidate classes provided by the index. The class file is only inspected
+ * for the candidates.
+ *
  * @author Jozef Hartinger
  *
  */
@@ -112,8 +121,27 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         }
     }
 
+    /**
+     * Candidate classes of the observer methods with a {@link WithAnnotations} restriction, obtained from a given
+     * {@link ClassFileAnnotationIndex}.
+     */
+    private static class Candidates {
+
+        private final ClassFileServices classFileServices;
+
+        private final Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> candidates;
+
+        private Candidates(ClassFileServices classFileServices,
+                Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> candidates) {
+            this.classFileServices = classFileServices;
+            this.candidates = candidates;
+        }
+
+    }
+
     private final Set<ContainerLifecycleEventObserverMethod<?>> catchAllObservers;
     private final Map<ContainerLifecycleEventObserverMethod<?>, Predicate<ClassFileInfo>> observers;
+    private volatile Candidates candidates;
 
     public FastProcessAnnotatedTypeResolver(Iterable<ObserverMethod<?>> observers) throws UnsupportedObserverMethodException {
         this.catchAllObservers = new HashSet<>();
@@ -216,12 +244,32 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
      */
     public Set<ContainerLifecycleEventObserverMethod<?>> resolveProcessAnnotatedTypeObservers(
             ClassFileServices classFileServices, String className) {
+        return resolveProcessAnnotatedTypeObservers(classFileServices, className, null);
+    }
+
+    /**
+     * Resolves a set of {@code ProcessAnnotatedType} observer methods for the specified class. If no observer methods are
+     * resolved, an empty set is returned.
+     *
+     * @param className the specified class name
+     * @param classInfo the class file info of the specified class, may be null
+     * @return the set of resolved ProcessAnnotatedType observer methods
+     */
+    public Set<ContainerLifecycleEventObserverMethod<?>> resolveProcessAnnotatedTypeObservers(
+            ClassFileServices classFileServices, String className, ClassFileInfo classInfo) {
         Set<ContainerLifecycleEventObserverMethod<?>> result = new HashSet<ContainerLifecycleEventObserverMethod<?>>();
         result.addAll(catchAllObservers);
 
-        ClassFileInfo classInfo = classFileServices.getClassFileInfo(className);
+        Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> candidates = getCandidates(classFileServices);
         for (Map.Entry<ContainerLifecycleEventObserverMethod<?>, Predicate<ClassFileInfo>> entry : observers.entrySet()) {
             ContainerLifecycleEventObserverMethod<?> observer = entry.getKey();
+            Set<String> observerCandidates = candidates.get(observer);
+            if (observerCandidates != null && !observerCandidates.contains(className)) {
+                continue;
+            }
+            if (classInfo == null) {
+                classInfo = classFileServices.getClassFileInfo(className);
+            }
             if (containsRequiredAnnotation(classInfo, observer) && entry.getValue().test(classInfo)) {
                 result.add(observer);
             }
@@ -229,6 +277,47 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         return result;
     }
 
+    private Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> getCandidates(ClassFileServices classFileServices) {
+        Candidates result = candidates;
+        if (result == null || result.classFileServices != classFileServices) {
+            synchronized (this) {
+                result = candidates;
+                if (result == null || result.classFileServices != classFileServices) {
+                    result = new Candidates(classFileServices, initCandidates(classFileServices));
+                    candidates = result;
+                }
+            }
+        }
+        return result.candidates;
+    }
+
+    private Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> initCandidates(ClassFileServices classFileServices) {
+        if (!(classFileServices instanceof ClassFileAnnotationIndex)) {
+            return Collections.emptyMap();
+        }
+        ClassFileAnnotationIndex index = (ClassFileAnnotationIndex) classFileServices;
+        Map<ContainerLifecycleEventObserverMethod<?>, Set<String>> result = new HashMap<>();
+        for (ContainerLifecycleEventObserverMethod<?> observer : observers.keySet()) {
+            if (observer.getRequiredAnnotations().isEmpty()) {
+                continue;
+            }
+            Set<String> observerCandidates = new HashSet<>();
+            for (Class<? extends Annotation> annotation : observer.getRequiredAnnotations()) {
+                Set<String> annotationCandidates = index.getCandidatesContaining(annotation);
+                if (annotationCandidates == null) {
+                    observerCandidates = null;
+                    break;
+                }
+                observerCandidates.addAll(annotationCandidates);
+            }
+            if (observerCandidates != null) {
+                BootstrapLogger.LOG.patObserverCandidates(observer, observerCandidates.size());
+                result.put(observer, observerCandidates);
+            }
+        }
+        return result;
+    }
+
     private boolean containsRequiredAnnotation(ClassFileInfo classInfo, ContainerLifecycleEventObserverMethod<?> observer) {
         if (observer.getRequiredAnnotations().isEmpty()) {
             return true;
@@ -245,5 +334,6 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
     public void cleanupAfterBoot() {
         catchAllObservers.clear();
         observers.clear();
+        candidates = null;
     }
 }
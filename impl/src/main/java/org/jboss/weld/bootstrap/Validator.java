@@ -83,11 +83,14 @@ import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.AmbiguousResolutionException;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.exceptions.UnproxyableResolutionException;
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.injection.CacheableInjectionPoint;
 import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.injection.producer.BasicInjectionTarget;
 import org.jboss.weld.interceptor.reader.PlainInterceptorFactory;
@@ -394,6 +397,11 @@ public class Validator implements Service {
         // Account for the case this is disabled decorator
         if (!resolvedBeans.isEmpty()) {
             Bean<?> resolvedBean = (Bean<?>) resolvedBeans.iterator().next();
+            if (ij instanceof CacheableInjectionPoint && beanManager.getServices().get(WeldConfiguration.class)
+                    .getBooleanProperty(ConfigurationKey.INJECTION_POINT_PRE_RESOLUTION)) {
+                // The set of beans is final at this point, the injection point will always resolve to the same bean
+                ((CacheableInjectionPoint) ij).setCachedBean(resolvedBean);
+            }
             if (beanManager.isNormalScope(resolvedBean.getScope())) {
                 UnproxyableResolutionException ue = Proxies.getUnproxyableTypeException(ij.getType(), resolvedBean,
                         beanManager.getServices(), false);
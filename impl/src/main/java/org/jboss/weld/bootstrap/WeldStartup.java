@@ -88,9 +88,11 @@ import org.jboss.weld.context.bound.BoundLiteral;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.bound.BoundConversationContextImpl;
 import org.jboss.weld.contexts.bound.BoundRequestContextImpl;
 import org.jboss.weld.contexts.bound.BoundSessionContextImpl;
+import org.jboss.weld.contexts.cache.RequestScopedInstanceSlots;
 import org.jboss.weld.contexts.unbound.ApplicationContextImpl;
 import org.jboss.weld.contexts.unbound.DependentContextImpl;
 import org.jboss.weld.contexts.unbound.RequestContextImpl;
@@ -99,6 +101,7 @@ import org.jboss.weld.event.ContextEvent;
 import org.jboss.weld.event.CurrentEventMetadata;
 import org.jboss.weld.event.DefaultObserverNotifierFactory;
 import org.jboss.weld.event.GlobalObserverNotifierService;
+import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.executor.ExecutorServicesFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.ResourceInjectionFactory;
@@ -110,6 +113,9 @@ import org.jboss.weld.manager.BeanManagerLookupService;
 import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.metadata.TypeStore;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.metrics.ContainerMetrics;
+import org.jboss.weld.metrics.JmxContainerMetrics;
+import org.jboss.weld.metrics.NoopContainerMetrics;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.module.WeldModules;
 import org.jboss.weld.resources.ClassTransformer;
@@ -130,6 +136,7 @@ import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
 import org.jboss.weld.servlet.spi.helpers.AcceptingHttpContextActivationFilter;
 import org.jboss.weld.transaction.spi.TransactionServices;
 import org.jboss.weld.util.Bindings;
+import org.jboss.weld.util.cache.ComputingCacheStatisticsService;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.Iterables;
 import org.jboss.weld.util.reflection.Formats;
@@ -291,7 +298,8 @@ public class WeldStartup {
             throw new IllegalStateException(ClassTransformer.class.getSimpleName() + " not installed.");
         }
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
-        services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
+        services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class),
+                configuration.getLongProperty(ConfigurationKey.QUALIFIER_INSTANCE_CACHE_SIZE)));
 
         BeanIdentifierIndex beanIdentifierIndex = null;
         if (configuration.getBooleanProperty(ConfigurationKey.BEAN_IDENTIFIER_INDEX_OPTIMIZATION)) {
@@ -300,6 +308,8 @@ public class WeldStartup {
         }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
+        services.add(RequestScopedInstanceSlots.class, new RequestScopedInstanceSlots());
+        services.add(BeanStoreIndex.class, new BeanStoreIndex());
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
@@ -323,6 +333,14 @@ public class WeldStartup {
             services.add(HttpContextActivationFilter.class, AcceptingHttpContextActivationFilter.INSTANCE);
         }
         services.add(ProtectionDomainCache.class, new ProtectionDomainCache());
+        if (configuration.getBooleanProperty(ConfigurationKey.CACHE_STATISTICS)) {
+            services.add(ComputingCacheStatisticsService.class, new ComputingCacheStatisticsService(contextId));
+        }
+        if (!services.contains(ContainerMetrics.class)) {
+            services.add(ContainerMetrics.class,
+                    configuration.getBooleanProperty(ConfigurationKey.METRICS) ? new JmxContainerMetrics(contextId)
+                            : NoopContainerMetrics.INSTANCE);
+        }
 
         services.add(ProxyInstantiator.class, ProxyInstantiator.Factory.create(configuration));
 
@@ -501,6 +519,9 @@ public class WeldStartup {
             throw e;
         }
         getContainer().setState(ContainerState.VALIDATED);
+        // The set of beans is final now, resolution cache misses may be served by the candidates indexes
+        enableResolutionIndexes();
+        registerCacheStatistics();
         tracker.start(Tracker.OP_ADV);
         AfterDeploymentValidationImpl.fire(deploymentManager);
 
@@ -509,6 +530,8 @@ public class WeldStartup {
             // Build a special index of bean identifiers
             index.build(getBeansForBeanIdentifierIndex());
         }
+        // Assign bean store slots to request, session and conversation scoped beans
+        deploymentManager.getServices().get(BeanStoreIndex.class).build(getBeans());
 
         // feed BeanDeploymentModule registry
         final BeanDeploymentModules modules = deploymentManager.getServices().get(BeanDeploymentModules.class);
@@ -573,6 +596,13 @@ public class WeldStartup {
 
         getContainer().setState(ContainerState.INITIALIZED);
 
+        if (deploymentManager.getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.CONCURRENT_EAGER_INITIALIZATION)) {
+            new EagerBeanInitializer(deploymentManager, getBeanDeployments(),
+                    deploymentManager.getServices().get(ExecutorServices.class),
+                    environment.automaticallyHandleStartupShutdownEvents()).initialize();
+        }
+
         final BeanDeploymentModules modules = deploymentManager.getServices().get(BeanDeploymentModules.class);
         if (modules != null) {
             // fire @Initialized(ApplicationScoped.class) for non-web modules
@@ -609,6 +639,44 @@ public class WeldStartup {
         }
     }
 
+    private void enableResolutionIndexes() {
+        deploymentManager.enableResolutionIndexes();
+        deploymentManager.getGlobalStrictObserverNotifier().enableResolutionIndex();
+        deploymentManager.getGlobalLenientObserverNotifier().enableResolutionIndex();
+        deploymentManager.getGlobalStrictObserverNotifier().enableDispatchTable();
+        deploymentManager.getGlobalLenientObserverNotifier().enableDispatchTable();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            beanDeployment.getBeanManager().enableResolutionIndexes();
+        }
+    }
+
+    private void registerCacheStatistics() {
+        ComputingCacheStatisticsService statisticsService = deploymentManager.getServices()
+                .get(ComputingCacheStatisticsService.class);
+        if (statisticsService == null) {
+            return;
+        }
+        // The global notifiers share the observer resolver
+        ObserverNotifier globalStrictNotifier = deploymentManager.getGlobalStrictObserverNotifier();
+        statisticsService.register(contextId, "globalObserverResolver", globalStrictNotifier.getResolverCacheStatistics());
+        statisticsService.register(contextId, "globalStrictDispatchTable", globalStrictNotifier.getDispatchTableStatistics());
+        statisticsService.register(contextId, "globalLenientDispatchTable",
+                deploymentManager.getGlobalLenientObserverNotifier().getDispatchTableStatistics());
+        registerCacheStatistics(statisticsService, deploymentManager);
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            registerCacheStatistics(statisticsService, beanDeployment.getBeanManager());
+        }
+    }
+
+    private static void registerCacheStatistics(ComputingCacheStatisticsService statisticsService, BeanManagerImpl manager) {
+        String owner = manager.getId();
+        statisticsService.register(owner, "beanResolver", manager.getBeanResolver().getCacheStatistics());
+        statisticsService.register(owner, "decoratorResolver", manager.getDecoratorResolver().getCacheStatistics());
+        statisticsService.register(owner, "interceptorResolver", manager.getInterceptorResolver().getCacheStatistics());
+        statisticsService.register(owner, "observerResolver",
+                manager.getAccessibleLenientObserverNotifier().getResolverCacheStatistics());
+    }
+
     private Collection<BeanDeployment> getBeanDeployments() {
         return bdaMapping.getBeanDeployments();
     }
@@ -643,7 +711,8 @@ public class WeldStartup {
                 boundQualifires));
         contexts.add(
                 new ContextHolder<RequestContext>(new RequestContextImpl(contextId), RequestContext.class, unboundQualifiers));
-        contexts.add(new ContextHolder<DependentContext>(new DependentContextImpl(services.get(ContextualStore.class)),
+        contexts.add(new ContextHolder<DependentContext>(new DependentContextImpl(services.get(ContextualStore.class),
+                ContainerMetrics.getActive(services)),
                 DependentContext.class, unboundQualifiers));
 
         services.get(WeldModules.class).postContextRegistration(contextId, services, contexts);
@@ -702,6 +771,14 @@ public class WeldStartup {
         return beans;
     }
 
+    private Iterable<Bean<?>> getBeans() {
+        List<Bean<?>> beans = new ArrayList<Bean<?>>();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            beans.addAll(beanDeployment.getBeanManager().getBeans());
+        }
+        return beans;
+    }
+
     private void setExtensions(Iterable<Metadata<Extension>> extensions) {
         this.extensions = new ArrayList<Metadata<? extends Extension>>();
         Iterables.addAll(this.extensions, extensions);
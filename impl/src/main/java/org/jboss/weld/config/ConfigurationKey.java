@@ -46,6 +46,15 @@ public enum ConfigurationKey {
     @Description("Indicates whether the concurrent deployment is enabled.")
     CONCURRENT_DEPLOYMENT("org.jboss.weld.bootstrap.concurrentDeployment", true),
 
+    /**
+     * If set to <code>true</code>, the instances of application scoped beans which observe the
+     * <code>@Initialized(ApplicationScoped.class)</code> or {@link jakarta.enterprise.event.Startup} event are created before
+     * the event is fired. Groups of beans which do not depend on each other are created concurrently, using the executor of
+     * the concurrent deployment if enabled. Observer method priorities are respected between the groups.
+     */
+    @Description("If set to true, application scoped beans observing @Initialized(ApplicationScoped.class) or Startup are created before the event is fired, independent groups of beans concurrently.")
+    CONCURRENT_EAGER_INITIALIZATION("org.jboss.weld.bootstrap.concurrentEagerInitialization", false),
+
     /**
      * The number of threads used by ContainerLifecycleEventPreloader. The ContainerLifecycleEventPreloader allows observer
      * methods for container lifecycle
@@ -81,13 +90,13 @@ public enum ConfigurationKey {
     /**
      * If set to true, debug timing information is printed to the standard output.
      */
-    @Description("If set to true, some more debug information is logged when the Weld thread pool is used.")
+    @Description("If set to true, some more debug information is logged when the Weld thread pool is used. For the <code>VIRTUAL</code> thread pool type, virtual threads pinned to the carrier thread while executing Weld code are logged.")
     EXECUTOR_THREAD_POOL_DEBUG("org.jboss.weld.executor.threadPoolDebug", false),
 
     /**
-     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON.
+     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON, VIRTUAL.
      */
-    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li>")
+    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li><li><code>VIRTUAL</code> - A new virtual thread is started for each task. Requires Java 21 or newer, falls back to <code>FIXED</code> otherwise.</li>")
     EXECUTOR_THREAD_POOL_TYPE("org.jboss.weld.executor.threadPoolType", ""),
 
     /**
@@ -110,6 +119,13 @@ public enum ConfigurationKey {
     @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value.")
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x10000L),
 
+    /**
+     * Weld caches the optimized representation of qualifier instances used for resolution. The cache does not prevent
+     * annotation literals from being garbage collected and its maximum size is bounded by this value.
+     */
+    @Description("Weld caches the optimized representation of qualifier instances used for resolution, e.g. qualifiers passed to Instance.select(). The cache does not prevent annotation literals from being garbage collected and its maximum size is bounded by this value.")
+    QUALIFIER_INSTANCE_CACHE_SIZE("org.jboss.weld.resolution.qualifierInstanceCacheSize", 0x1000L),
+
     /**
      * For debug purposes, it's possible to dump the generated bytecode of proxies and subclasses.
      */
@@ -154,6 +170,15 @@ public enum ConfigurationKey {
     @Description("For certain combinations of scopes, the container is permitted to optimize an injectable reference lookup. The optimization is disabled by default.")
     INJECTABLE_REFERENCE_OPTIMIZATION("org.jboss.weld.injection.injectableReferenceOptimization", false),
 
+    /**
+     * If set to <code>true</code>, the beans resolved for field and parameter injection points during validation are stored
+     * in the injection points so that the type safe resolver is not used for these injection points at runtime.
+     *
+     * @see org.jboss.weld.injection.CacheableInjectionPoint
+     */
+    @Description("If set to true, the beans resolved for field and parameter injection points during validation are stored in the injection points so that the resolver is not used for these injection points at runtime.")
+    INJECTION_POINT_PRE_RESOLUTION("org.jboss.weld.injection.preResolution", false),
+
     /**
      * This option is deprecated and has no function since Weld 5.1.0.Final.
      * It will be removed in upcoming versions.
@@ -251,6 +276,14 @@ public enum ConfigurationKey {
     @Description("The maximum time to wait on the lock of conversation in milliseconds.")
     CONVERSATION_CONCURRENT_ACCESS_TIMEOUT("org.jboss.weld.conversation.concurrentAccessTimeout", 1000L),
 
+    /**
+     * If set to a positive value, expired conversations are periodically destroyed in the background, i.e. even if no other
+     * request is made within the session. The value represents the delay between two runs in milliseconds. By default, the
+     * sweeper is disabled and expired conversations are only destroyed at the end of a subsequent request.
+     */
+    @Description("If set to a positive value, expired conversations are periodically destroyed in the background. The value represents the delay between two runs in milliseconds. By default, expired conversations are only destroyed at the end of a subsequent request within the same session.")
+    CONVERSATION_SWEEPER_INTERVAL("org.jboss.weld.conversation.sweeperInterval", 0L),
+
     /**
      * This configuration property should only be used if experiencing problems with rolling upgrades.
      * <p>
@@ -364,6 +397,47 @@ public enum ConfigurationKey {
     @Description("If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.")
     RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS("org.jboss.weld.context.resetHttpSessionAttributeOnBeanAccess", false),
 
+    /**
+     * If set to <code>true</code>, repeated writes of an attribute which is already stored in the HTTP session are deferred
+     * and performed once at the end of the request. This reduces the number of session modifications a clustered container
+     * needs to replicate.
+     */
+    @Description("If set to true, repeated writes of an attribute which is already stored in the HTTP session are deferred and performed once at the end of the request. This reduces the number of session modifications a clustered container needs to replicate.")
+    HTTP_SESSION_WRITE_BEHIND("org.jboss.weld.context.session.writeBehind", false),
+
+    /**
+     * If set to <code>true</code>, interceptor methods are invoked through method handles created during bootstrap instead of
+     * reflection.
+     */
+    @Description("If set to true, interceptor methods are invoked through method handles created during bootstrap instead of reflection.")
+    INTERCEPTOR_METHOD_HANDLES("org.jboss.weld.interceptor.methodHandles", false),
+
+    /**
+     * If set to <code>true</code>, the resolution caches record hit, miss, eviction and load statistics. The statistics are
+     * available through JMX.
+     */
+    @Description("If set to true, the resolution caches record hit, miss, eviction and load statistics. The statistics are available through JMX.")
+    CACHE_STATISTICS("org.jboss.weld.cache.statistics", false),
+
+    /**
+     * If set to <code>true</code>, Weld records runtime metrics of the container hot paths, i.e. bean instance creation,
+     * context
+     * lookups, event and observer notification, interceptor chain invocation and proxy class generation. The metrics are
+     * available through JMX.
+     * <p>
+     * This key is ignored if the integrator provides its own {@link org.jboss.weld.metrics.ContainerMetrics}.
+     */
+    @Description("If set to true, Weld records runtime metrics of bean instance creation, context lookups, event and observer notification, interceptor chain invocation and proxy class generation. The metrics are available through JMX.")
+    METRICS("org.jboss.weld.metrics.enabled", false),
+
+    /**
+     * If set to <code>true</code>, a transactional observer method is notified only once of equal events with equal
+     * qualifiers fired within the same transaction. Events are only coalesced if the integrator provides the transaction
+     * synchronization registry, see also {@code org.jboss.weld.module.jta.spi.TransactionSynchronizationRegistryService}.
+     */
+    @Description("If set to true, a transactional observer method is notified only once of equal events with equal qualifiers fired within the same transaction.")
+    TRANSACTIONAL_OBSERVER_COALESCING("org.jboss.weld.event.transactionalObserverCoalescing", false),
+
     ;
 
     /**
@@ -29,6 +29,7 @@ import org.jboss.weld.contexts.beanstore.BeanStore;
 import org.jboss.weld.contexts.beanstore.LockedBean;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.logging.ContextLogger;
+import org.jboss.weld.metrics.ContainerMetrics;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.Beans;
@@ -49,6 +50,8 @@ public abstract class AbstractContext implements AlterableContext {
 
     private final ServiceRegistry serviceRegistry;
 
+    private final ContainerMetrics metrics;
+
     /**
      * Constructor
      *
@@ -56,6 +59,7 @@ public abstract class AbstractContext implements AlterableContext {
     public AbstractContext(String contextId, boolean multithreaded) {
         this.multithreaded = multithreaded;
         this.serviceRegistry = Container.instance(contextId).services();
+        this.metrics = ContainerMetrics.getActive(serviceRegistry);
     }
 
     /**
@@ -81,6 +85,10 @@ public abstract class AbstractContext implements AlterableContext {
         }
         BeanIdentifier id = getId(contextual);
         ContextualInstance<T> beanInstance = beanStore.get(id);
+        if (metrics != null && (beanInstance != null || creationalContext != null)) {
+            // a lookup which cannot create a new instance is not a miss
+            metrics.contextLookup(getScope(), beanInstance != null);
+        }
         if (beanInstance != null) {
             return beanInstance.getInstance();
         } else if (creationalContext != null) {
@@ -93,7 +101,7 @@ public abstract class AbstractContext implements AlterableContext {
                         return beanInstance.getInstance();
                     }
                 }
-                T instance = contextual.create(creationalContext);
+                T instance = createInstance(contextual, creationalContext);
                 if (instance != null) {
                     beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance,
                             creationalContext, serviceRegistry.get(ContextualStore.class));
@@ -115,6 +123,18 @@ public abstract class AbstractContext implements AlterableContext {
         return get(contextual, null);
     }
 
+    private <T> T createInstance(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        if (metrics == null) {
+            return contextual.create(creationalContext);
+        }
+        long start = System.nanoTime();
+        try {
+            return contextual.create(creationalContext);
+        } finally {
+            metrics.beanInstanceCreated(contextual, System.nanoTime() - start);
+        }
+    }
+
     @Override
     public void destroy(Contextual<?> contextual) {
         if (!isActive()) {
@@ -20,6 +20,7 @@ import static org.jboss.weld.contexts.conversation.ConversationIdGenerator.CONVE
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +30,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -48,9 +53,11 @@ import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.conversation.ConversationIdGenerator;
 import org.jboss.weld.contexts.conversation.ConversationImpl;
+import org.jboss.weld.contexts.conversation.ConversationMap;
 import org.jboss.weld.event.FastEvent;
 import org.jboss.weld.logging.ConversationLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.serialization.BeanIdentifierIndex;
 import org.jboss.weld.util.LazyValueHolder;
 
@@ -72,6 +79,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private static final String PARAMETER_NAME = "cid";
 
+    private static final int SWEEPER_NOT_SCHEDULED = 0;
+    private static final int SWEEPER_SCHEDULED = 1;
+    private static final int SWEEPER_UNAVAILABLE = 2;
+
     private final AtomicReference<String> parameterName;
     private final AtomicLong defaultTimeout;
     private final AtomicLong concurrentAccessTimeout;
@@ -83,6 +94,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     private final BeanManagerImpl manager;
 
     private final BeanIdentifierIndex beanIdentifierIndex;
+
+    // The sweeper is disabled if the interval is not positive
+    private final long sweeperInterval;
+    // Sessions which hold long-running conversations, only used if the sweeper is enabled
+    private final Set<SessionReference<S>> sweptSessions;
+    // One of SWEEPER_NOT_SCHEDULED, SWEEPER_SCHEDULED and SWEEPER_UNAVAILABLE (ExecutorServices is not available)
+    private final AtomicInteger sweeperState;
+
     private final LazyValueHolder<FastEvent<String>> conversationBeforeDestroyedEvent = new LazyValueHolder<FastEvent<String>>() {
         @Override
         protected FastEvent<String> computeValue() {
@@ -108,6 +127,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.beanIdentifierIndex = services.get(BeanIdentifierIndex.class);
         this.resetHttpSessionAttributeOnBeanAccess = configuration
                 .getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
+        this.sweeperInterval = configuration.getLongProperty(ConfigurationKey.CONVERSATION_SWEEPER_INTERVAL);
+        this.sweptSessions = sweeperInterval > 0 ? ConcurrentHashMap.newKeySet() : null;
+        this.sweeperState = new AtomicInteger(SWEEPER_NOT_SCHEDULED);
     }
 
     @Override
@@ -275,7 +297,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 } else {
                     // Update the conversation timestamp
                     getCurrentConversation().touch();
-                    if (!getBeanStore().isAttached()) {
+                    if (getBeanStore().isAttached()) {
+                        // The timeout might have changed as well
+                        conversationTouched(getCurrentConversation());
+                    } else {
                         /*
                          * This was a transient conversation at the beginning of the request, so we need to update the CID it
                          * uses, and attach it. We also add
@@ -300,6 +325,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 setBeanStore(null);
                 // Clean up any expired/ended conversations
                 cleanUpConversationMap();
+                if (sweptSessions != null) {
+                    registerSessionForSweeping();
+                }
                 // Deactivate the context, i.e. remove state threadlocal
                 removeState();
             }
@@ -311,19 +339,28 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     private void cleanUpConversationMap() {
         ManagedConversation currentConversation = getCurrentConversation();
         Map<String, ManagedConversation> conversations = getConversationMap();
-        Map<String, ManagedConversation> toClear = new HashMap<>();
+        Map<String, ManagedConversation> toClear;
         S session = getSessionFromRequest(getRequest(), false);
-        // while synced, extract a map of conversations that we'll need to clean up, already removing them from map
-        synchronized (conversations) {
-            Iterator<Entry<String, ManagedConversation>> entryIterator = conversations.entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                Entry<String, ManagedConversation> entry = entryIterator.next();
-                if (entry.getValue().isTransient()) {
-                    toClear.put(entry.getKey(), entry.getValue());
-                    entryIterator.remove();
+        if (conversations instanceof ConversationMap) {
+            // only the conversations ended since the last cleanup need to be visited
+            toClear = ((ConversationMap) conversations).removeEnded();
+        } else {
+            toClear = new HashMap<>();
+            // while synced, extract a map of conversations that we'll need to clean up, already removing them from map
+            synchronized (conversations) {
+                Iterator<Entry<String, ManagedConversation>> entryIterator = conversations.entrySet().iterator();
+                while (entryIterator.hasNext()) {
+                    Entry<String, ManagedConversation> entry = entryIterator.next();
+                    if (entry.getValue().isTransient()) {
+                        toClear.put(entry.getKey(), entry.getValue());
+                        entryIterator.remove();
+                    }
                 }
             }
         }
+        if (toClear.isEmpty()) {
+            return;
+        }
         // let the lock go, now destroy the conversation contexts, this will trigger locking on session
         Iterator<Entry<String, ManagedConversation>> toClearIterator = toClear.entrySet().iterator();
         while (toClearIterator.hasNext()) {
@@ -339,10 +376,35 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         getConversationMap().put(conversation.getId(), conversation);
     }
 
+    /**
+     * Invoked right before the given long-running conversation is ended.
+     *
+     * @param conversation
+     */
+    public void conversationEnded(ConversationImpl conversation) {
+        if (isAssociated()) {
+            Map<String, ManagedConversation> conversations = getConversationMap();
+            if (conversations instanceof ConversationMap) {
+                ((ConversationMap) conversations).ended(conversation.getId());
+            }
+        }
+    }
+
+    private void conversationTouched(ManagedConversation conversation) {
+        Map<String, ManagedConversation> conversations = getConversationMap();
+        if (conversations instanceof ConversationMap) {
+            ((ConversationMap) conversations).touched(conversation.getId());
+        }
+    }
+
     @Override
     public void invalidate() {
         ManagedConversation currentConversation = getCurrentConversation();
         Map<String, ManagedConversation> conversations = getConversationMap();
+        if (conversations instanceof ConversationMap) {
+            endExpiredConversations((ConversationMap) conversations, currentConversation);
+            return;
+        }
         synchronized (conversations) {
             for (Entry<String, ManagedConversation> stringManagedConversationEntry : conversations.entrySet()) {
                 ManagedConversation conversation = stringManagedConversationEntry.getValue();
@@ -357,7 +419,32 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
+    private void endExpiredConversations(ConversationMap conversations, ManagedConversation currentConversation) {
+        synchronized (conversations) {
+            for (Entry<String, ManagedConversation> entry : conversations.pollExpired(System.currentTimeMillis()).entrySet()) {
+                ManagedConversation conversation = entry.getValue();
+                if (conversation.isTransient()) {
+                    // Already ended - will be destroyed during cleanup
+                    continue;
+                }
+                if (currentConversation.equals(conversation) || !isExpired(conversation)) {
+                    // The conversation was touched in the meantime
+                    conversations.touched(entry.getKey());
+                    continue;
+                }
+                // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
+                if (!conversation.lock(0)) {
+                    ConversationLogger.LOG.endLockedConversation(conversation.getId());
+                }
+                conversation.end();
+            }
+        }
+    }
+
     public boolean destroy(S session) {
+        if (sweptSessions != null) {
+            sweptSessions.remove(new SessionReference<S>(session));
+        }
         // the context may be active
         // if it is, we need to re-attach the bean store once the other conversations are destroyed
         final BoundBeanStore beanStore = getBeanStore();
@@ -498,7 +585,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         if (conversationMap == null) {
             conversationMap = getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false);
             if (conversationMap == null) {
-                conversationMap = Collections.synchronizedMap(new HashMap<String, ManagedConversation>());
+                conversationMap = new ConversationMap();
                 setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap);
                 setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap, false);
             } else if (resetHttpSessionAttributeOnBeanAccess) {
@@ -527,6 +614,98 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         return (ManagedConversation) attribute;
     }
 
+    private void registerSessionForSweeping() {
+        if (getConversationMap().isEmpty()) {
+            return;
+        }
+        S session = getSessionFromRequest(getRequest(), false);
+        if (session == null) {
+            return;
+        }
+        int state = sweeperState.get();
+        if (state == SWEEPER_NOT_SCHEDULED) {
+            ExecutorServices executorServices = manager.getServices().get(ExecutorServices.class);
+            if (executorServices == null) {
+                sweeperState.set(SWEEPER_UNAVAILABLE);
+                return;
+            }
+            if (sweeperState.compareAndSet(SWEEPER_NOT_SCHEDULED, SWEEPER_SCHEDULED)) {
+                executorServices.getTimerExecutor().scheduleWithFixedDelay(this::sweep, sweeperInterval, sweeperInterval,
+                        TimeUnit.MILLISECONDS);
+            }
+            state = SWEEPER_SCHEDULED;
+        }
+        // Only the sweeper removes the sessions which are not destroyed
+        if (state == SWEEPER_SCHEDULED) {
+            sweptSessions.add(new SessionReference<S>(session));
+        }
+    }
+
+    private void sweep() {
+        for (Iterator<SessionReference<S>> iterator = sweptSessions.iterator(); iterator.hasNext();) {
+            S session = iterator.next().get();
+            try {
+                if (session == null || !sweep(session)) {
+                    iterator.remove();
+                }
+            } catch (Exception e) {
+                // E.g. the session was invalidated in the meantime
+                ConversationLogger.LOG.unableToDestroyExpiredConversations(session, e);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Destroys the expired conversations of the given session. Unlike {@link #invalidate()} this method is invoked by the
+     * sweeper, i.e. no request is associated with the context.
+     *
+     * @param session
+     * @return <code>true</code> if the session still holds some long-running conversations, <code>false</code> otherwise
+     */
+    private boolean sweep(S session) {
+        Object conversationMap = getSessionAttributeFromSession(session, CONVERSATIONS_ATTRIBUTE_NAME);
+        if (!(conversationMap instanceof ConversationMap)) {
+            return false;
+        }
+        ConversationMap conversations = (ConversationMap) conversationMap;
+        Map<String, ManagedConversation> expired = new HashMap<>();
+        setActive(true);
+        try {
+            synchronized (conversations) {
+                for (Entry<String, ManagedConversation> entry : conversations.pollExpired(System.currentTimeMillis())
+                        .entrySet()) {
+                    ManagedConversation conversation = entry.getValue();
+                    if (conversation.isTransient()) {
+                        // Ended during a request which will destroy the conversation
+                        continue;
+                    }
+                    // A conversation which is locked is in use
+                    if (isExpired(conversation) && conversation.lock(0)) {
+                        conversation.end();
+                        conversations.remove(entry.getKey());
+                        expired.put(entry.getKey(), conversation);
+                    } else {
+                        conversations.touched(entry.getKey());
+                    }
+                }
+            }
+            for (Entry<String, ManagedConversation> entry : expired.entrySet()) {
+                try {
+                    destroyConversation(session, entry.getKey(), true);
+                    ConversationLogger.LOG.expiredConversationDestroyed(entry.getKey());
+                } finally {
+                    // A request waiting for the lock finds out the conversation is transient
+                    entry.getValue().unlock();
+                }
+            }
+            return !conversations.isEmpty();
+        } finally {
+            setActive(false);
+            removeState();
+        }
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ConversationScoped.class;
@@ -623,4 +802,34 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     protected abstract Iterator<String> getSessionAttributeNames(S session);
 
+    /**
+     * Sessions are compared by identity, the session storage of a bound context is a regular map.
+     */
+    private static final class SessionReference<S> extends WeakReference<S> {
+
+        private final int hashCode;
+
+        private SessionReference(S session) {
+            super(session);
+            this.hashCode = System.identityHashCode(session);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SessionReference)) {
+                return false;
+            }
+            Object session = get();
+            return session != null && session == ((SessionReference<?>) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
 }
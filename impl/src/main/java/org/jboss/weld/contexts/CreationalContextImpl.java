@@ -56,9 +56,17 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    /**
+     * Most creational contexts never hold a dependent instance. Therefore, the list is only allocated when the first dependent
+     * instance is added, see {@link #getOrCreateDependentInstances()}.
+     */
+    private volatile List<ContextualInstance<?>> dependentInstances;
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    /**
+     * Dependent instances added to a context without a parent are not tracked by any other context. We only need to know
+     * whether there are any.
+     */
+    private volatile boolean detachedDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -79,16 +87,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient InterceptionContext aroundConstructInterceptionContext;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
     private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+            CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -96,9 +102,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -109,13 +112,12 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
         return new CreationalContextImpl<S>(contextual,
-                incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null,
-                Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+                incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -127,7 +129,31 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            parentCreationalContext.getOrCreateDependentInstances().add(contextualInstance);
+        } else {
+            detachedDependentInstances = true;
+        }
+    }
+
+    private List<ContextualInstance<?>> getOrCreateDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            synchronized (this) {
+                dependentInstances = this.dependentInstances;
+                if (dependentInstances == null) {
+                    dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                    this.dependentInstances = dependentInstances;
+                }
+            }
+        }
+        return dependentInstances;
+    }
+
+    @Override
+    public boolean hasDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        return dependentInstances != null && !dependentInstances.isEmpty();
     }
 
     public void release() {
@@ -136,6 +162,18 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            releaseDependentInstances(dependentInstances, contextual);
+        }
+        if (resourceReferences != null) {
+            for (ResourceReference<?> reference : resourceReferences) {
+                reference.release();
+            }
+        }
+    }
+
+    private void releaseDependentInstances(List<ContextualInstance<?>> dependentInstances, Contextual<T> contextual) {
         synchronized (dependentInstances) {
             for (ContextualInstance<?> dependentInstance : dependentInstances) {
                 if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
@@ -147,11 +185,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
                 }
             }
         }
-        if (resourceReferences != null) {
-            for (ResourceReference<?> reference : resourceReferences) {
-                reference.release();
-            }
-        }
     }
 
     private <T> void destroy(ContextualInstance<T> beanInstance) {
@@ -186,11 +219,27 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return Collections.emptyList();
+        }
         return WeldCollections.immutableListView(dependentInstances);
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            removeNonSerializableDependentInstances(dependentInstances);
+        }
+        // Return a serialization proxy for an "empty" instance
+        if (parentCreationalContext == null && !hasDependentInstances() && !detachedDependentInstances) {
+            return SERIALIZATION_PROXY;
+        }
+        return this;
+    }
+
+    private void removeNonSerializableDependentInstances(List<ContextualInstance<?>> dependentInstances) {
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> instance = iterator.next();
@@ -223,12 +272,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
                 }
             }
         }
-        // Return a serialization proxy for an "empty" instance
-        if (parentCreationalContext == null && dependentInstances.isEmpty()
-                && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
-            return SERIALIZATION_PROXY;
-        }
-        return this;
     }
 
     /**
@@ -250,6 +293,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return false;
+        }
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> contextualInstance = iterator.next();
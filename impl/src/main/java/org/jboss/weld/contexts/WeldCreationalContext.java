@@ -65,6 +65,13 @@ public interface WeldCreationalContext<T> extends org.jboss.weld.construction.ap
      */
     List<ContextualInstance<?>> getDependentInstances();
 
+    /**
+     * Unlike {@code getDependentInstances().isEmpty()} this method does not allocate.
+     *
+     * @return <code>true</code> if there is at least one dependent instance, <code>false</code> otherwise
+     */
+    boolean hasDependentInstances();
+
     /**
      * Destroys dependent instance
      *
@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ConversationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.PassivationCapable;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * A per deployment service which assigns a slot to each request, session and conversation scoped bean (except for built-in
+ * beans). The slots are used by {@link IndexedBeanStore} to store contextual instances in an array.
+ * <p>
+ * Unlike {@link org.jboss.weld.serialization.BeanIdentifierIndex}, this index is always available and does not depend on the
+ * bean identifier index optimization. The slots are only meaningful within a single container and are never serialized.
+ * </p>
+ */
+public class BeanStoreIndex implements Service {
+
+    static final int NO_SLOT = -1;
+
+    private volatile Map<BeanIdentifier, Integer> slots;
+
+    private volatile BeanIdentifier[] identifiers;
+
+    /**
+     * Note that the index can only be built once.
+     *
+     * @param beans the beans of the deployment, beans which are not request, session or conversation scoped are ignored
+     * @throws IllegalStateException If the index is built already
+     */
+    public void build(Iterable<Bean<?>> beans) {
+        if (isBuilt()) {
+            throw new IllegalStateException("Bean store index is already built!");
+        }
+        // A bean may be visible from several bean deployments
+        Map<BeanIdentifier, Integer> temp = new HashMap<>();
+        for (Bean<?> bean : beans) {
+            if (bean instanceof AbstractBuiltInBean<?> || !isIndexedScope(bean)) {
+                continue;
+            }
+            BeanIdentifier identifier = null;
+            if (bean instanceof CommonBean<?>) {
+                identifier = ((CommonBean<?>) bean).getIdentifier();
+            } else if (bean instanceof PassivationCapable) {
+                identifier = new StringBeanIdentifier(((PassivationCapable) bean).getId());
+            }
+            if (identifier != null) {
+                temp.putIfAbsent(identifier, temp.size());
+            }
+        }
+        BeanIdentifier[] reverse = new BeanIdentifier[temp.size()];
+        for (Map.Entry<BeanIdentifier, Integer> entry : temp.entrySet()) {
+            reverse[entry.getValue()] = entry.getKey();
+        }
+        identifiers = reverse;
+        slots = ImmutableMap.copyOf(temp);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the index is built, <code>false</code> otherwise
+     */
+    public boolean isBuilt() {
+        return slots != null;
+    }
+
+    /**
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        checkIsBuilt();
+        return slots.size();
+    }
+
+    /**
+     *
+     * @param identifier
+     * @return the slot of the given bean identifier or -1 if the bean has no slot
+     */
+    public int getSlot(BeanIdentifier identifier) {
+        checkIsBuilt();
+        Integer slot = slots.get(identifier);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    /**
+     *
+     * @param slot
+     * @return the bean identifier the given slot is assigned to
+     */
+    public BeanIdentifier getIdentifier(int slot) {
+        checkIsBuilt();
+        return identifiers[slot];
+    }
+
+    @Override
+    public void cleanup() {
+        slots = null;
+        identifiers = null;
+    }
+
+    private void checkIsBuilt() {
+        if (!isBuilt()) {
+            throw new IllegalStateException("Bean store index not built!");
+        }
+    }
+
+    private static boolean isIndexedScope(Bean<?> bean) {
+        return RequestScoped.class.equals(bean.getScope()) || SessionScoped.class.equals(bean.getScope())
+                || ConversationScoped.class.equals(bean.getScope());
+    }
+
+    @Override
+    public String toString() {
+        return "BeanStoreIndex [slots=" + (slots != null ? slots.size() : "not built") + "]";
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A BeanStore which stores the instances of indexed beans in an array, using the slot assigned to the bean identifier by the
+ * {@link BeanStoreIndex}. Instances of beans which are not indexed are stored in an overflow map.
+ * <p>
+ * The index is only used if it's built already when the bean store is created. Otherwise this bean store behaves like
+ * {@link HashMapBeanStore}. Both the array and the overflow map are only allocated when needed. The array is sized to the
+ * highest slot used and grows on demand, so that a store which holds a few instances stays small even if the deployment
+ * declares many beans.
+ * </p>
+ * <p>
+ * This class is not threadsafe
+ * </p>
+ */
+public class IndexedBeanStore implements BeanStore {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final BeanStoreIndex index;
+
+    private final int indexSize;
+
+    private ContextualInstance<?>[] instances;
+
+    // The number of instances in the array
+    private int size;
+
+    // All the slots above the high-water mark are empty
+    private int highWaterMark;
+
+    private Map<BeanIdentifier, ContextualInstance<?>> overflow;
+
+    /**
+     *
+     * @param index the bean store index, may be null
+     */
+    public IndexedBeanStore(BeanStoreIndex index) {
+        this.index = (index != null && index.isBuilt() && index.size() > 0) ? index : null;
+        this.indexSize = this.index != null ? this.index.size() : 0;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            return slot < highWaterMark ? cast(instances[slot]) : null;
+        }
+        return overflow != null ? cast(overflow.get(id)) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(instances, 0, highWaterMark, null);
+            size = 0;
+        }
+        highWaterMark = 0;
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            ensureCapacity(slot + 1);
+            if (instances[slot] == null) {
+                size++;
+            }
+            instances[slot] = contextualInstance;
+            if (slot >= highWaterMark) {
+                highWaterMark = slot + 1;
+            }
+        } else {
+            if (overflow == null) {
+                overflow = new HashMap<>();
+            }
+            overflow.put(id, contextualInstance);
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            return slot < highWaterMark ? cast(removeSlot(slot)) : null;
+        }
+        return overflow != null ? cast(overflow.remove(id)) : null;
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return null;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if there is no instance in this bean store, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0 && (overflow == null || overflow.isEmpty());
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        return new IdentifierIterator();
+    }
+
+    @Override
+    public String toString() {
+        return "holding " + (size + (overflow != null ? overflow.size() : 0)) + " instances";
+    }
+
+    private int slotOf(BeanIdentifier id) {
+        return index != null ? index.getSlot(id) : BeanStoreIndex.NO_SLOT;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (instances == null) {
+            instances = new ContextualInstance<?>[Math.min(indexSize, Math.max(capacity, MIN_CAPACITY))];
+        } else if (capacity > instances.length) {
+            instances = Arrays.copyOf(instances, Math.min(indexSize, Math.max(capacity, instances.length * 2)));
+        }
+    }
+
+    private ContextualInstance<?> removeSlot(int slot) {
+        ContextualInstance<?> instance = instances[slot];
+        if (instance != null) {
+            instances[slot] = null;
+            size--;
+        }
+        return instance;
+    }
+
+    /**
+     * Iterates over the indexed instances first and then over the overflow map.
+     */
+    private class IdentifierIterator implements Iterator<BeanIdentifier> {
+
+        private static final int NONE = -1;
+
+        private static final int OVERFLOW = -2;
+
+        private int next;
+
+        // The slot of the last returned indexed identifier, OVERFLOW or NONE
+        private int current = NONE;
+
+        private Iterator<BeanIdentifier> overflowIterator;
+
+        private IdentifierIterator() {
+            this.next = advance(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next >= 0) {
+                return true;
+            }
+            if (overflowIterator == null) {
+                if (overflow == null) {
+                    return false;
+                }
+                overflowIterator = overflow.keySet().iterator();
+            }
+            return overflowIterator.hasNext();
+        }
+
+        @Override
+        public BeanIdentifier next() {
+            if (next >= 0) {
+                current = next;
+                next = advance(next + 1);
+                return index.getIdentifier(current);
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = OVERFLOW;
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (current >= 0) {
+                removeSlot(current);
+                current = NONE;
+            } else if (current == OVERFLOW) {
+                overflowIterator.remove();
+                current = NONE;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private int advance(int from) {
+            if (size > 0) {
+                for (int i = from; i < highWaterMark; i++) {
+                    if (instances[i] != null) {
+                        return i;
+                    }
+                }
+            }
+            return NONE;
+        }
+    }
+
+}
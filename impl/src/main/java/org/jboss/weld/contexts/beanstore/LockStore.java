@@ -18,16 +18,18 @@
 package org.jboss.weld.contexts.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
  * Helper class for bean store creation locking.
+ * <p>
+ * There is one lock per bean identifier which is only held in the map while some thread owns or waits for it. The reference
+ * count of a lock is only modified within an atomic {@link ConcurrentMap#compute(Object, java.util.function.BiFunction)}
+ * operation so that threads creating different beans do not contend.
  *
  * @author Stuart Douglas
  * @author Marko Luksa
@@ -36,29 +38,28 @@ public class LockStore implements Serializable {
 
     private static final long serialVersionUID = -698649566870070414L;
 
-    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private final transient ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if (locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
+        ReferenceCountedLock refLock = locks.compute(id, (key, value) -> {
+            if (value == null) {
+                return new ReferenceCountedLock(key);
             }
-        }
+            value.count++;
+            return value;
+        });
         refLock.lock.lock();
         return refLock;
     }
 
+    private Object readResolve() {
+        // Locks are never held across serialization
+        return new LockStore();
+    }
+
     private class ReferenceCountedLock implements LockedBean {
         private final BeanIdentifier key;
+        // Guarded by the map entry of the key
         int count = 1;
         final ReentrantLock lock = new ReentrantLock();
 
@@ -67,13 +68,8 @@ public class LockStore implements Serializable {
         }
 
         public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
-            }
+            lock.unlock();
+            locks.computeIfPresent(key, (id, value) -> --value.count == 0 ? null : value);
         }
     }
 
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Caches contextual instances of request, session and conversation scoped beans over the life of a request. Each bean is
+ * assigned a slot in a per-thread array so that a lookup from a client proxy is a single {@link ThreadLocal} access followed by
+ * an array access, regardless of the number of cached beans.
+ * <p>
+ * The array is only created while the {@link RequestScopedCache} is active and is discarded when the request ends or the
+ * cache is invalidated. It is sized to the highest slot used within the request and grows on demand.
+ *
+ * @see org.jboss.weld.bean.ContextualInstanceStrategy
+ */
+public class RequestScopedInstanceSlots implements Service {
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    private final ThreadLocal<Object[]> slots = new ThreadLocal<Object[]>();
+
+    private final RequestScopedItem invalidation = slots::remove;
+
+    /**
+     *
+     * @return a new slot
+     */
+    public int nextSlot() {
+        return nextSlot.getAndIncrement();
+    }
+
+    /**
+     *
+     * @param slot
+     * @return the instance cached in the given slot or <code>null</code>
+     */
+    public Object get(int slot) {
+        Object[] values = slots.get();
+        return values != null && slot < values.length ? values[slot] : null;
+    }
+
+    /**
+     * The instance is only cached if the {@link RequestScopedCache} is active.
+     *
+     * @param slot
+     * @param instance
+     */
+    public void put(int slot, Object instance) {
+        Object[] values = slots.get();
+        if (values == null) {
+            if (!RequestScopedCache.addItemIfActive(invalidation)) {
+                return;
+            }
+            // Sized to the slots actually used, not to all the cacheable beans of the deployment
+            values = new Object[slot + 1];
+            slots.set(values);
+        } else if (slot >= values.length) {
+            values = Arrays.copyOf(values, Math.max(Math.min(values.length * 2, nextSlot.get()), slot + 1));
+            slots.set(values);
+        }
+        values[slot] = instance;
+    }
+
+    @Override
+    public void cleanup() {
+        // The slots of the current thread, other threads discard their slots when the request ends
+        slots.remove();
+    }
+
+}
@@ -98,6 +98,13 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         }
     }
 
+    private void notifyConversationContextEnded() {
+        ConversationContext context = getActiveConversationContext();
+        if (context instanceof AbstractConversationContext) {
+            ((AbstractConversationContext<?, ?>) context).conversationEnded(this);
+        }
+    }
+
     @Override
     public void end() {
         verifyConversationContextActive();
@@ -105,6 +112,7 @@ public class ConversationImpl implements ManagedConversation, Serializable {
             throw ConversationLogger.LOG.endCalledOnTransientConversation();
         }
         ConversationLogger.LOG.demotedLongRunningConversation(id);
+        notifyConversationContextEnded();
         _transient = true;
     }
 
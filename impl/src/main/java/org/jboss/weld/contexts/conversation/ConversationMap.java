@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.conversation;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.weld.context.ManagedConversation;
+
+/**
+ * The map of long-running conversations stored in the session. Besides the conversations the map maintains an index ordered
+ * by the expiration time and a set of conversations which were ended. Therefore, the cleanup performed at the end of each
+ * request only needs to visit the expired and ended conversations instead of all the conversations of the session.
+ * <p>
+ * All the operations are synchronized on the map itself. Similarly to {@link Collections#synchronizedMap(Map)}, the map must
+ * be manually synchronized on when iterating over any of its collection views.
+ * <p>
+ * The index is updated whenever a conversation is put in the map or {@link #touched(String)} is called. If a conversation is
+ * touched without notifying the map, its expiration time recorded in the index is earlier than the actual one - the
+ * conversation is returned from {@link #pollExpired(long)} and the caller is expected to check the actual expiration time.
+ */
+public class ConversationMap extends AbstractMap<String, ManagedConversation> implements Serializable {
+
+    private static final long serialVersionUID = 4853497227018384155L;
+
+    private final Map<String, ManagedConversation> conversations;
+
+    private final TreeSet<Expiry> expiries;
+
+    private final Map<String, Expiry> expiryById;
+
+    private final Set<String> ended;
+
+    public ConversationMap() {
+        this.conversations = new HashMap<>();
+        this.expiries = new TreeSet<>();
+        this.expiryById = new HashMap<>();
+        this.ended = new HashSet<>();
+    }
+
+    @Override
+    public synchronized int size() {
+        return conversations.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return conversations.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return conversations.containsKey(key);
+    }
+
+    @Override
+    public synchronized ManagedConversation get(Object key) {
+        return conversations.get(key);
+    }
+
+    @Override
+    public synchronized ManagedConversation put(String id, ManagedConversation conversation) {
+        ended.remove(id);
+        index(id, conversation);
+        return conversations.put(id, conversation);
+    }
+
+    @Override
+    public synchronized ManagedConversation remove(Object key) {
+        ended.remove(key);
+        Expiry expiry = expiryById.remove(key);
+        if (expiry != null) {
+            expiries.remove(expiry);
+        }
+        return conversations.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        conversations.clear();
+        expiries.clear();
+        expiryById.clear();
+        ended.clear();
+    }
+
+    /**
+     * Entries removed through this view are not removed from the index until they expire.
+     */
+    @Override
+    public Set<Entry<String, ManagedConversation>> entrySet() {
+        return conversations.entrySet();
+    }
+
+    /**
+     * Updates the expiration time of the given conversation, e.g. after it was touched or its timeout changed. The conversation
+     * context must be active.
+     *
+     * @param id
+     */
+    public synchronized void touched(String id) {
+        ManagedConversation conversation = conversations.get(id);
+        if (conversation != null) {
+            index(id, conversation);
+        }
+    }
+
+    /**
+     * Records that the conversation with the given id was ended so that it's returned from {@link #removeEnded()}.
+     *
+     * @param id
+     */
+    public synchronized void ended(String id) {
+        if (conversations.containsKey(id)) {
+            ended.add(id);
+        }
+    }
+
+    /**
+     * The returned conversations are removed from the index but not from the map. A conversation which should not be destroyed
+     * must be indexed again, see {@link #touched(String)}.
+     *
+     * @param now
+     * @return the conversations whose expiration time recorded in the index is earlier than the given time
+     */
+    public synchronized Map<String, ManagedConversation> pollExpired(long now) {
+        Map<String, ManagedConversation> expired = null;
+        Iterator<Expiry> iterator = expiries.iterator();
+        while (iterator.hasNext()) {
+            Expiry expiry = iterator.next();
+            if (expiry.time >= now) {
+                break;
+            }
+            iterator.remove();
+            expiryById.remove(expiry.id);
+            ManagedConversation conversation = conversations.get(expiry.id);
+            if (conversation != null) {
+                if (expired == null) {
+                    expired = new HashMap<>();
+                }
+                expired.put(expiry.id, conversation);
+            }
+        }
+        return expired != null ? expired : Collections.emptyMap();
+    }
+
+    /**
+     * The conversation context must be active.
+     *
+     * @return the conversations which were ended and are still transient, the conversations are removed from the map
+     */
+    public synchronized Map<String, ManagedConversation> removeEnded() {
+        if (ended.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, ManagedConversation> removed = new HashMap<>();
+        for (String id : ended.toArray(new String[0])) {
+            ManagedConversation conversation = conversations.get(id);
+            if (conversation != null && conversation.isTransient()) {
+                remove(id);
+                removed.put(id, conversation);
+            }
+        }
+        ended.clear();
+        return removed;
+    }
+
+    private void index(String id, ManagedConversation conversation) {
+        Expiry previous = expiryById.get(id);
+        if (previous != null) {
+            expiries.remove(previous);
+        }
+        long lastUsed = conversation.getLastUsed();
+        long timeout = conversation.getTimeout();
+        // Avoid overflow, such conversation never expires
+        Expiry expiry = new Expiry(timeout > Long.MAX_VALUE - lastUsed ? Long.MAX_VALUE : lastUsed + timeout, id);
+        expiries.add(expiry);
+        expiryById.put(id, expiry);
+    }
+
+    private static final class Expiry implements Comparable<Expiry>, Serializable {
+
+        private static final long serialVersionUID = -3178458234467416329L;
+
+        private final long time;
+
+        private final String id;
+
+        private Expiry(long time, String id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Expiry)) {
+                return false;
+            }
+            Expiry other = (Expiry) obj;
+            return time == other.time && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(time) * 31 + id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return id + "=" + time;
+        }
+    }
+
+}
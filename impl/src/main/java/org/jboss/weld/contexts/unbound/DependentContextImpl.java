@@ -35,6 +35,7 @@ import org.jboss.weld.contexts.WeldCreationalContext;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.injection.producer.BasicInjectionTarget;
+import org.jboss.weld.metrics.ContainerMetrics;
 import org.jboss.weld.serialization.spi.ContextualStore;
 
 /**
@@ -46,8 +47,20 @@ public class DependentContextImpl implements DependentContext {
 
     private final ContextualStore contextualStore;
 
+    private final ContainerMetrics metrics;
+
     public DependentContextImpl(ContextualStore contextualStore) {
+        this(contextualStore, null);
+    }
+
+    /**
+     *
+     * @param contextualStore
+     * @param metrics the metrics or <code>null</code> if no metrics are recorded
+     */
+    public DependentContextImpl(ContextualStore contextualStore, ContainerMetrics metrics) {
         this.contextualStore = contextualStore;
+        this.metrics = metrics;
     }
 
     /**
@@ -61,7 +74,17 @@ public class DependentContextImpl implements DependentContext {
             throw new ContextNotActiveException();
         }
         if (creationalContext != null) {
-            T instance = contextual.create(creationalContext);
+            T instance;
+            if (metrics == null) {
+                instance = contextual.create(creationalContext);
+            } else {
+                long start = System.nanoTime();
+                try {
+                    instance = contextual.create(creationalContext);
+                } finally {
+                    metrics.beanInstanceCreated(contextual, System.nanoTime() - start);
+                }
+            }
             if (creationalContext instanceof WeldCreationalContext<?>) {
                 addDependentInstance(instance, contextual, (WeldCreationalContext<T>) creationalContext);
             }
@@ -73,7 +96,7 @@ public class DependentContextImpl implements DependentContext {
 
     protected <T> void addDependentInstance(T instance, Contextual<T> contextual, WeldCreationalContext<T> creationalContext) {
         // by this we are making sure that the dependent instance has no transitive dependency with @PreDestroy / disposal method
-        if (creationalContext.getDependentInstances().isEmpty()) {
+        if (!creationalContext.hasDependentInstances()) {
             if (contextual instanceof ManagedBean<?> && !isInterceptorOrDecorator(contextual)) {
                 ManagedBean<?> managedBean = (ManagedBean<?>) contextual;
                 if (managedBean.getProducer() instanceof BasicInjectionTarget<?>) {
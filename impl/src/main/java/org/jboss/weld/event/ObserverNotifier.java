@@ -46,6 +46,8 @@ import jakarta.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.events.WeldNotificationOptions;
@@ -54,6 +56,7 @@ import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
 import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.logging.UtilLogger;
 import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.metrics.ContainerMetrics;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
@@ -65,6 +68,7 @@ import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.Types;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
 import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -93,6 +97,10 @@ public class ObserverNotifier {
     private final ScheduledExecutorService timerExecutor;
     private final SecurityServices securityServices;
     private final LazyValueHolder<RequestContext> requestContextHolder;
+    // Resolved observers for event types which are classes, only used once the dispatch table is enabled
+    private final ComputingCache<EventDispatchKey, ResolvedObservers<?>> dispatchTable;
+    private volatile boolean dispatchTableEnabled;
+    private final ContainerMetrics metrics;
 
     protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
@@ -115,6 +123,12 @@ public class ObserverNotifier {
         this.requestContextHolder = LazyValueHolder
                 .forSupplier(() -> Container.instance(contextId).deploymentManager().instance()
                         .select(RequestContext.class, UnboundLiteral.INSTANCE).get());
+        WeldConfiguration configuration = services.get(WeldConfiguration.class);
+        this.dispatchTable = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .recordStatistics(configuration.getBooleanProperty(ConfigurationKey.CACHE_STATISTICS))
+                .build(this::resolveDispatchTableEntry);
+        this.metrics = ContainerMetrics.getActive(services);
     }
 
     /**
@@ -126,6 +140,10 @@ public class ObserverNotifier {
      * @return resolved observer methods
      */
     public <T> ResolvedObservers<T> resolveObserverMethods(Type eventType, Annotation... qualifiers) {
+        if (dispatchTableEnabled && eventType instanceof Class<?>) {
+            // Set.of() rejects duplicate qualifiers
+            return cast(dispatchTable.getValue(new EventDispatchKey((Class<?>) eventType, Set.of(qualifiers))));
+        }
         checkEventObjectType(eventType);
         return this.<T> resolveObserverMethods(buildEventResolvable(eventType, qualifiers));
     }
@@ -139,6 +157,9 @@ public class ObserverNotifier {
      * @return resolved observer methods
      */
     public <T> ResolvedObservers<T> resolveObserverMethods(Type eventType, Set<Annotation> qualifiers) {
+        if (dispatchTableEnabled && eventType instanceof Class<?>) {
+            return cast(dispatchTable.getValue(new EventDispatchKey((Class<?>) eventType, qualifiers)));
+        }
         checkEventObjectType(eventType);
         return this.<T> resolveObserverMethods(buildEventResolvable(eventType, qualifiers));
     }
@@ -180,9 +201,7 @@ public class ObserverNotifier {
     }
 
     public void fireEvent(Type eventType, Object event, EventMetadata metadata, Annotation... qualifiers) {
-        checkEventObjectType(eventType);
-        // we use the array of qualifiers for resolution so that we can catch duplicate qualifiers
-        notify(resolveObserverMethods(buildEventResolvable(eventType, qualifiers)), event, metadata);
+        notify(resolveObserverMethods(eventType, qualifiers), event, metadata);
     }
 
     /**
@@ -216,11 +235,52 @@ public class ObserverNotifier {
         return buildEventResolvable(eventType, Set.of(qualifiers));
     }
 
+    /**
+     * Enables the candidates index of the observer method resolver. Must only be called once all observer methods are
+     * registered.
+     */
+    public void enableResolutionIndex() {
+        resolver.enableIndex();
+    }
+
+    /**
+     * Enables the dispatch table for event types which are classes. A lookup in the dispatch table does not need to build a
+     * {@link Resolvable}, the event type and qualifiers are used as the key directly. Parameterized event types are always
+     * resolved through the observer method resolver. Must only be called once all observer methods are registered.
+     */
+    public void enableDispatchTable() {
+        this.dispatchTableEnabled = true;
+    }
+
+    /**
+     *
+     * @return the statistics of the observer method resolver cache or <code>null</code> if statistics are not recorded
+     * @see ConfigurationKey#CACHE_STATISTICS
+     */
+    public ComputingCacheStatistics getResolverCacheStatistics() {
+        return resolver.getCacheStatistics();
+    }
+
+    /**
+     *
+     * @return the statistics of the dispatch table or <code>null</code> if statistics are not recorded
+     * @see ConfigurationKey#CACHE_STATISTICS
+     */
+    public ComputingCacheStatistics getDispatchTableStatistics() {
+        return dispatchTable.getStatistics();
+    }
+
+    private ResolvedObservers<?> resolveDispatchTableEntry(EventDispatchKey key) {
+        checkEventObjectType(key.eventType);
+        return resolveObserverMethods(buildEventResolvable(key.eventType, key.qualifiers));
+    }
+
     /**
      * Clears cached observer method resolutions and event type checks.
      */
     public void clear() {
         resolver.clear();
+        dispatchTable.clear();
         if (eventTypeCheckCache != null) {
             eventTypeCheckCache.clear();
         }
@@ -290,6 +350,9 @@ public class ObserverNotifier {
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
+        if (metrics != null) {
+            metrics.eventFired(event.getClass());
+        }
         notifySyncObservers(observers.getImmediateSyncObservers(), event, metadata, ObserverExceptionHandler.IMMEDIATE_HANDLER);
         notifyTransactionObservers(observers.getTransactionObservers(), event, metadata,
                 ObserverExceptionHandler.IMMEDIATE_HANDLER);
@@ -304,7 +367,7 @@ public class ObserverNotifier {
         try {
             for (ObserverMethod<? super T> observer : observers) {
                 try {
-                    Observers.notify(observer, event, metadata);
+                    notifyObserver(observer, event, metadata);
                 } catch (Throwable throwable) {
                     handler.handle(throwable);
                 }
@@ -314,6 +377,19 @@ public class ObserverNotifier {
         }
     }
 
+    private <T> void notifyObserver(ObserverMethod<? super T> observer, T event, EventMetadata metadata) {
+        if (metrics == null) {
+            Observers.notify(observer, event, metadata);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Observers.notify(observer, event, metadata);
+        } finally {
+            metrics.observerNotified(observer, System.nanoTime() - start);
+        }
+    }
+
     protected <T> void notifyTransactionObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata,
             ObserverExceptionHandler handler) {
         notifySyncObservers(observers, event, metadata, ObserverExceptionHandler.IMMEDIATE_HANDLER); // no transaction support
@@ -343,6 +419,9 @@ public class ObserverNotifier {
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
+        if (metrics != null) {
+            metrics.eventFired(event.getClass());
+        }
         return notifyAsyncObservers(observers.getAsyncObservers(), event, metadata, options.getExecutor(), options);
     }
 
@@ -445,7 +524,7 @@ public class ObserverNotifier {
     private <T, U extends T> void notifyAsyncObserver(ObserverMethod<? super T> observer, U event, EventMetadata metadata,
             ObserverExceptionHandler exceptionHandler) {
         try {
-            Observers.notify(observer, event, metadata);
+            notifyObserver(observer, event, metadata);
         } catch (Throwable e) {
             exceptionHandler.handle(e);
         }
@@ -560,4 +639,39 @@ public class ObserverNotifier {
             return throwables;
         }
     }
+
+    private static final class EventDispatchKey {
+
+        private final Class<?> eventType;
+        private final Set<Annotation> qualifiers;
+        private final int hashCode;
+
+        private EventDispatchKey(Class<?> eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventDispatchKey)) {
+                return false;
+            }
+            EventDispatchKey that = (EventDispatchKey) obj;
+            return eventType.equals(that.eventType) && qualifiers.equals(that.qualifiers);
+        }
+
+        @Override
+        public String toString() {
+            return "EventDispatchKey [eventType=" + eventType + ", qualifiers=" + qualifiers + "]";
+        }
+    }
 }
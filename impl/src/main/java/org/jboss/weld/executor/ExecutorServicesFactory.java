@@ -36,14 +36,14 @@ public class ExecutorServicesFactory {
                 .getLongProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_KEEP_ALIVE_TIME);
 
         if (debug) {
-            return enableDebugMode(constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime));
+            return enableDebugMode(constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime, true));
         } else {
-            return constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime);
+            return constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime, false);
         }
     }
 
     private static ExecutorServices constructExecutorServices(ThreadPoolType type, int threadPoolSize,
-            long threadPoolKeepAliveTime) {
+            long threadPoolKeepAliveTime, boolean debug) {
         switch (type) {
             case NONE:
                 return null;
@@ -53,6 +53,12 @@ public class ExecutorServicesFactory {
                 return new TimingOutFixedThreadPoolExecutorServices(threadPoolSize, threadPoolKeepAliveTime);
             case COMMON:
                 return new CommonForkJoinPoolExecutorServices();
+            case VIRTUAL:
+                if (VirtualThreadExecutorServices.isSupported()) {
+                    return new VirtualThreadExecutorServices(debug);
+                }
+                BootstrapLogger.LOG.virtualThreadsNotSupported(ThreadPoolType.FIXED);
+                return new FixedThreadPoolExecutorServices(threadPoolSize);
             default:
                 return new FixedThreadPoolExecutorServices(threadPoolSize);
         }
@@ -90,6 +96,7 @@ public class ExecutorServicesFactory {
         FIXED_TIMEOUT,
         NONE,
         SINGLE_THREAD,
-        COMMON
+        COMMON,
+        VIRTUAL
     }
 }
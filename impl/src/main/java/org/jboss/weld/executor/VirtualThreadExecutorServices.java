@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Implementation of {@link ExtendedExecutorServices} that starts a new virtual thread for each task. Virtual threads are
+ * cheap to create and to block, therefore asynchronous observers which wait for I/O do not queue up behind a small number of
+ * platform threads. This implementation ignores the threadPoolSize and threadPoolKeepAliveTime configuration options.
+ * <p>
+ * Virtual threads are only available on Java 21 and newer and are looked up reflectively, see {@link #isSupported()}.
+ * Optionally, a {@link VirtualThreadPinningMonitor} reports virtual threads pinned to their carrier while executing Weld
+ * code, e.g. an interceptor invoked while a monitor is held.
+ *
+ */
+public class VirtualThreadExecutorServices extends AbstractExecutorServices {
+
+    static final String THREAD_NAME_PREFIX = "weld-vworker-";
+
+    private static final MethodHandle EXECUTOR_FACTORY = initExecutorFactory();
+
+    private final ExecutorService executor;
+
+    private final int parallelism;
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    /**
+     *
+     * @param detectPinning if set to <code>true</code> virtual threads pinned to the carrier thread while executing Weld code
+     *        are logged
+     */
+    public VirtualThreadExecutorServices(boolean detectPinning) {
+        if (EXECUTOR_FACTORY == null) {
+            throw new IllegalStateException("Virtual threads are not supported by the current JVM");
+        }
+        try {
+            this.executor = (ExecutorService) EXECUTOR_FACTORY.invokeExact(THREAD_NAME_PREFIX, 0L);
+        } catch (Throwable e) {
+            throw new WeldException(e);
+        }
+        // Bootstrap tasks are CPU-bound, there is no point in splitting the work into more chunks than there are carriers
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.pinningMonitor = detectPinning ? VirtualThreadPinningMonitor.start() : null;
+        BootstrapLogger.LOG.virtualThreadsInUse();
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the current JVM supports virtual threads, <code>false</code> otherwise
+     */
+    public static boolean isSupported() {
+        return EXECUTOR_FACTORY != null;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return executor;
+    }
+
+    @Override
+    protected int getThreadPoolSize() {
+        return parallelism;
+    }
+
+    @Override
+    public void cleanup() {
+        try {
+            super.cleanup();
+        } finally {
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorServices [parallelism=" + parallelism + ", pinningMonitor=" + (pinningMonitor != null)
+                + "]";
+    }
+
+    /**
+     * Equivalent to <code>Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, start).factory())</code>.
+     *
+     * @return the method handle or <code>null</code> if virtual threads are not supported
+     */
+    private static MethodHandle initExecutorFactory() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            MethodHandle name = lookup.findVirtual(ofVirtualClass, "name",
+                    MethodType.methodType(ofVirtualClass, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class))
+                    .asType(MethodType.methodType(ThreadFactory.class, ofVirtualClass));
+            MethodHandle newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            // (String, long) -> OfVirtual -> ThreadFactory -> ExecutorService
+            MethodHandle handle = MethodHandles.foldArguments(name, ofVirtual);
+            handle = MethodHandles.filterReturnValue(handle, factory);
+            return MethodHandles.filterReturnValue(handle, newThreadPerTaskExecutor);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
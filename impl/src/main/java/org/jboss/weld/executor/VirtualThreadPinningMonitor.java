@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jboss.weld.logging.BootstrapLogger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Listens to the <code>jdk.VirtualThreadPinned</code> JFR event and logs a warning if a virtual thread executed by
+ * {@link VirtualThreadExecutorServices} was pinned to its carrier thread while executing Weld code. A virtual thread is pinned
+ * e.g. if it blocks inside a <code>synchronized</code> block, which is typically an interceptor or an observer invoked while
+ * a monitor is held. Pinned threads block carrier threads and may cause the whole virtual thread scheduler to starve.
+ * <p>
+ * This class is only loaded if the detection is enabled so that the <code>jdk.jfr</code> module is not required otherwise.
+ *
+ */
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private static final String WELD_PACKAGE_PREFIX = "org.jboss.weld.";
+
+    private static final int MAX_FRAMES = 20;
+
+    private final RecordingStream stream;
+
+    private VirtualThreadPinningMonitor(RecordingStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     *
+     * @return the started monitor or <code>null</code> if JFR is not available
+     */
+    static VirtualThreadPinningMonitor start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withStackTrace().withThreshold(THRESHOLD);
+            stream.onEvent(PINNED_EVENT, VirtualThreadPinningMonitor::onPinned);
+            stream.startAsync();
+            return new VirtualThreadPinningMonitor(stream);
+        } catch (Throwable e) {
+            // JFR may be disabled or unavailable, e.g. in a native image
+            BootstrapLogger.LOG.unableToStartVirtualThreadPinningMonitor(e);
+            return null;
+        }
+    }
+
+    static void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null || thread.getJavaName() == null
+                || !thread.getJavaName().startsWith(VirtualThreadExecutorServices.THREAD_NAME_PREFIX)) {
+            return;
+        }
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || !containsWeldFrame(stackTrace.getFrames())) {
+            return;
+        }
+        BootstrapLogger.LOG.virtualThreadPinned(thread.getJavaName(), event.getDuration().toMillis(),
+                toString(stackTrace.getFrames()));
+    }
+
+    private static boolean containsWeldFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(WELD_PACKAGE_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toString(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int limit = Math.min(frames.size(), MAX_FRAMES);
+        for (int i = 0; i < limit; i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append("\tat ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName());
+            if (frame.getLineNumber() >= 0) {
+                builder.append(':').append(frame.getLineNumber());
+            }
+            builder.append('\n');
+        }
+        if (frames.size() > limit) {
+            builder.append("\t...");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
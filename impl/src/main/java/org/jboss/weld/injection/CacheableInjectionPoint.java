@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.config.ConfigurationKey;
+
+/**
+ * An injection point which remembers the bean it resolves to so that subsequent injections do not need to consult the type
+ * safe resolver. Injection points of type {@link InjectionPoint} or {@link jakarta.enterprise.inject.Instance} and delegate
+ * injection points are never cached.
+ * <p>
+ * By default, the resolved bean is cached with the first injection. If {@link ConfigurationKey#INJECTION_POINT_PRE_RESOLUTION}
+ * is enabled, the bean resolved during validation is stored right away and the resolver is never used for the injection
+ * point at runtime.
+ */
+public interface CacheableInjectionPoint extends InjectionPoint {
+
+    /**
+     *
+     * @return <code>true</code> if the resolved bean may be cached, <code>false</code> otherwise
+     */
+    boolean isCacheable();
+
+    /**
+     *
+     * @return the cached resolved bean or <code>null</code> if no bean was cached yet
+     */
+    Bean<?> getCachedBean();
+
+    /**
+     * Stores the bean the injection point resolves to. Must only be called once the set of beans is final, i.e. the deployment
+     * is validated. No-op if the injection point is not {@link #isCacheable() cacheable}.
+     *
+     * @param bean the resolved bean
+     */
+    void setCachedBean(Bean<?> bean);
+
+}
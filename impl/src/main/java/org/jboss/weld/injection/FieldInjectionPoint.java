@@ -41,7 +41,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The bean cache is loaded lazily.")
 public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttributes<T, Field>
-        implements WeldInjectionPointAttributes<T, Field>, Serializable {
+        implements WeldInjectionPointAttributes<T, Field>, CacheableInjectionPoint, Serializable {
 
     /**
      * Creates an injection point without firing the {@link ProcessInjectionPoint} event.
@@ -98,6 +98,23 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         }
     }
 
+    @Override
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    @Override
+    public Bean<?> getCachedBean() {
+        return cachedBean;
+    }
+
+    @Override
+    public void setCachedBean(Bean<?> bean) {
+        if (cacheable) {
+            this.cachedBean = bean;
+        }
+    }
+
     @Override
     protected FieldInjectionPointAttributes<T, X> delegate() {
         return attributes;
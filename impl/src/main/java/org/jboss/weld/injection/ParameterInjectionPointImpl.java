@@ -35,7 +35,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "cachedBean field is loaded lazily")
 public class ParameterInjectionPointImpl<T, X> extends ForwardingInjectionPointAttributes<T, Object>
-        implements ParameterInjectionPoint<T, X>, Serializable {
+        implements ParameterInjectionPoint<T, X>, CacheableInjectionPoint, Serializable {
 
     private static final long serialVersionUID = -8354344628345860324L;
 
@@ -56,6 +56,23 @@ public class ParameterInjectionPointImpl<T, X> extends ForwardingInjectionPointA
         this.cacheable = isCacheableInjectionPoint(attributes);
     }
 
+    @Override
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    @Override
+    public Bean<?> getCachedBean() {
+        return cachedBean;
+    }
+
+    @Override
+    public void setCachedBean(Bean<?> bean) {
+        if (cacheable) {
+            this.cachedBean = bean;
+        }
+    }
+
     @Override
     protected ParameterInjectionPointAttributes<T, X> delegate() {
         return attributes;
@@ -63,25 +63,40 @@ abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
         if (chain.size() == 1) {
             return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings,
-                    currentHandler);
+                    currentHandler, stack);
         } else {
             return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain,
-                    currentHandler);
+                    currentHandler, stack);
         }
     }
 
     final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
 
+    // The stack of the thread which started the invocation
+    final Stack stack;
+
+    // The first context of the chain which holds the context data shared by the whole chain, null if this is the first one
+    final AroundInvokeInvocationContext first;
+
     AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack,
+            AroundInvokeInvocationContext first) {
         super(target, method, proceed, parameters, contextData, interceptorBindings);
         this.currentHandler = currentHandler;
+        this.stack = stack;
+        this.first = first;
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        // The context data map is created lazily and shared by all the contexts of the chain
+        return first != null ? first.getContextData() : super.getContextData();
     }
 
     @Override
     public Object proceed() throws Exception {
-        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
+        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(this.stack, currentHandler);
         try {
             return proceedInternal();
         } catch (InvocationTargetException e) {
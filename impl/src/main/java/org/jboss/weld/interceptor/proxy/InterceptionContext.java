@@ -121,6 +121,10 @@ public class InterceptionContext implements Serializable {
         return interceptionModel;
     }
 
+    public BeanManagerImpl getManager() {
+        return manager;
+    }
+
     public <T> T getInterceptorInstance(InterceptorClassMetadata<T> interceptorMetadata) {
         return cast(interceptorInstances.get(interceptorMetadata.getKey()));
     }
@@ -17,6 +17,7 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.bean.proxy.StackAwareMethodHandler;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.jboss.weld.metrics.ContainerMetrics;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -30,10 +31,12 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
 
     private final InterceptionContext ctx;
     private final transient ConcurrentMap<Method, CachedInterceptionChain> cachedChains;
+    private final transient ContainerMetrics metrics;
 
     public InterceptorMethodHandler(InterceptionContext ctx) {
         this.ctx = ctx;
         this.cachedChains = new ConcurrentHashMap<Method, CachedInterceptionChain>();
+        this.metrics = ContainerMetrics.getActive(ctx.getManager().getServices());
     }
 
     @Override
@@ -86,10 +89,15 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             CachedInterceptionChain chain, Stack stack) throws Throwable {
         org.jboss.weld.interceptor.WeldInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods,
                 chain.interceptorBindings, stack);
+        long start = metrics != null ? System.nanoTime() : 0L;
         try {
             return chain.interceptorMethods.get(0).invoke(ctx);
         } catch (InvocationTargetException e) {
             throw e.getCause();
+        } finally {
+            if (metrics != null) {
+                metrics.interceptorChainInvoked(method, System.nanoTime() - start);
+            }
         }
     }
 
@@ -19,12 +19,12 @@ package org.jboss.weld.interceptor.proxy;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.interceptor.WeldInvocationContext;
 
 /**
@@ -46,22 +46,21 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
 
     public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Set<Annotation> interceptorBindings,
-            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain,
-                currentHandler);
+            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            Stack stack) {
+        this(target, method, proceed, parameters, interceptorBindings, 0, chain, currentHandler, stack, null);
     }
 
     public NonTerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData,
-                ctx.getInterceptorBindings(), ctx.position + 1,
-                ctx.chain, ctx.currentHandler);
+        this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.getInterceptorBindings(),
+                ctx.position + 1, ctx.chain, ctx.currentHandler, ctx.stack, ctx.first != null ? ctx.first : ctx);
     }
 
     private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
-            Map<String, Object> contextData,
             Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
-            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack,
+            AroundInvokeInvocationContext first) {
+        super(target, method, proceed, parameters, null, interceptorBindings, currentHandler, stack, first);
         this.position = position;
         this.chain = chain;
     }
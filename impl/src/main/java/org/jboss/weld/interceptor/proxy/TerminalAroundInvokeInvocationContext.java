@@ -25,6 +25,7 @@ import java.util.Set;
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 
 /**
  * The terminal {@link InvocationContext} in the interception chain. It is passed to the last interceptor in the chain and
@@ -40,14 +41,15 @@ class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContex
 
     public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            Stack stack) {
         super(target, method, proceed, parameters, (contextData == null) ? null : new HashMap<String, Object>(contextData),
-                interceptorBindings, currentHandler);
+                interceptorBindings, currentHandler, stack, null);
     }
 
     public TerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData,
-                ctx.getInterceptorBindings(), ctx.currentHandler);
+        super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), null,
+                ctx.getInterceptorBindings(), ctx.currentHandler, ctx.stack, ctx.first != null ? ctx.first : ctx);
     }
 
     @Override
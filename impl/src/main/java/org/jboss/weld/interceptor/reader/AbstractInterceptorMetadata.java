@@ -17,6 +17,7 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -34,8 +35,23 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     protected final Map<InterceptionType, List<Method>> interceptorMethodMap;
 
+    private final Map<Method, MethodHandle> interceptorMethodHandles;
+
     public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        this(interceptorMethodMap, false);
+    }
+
+    /**
+     *
+     * @param interceptorMethodMap
+     * @param methodHandles if set to <code>true</code> interceptor methods are invoked through method handles created eagerly
+     * @see InterceptorMetadataUtils#buildMethodHandleMap(Map)
+     */
+    public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap, boolean methodHandles) {
         this.interceptorMethodMap = interceptorMethodMap;
+        this.interceptorMethodHandles = methodHandles && interceptorMethodMap != null
+                ? InterceptorMetadataUtils.buildMethodHandleMap(interceptorMethodMap)
+                : Collections.<Method, MethodHandle> emptyMap();
     }
 
     public List<Method> getInterceptorMethods(InterceptionType interceptionType) {
@@ -60,7 +76,7 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
     @Override
     public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
         return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType),
-                isTargetClassInterceptor());
+                interceptorMethodHandles, isTargetClassInterceptor());
     }
 
     protected abstract boolean isTargetClassInterceptor();
@@ -38,7 +38,12 @@ public class InterceptorMetadataImpl<T> extends AbstractInterceptorMetadata impl
 
     public InterceptorMetadataImpl(Class<T> javaClass, InterceptorFactory<T> reference,
             Map<InterceptionType, List<Method>> interceptorMethodMap) {
-        super(interceptorMethodMap);
+        this(javaClass, reference, interceptorMethodMap, false);
+    }
+
+    public InterceptorMetadataImpl(Class<T> javaClass, InterceptorFactory<T> reference,
+            Map<InterceptionType, List<Method>> interceptorMethodMap, boolean methodHandles) {
+        super(interceptorMethodMap, methodHandles);
         this.reference = reference;
         this.javaClass = javaClass;
     }
@@ -1,13 +1,20 @@
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionTypeRegistry;
 import org.jboss.weld.logging.ValidatorLogger;
@@ -23,6 +30,10 @@ import org.jboss.weld.util.reflection.Formats;
 public class InterceptorMetadataUtils {
     protected static final String OBJECT_CLASS_NAME = Object.class.getName();
 
+    private static final MethodType INVOCATION_CONTEXT_METHOD_TYPE = MethodType.methodType(Object.class, Object.class,
+            InvocationContext.class);
+    private static final MethodType NO_PARAMETER_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
     private InterceptorMetadataUtils() {
     }
 
@@ -150,4 +161,41 @@ public class InterceptorMetadataUtils {
         }
         return builder.build();
     }
+
+    public static boolean isMethodHandleInvocationEnabled(BeanManagerImpl manager) {
+        return manager.getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES);
+    }
+
+    /**
+     * Interceptor methods are made accessible when the method map is built. The returned handles are adapted to
+     * {@code (Object, InvocationContext)Object} or {@code (Object)Object} if the method declares no parameter. Methods which
+     * cannot be invoked through a method handle are not present in the returned map and are invoked through reflection.
+     *
+     * @param interceptorMethodMap
+     * @return the method handles for the given interceptor methods
+     */
+    public static Map<Method, MethodHandle> buildMethodHandleMap(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        if (interceptorMethodMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<Method, MethodHandle> handles = new HashMap<Method, MethodHandle>();
+        for (List<Method> methods : interceptorMethodMap.values()) {
+            for (Method method : methods) {
+                if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 1) {
+                    continue;
+                }
+                try {
+                    handles.put(method, lookup.unreflect(method)
+                            .asType(method.getParameterCount() == 0 ? NO_PARAMETER_METHOD_TYPE
+                                    : INVOCATION_CONTEXT_METHOD_TYPE));
+                } catch (IllegalAccessException | IllegalArgumentException | SecurityException e) {
+                    // Not accessible or not adaptable - the method will be invoked through reflection
+                    continue;
+                }
+            }
+        }
+        return ImmutableMap.copyOf(handles);
+    }
 }
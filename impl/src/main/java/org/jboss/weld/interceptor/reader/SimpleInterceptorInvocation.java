@@ -17,8 +17,11 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.interceptor.InvocationContext;
 
@@ -38,7 +41,7 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
     private final InterceptionType interceptionType;
 
     public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods,
-            boolean targetClass) {
+            Map<Method, MethodHandle> interceptorMethodHandles, boolean targetClass) {
         this.instance = instance;
         this.interceptionType = interceptionType;
         this.targetClass = targetClass;
@@ -46,16 +49,23 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
         if (interceptorMethods.size() == 1) {
             // Very often there will be only one interceptor method
             interceptorMethodInvocations = ImmutableList
-                    .<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0)));
+                    .<InterceptorMethodInvocation> of(
+                            createMethodInvocation(interceptorMethods.get(0), interceptorMethodHandles));
         } else {
             ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
             for (Method method : interceptorMethods) {
-                builder.add(new SimpleMethodInvocation(method));
+                builder.add(createMethodInvocation(method, interceptorMethodHandles));
             }
             interceptorMethodInvocations = builder.build();
         }
     }
 
+    private InterceptorMethodInvocation createMethodInvocation(Method method,
+            Map<Method, MethodHandle> interceptorMethodHandles) {
+        MethodHandle methodHandle = interceptorMethodHandles.get(method);
+        return methodHandle != null ? new MethodHandleInvocation(method, methodHandle) : new SimpleMethodInvocation(method);
+    }
+
     @Override
     public List<InterceptorMethodInvocation> getInterceptorMethodInvocations() {
         return interceptorMethodInvocations;
@@ -88,4 +98,47 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
             return "SimpleMethodInvocation [method=" + method + ']';
         }
     }
+
+    /**
+     * Invokes an interceptor method through a method handle created during bootstrap. Exceptions thrown by the interceptor
+     * method are wrapped in {@link InvocationTargetException} so that callers cannot tell the difference from
+     * {@link SimpleMethodInvocation}.
+     */
+    class MethodHandleInvocation implements InterceptorMethodInvocation {
+
+        private final Method method;
+
+        private final MethodHandle methodHandle;
+
+        private final boolean noParameters;
+
+        MethodHandleInvocation(Method method, MethodHandle methodHandle) {
+            this.method = method;
+            this.methodHandle = methodHandle;
+            this.noParameters = method.getParameterCount() == 0;
+        }
+
+        @Override
+        public Object invoke(InvocationContext invocationContext) throws Exception {
+            try {
+                if (noParameters) {
+                    return (Object) methodHandle.invokeExact(instance);
+                } else {
+                    return (Object) methodHandle.invokeExact(instance, invocationContext);
+                }
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        @Override
+        public boolean expectsInvocationContext() {
+            return !targetClass || !interceptionType.isLifecycleCallback();
+        }
+
+        @Override
+        public String toString() {
+            return "MethodHandleInvocation [method=" + method + ']';
+        }
+    }
 }
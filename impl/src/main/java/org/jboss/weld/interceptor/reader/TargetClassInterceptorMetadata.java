@@ -34,19 +34,24 @@ import org.jboss.weld.util.collections.ImmutableSet;
 public class TargetClassInterceptorMetadata extends AbstractInterceptorMetadata {
 
     public static final TargetClassInterceptorMetadata EMPTY_INSTANCE = new TargetClassInterceptorMetadata(
-            Collections.<InterceptionType, List<Method>> emptyMap());
+            Collections.<InterceptionType, List<Method>> emptyMap(), false);
 
     public static TargetClassInterceptorMetadata of(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        return of(interceptorMethodMap, false);
+    }
+
+    public static TargetClassInterceptorMetadata of(Map<InterceptionType, List<Method>> interceptorMethodMap,
+            boolean methodHandles) {
         if (interceptorMethodMap.isEmpty()) {
             return EMPTY_INSTANCE;
         }
-        return new TargetClassInterceptorMetadata(interceptorMethodMap);
+        return new TargetClassInterceptorMetadata(interceptorMethodMap, methodHandles);
     }
 
     private final Set<Method> interceptorMethods;
 
-    private TargetClassInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
-        super(interceptorMethodMap);
+    private TargetClassInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap, boolean methodHandles) {
+        super(interceptorMethodMap, methodHandles);
         this.interceptorMethods = initInterceptorMethods(interceptorMethodMap);
     }
 
@@ -346,4 +346,28 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 184, value = "BeforeBeanDiscovery.addInvokable() called by {0} for {1}", format = Format.MESSAGE_FORMAT)
     void addInvokableCalled(Object extensionName, Object type);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 185, value = "Using a new virtual thread for each bootstrap and asynchronous event task", format = Format.MESSAGE_FORMAT)
+    void virtualThreadsInUse();
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 186, value = "Virtual threads are not supported by the current JVM, {0} thread pool type is used instead", format = Format.MESSAGE_FORMAT)
+    void virtualThreadsNotSupported(Object fallbackType);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 187, value = "Virtual thread {0} was pinned to its carrier thread for {1} ms while executing Weld code, e.g. an interceptor invoked while holding a monitor:\n{2}", format = Format.MESSAGE_FORMAT)
+    void virtualThreadPinned(Object threadName, Object millis, Object stackTrace);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 188, value = "Unable to start the detection of pinned virtual threads: {0}", format = Format.MESSAGE_FORMAT)
+    void unableToStartVirtualThreadPinningMonitor(Object cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 189, value = "Creating {0} eagerly initialized application scoped beans in {1} independent groups and {2} priority waves", format = Format.MESSAGE_FORMAT)
+    void eagerInitialization(Object beans, Object groups, Object waves);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 190, value = "The annotation index restricts the ProcessAnnotatedType observer {0} to {1} candidate classes", format = Format.MESSAGE_FORMAT)
+    void patObserverCandidates(Object observer, Object candidates);
+
 }
@@ -24,6 +24,7 @@ import jakarta.enterprise.context.spi.Context;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -130,4 +131,8 @@ public interface ContextLogger extends WeldLogger {
     @Message(id = 229, value = "Contextual reference of {0} is not valid after container {1} shutdown", format = Format.MESSAGE_FORMAT)
     IllegalStateException contextualReferenceNotValidAfterShutdown(Object bean, Object contextId);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 230, value = "Unable to write modified contextual instances to the HTTP session: {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteDirtySessionAttributes(Object keys, @Cause Throwable cause);
+
 }
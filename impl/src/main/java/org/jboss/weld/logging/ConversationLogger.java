@@ -20,6 +20,7 @@ import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -134,4 +135,12 @@ public interface ConversationLogger extends WeldLogger {
     @Message(id = 343, value = "Unable to load the current conversation from the associated request - {0}: {1}, request: {2}", format = Format.MESSAGE_FORMAT)
     IllegalStateException unableToLoadCurrentConversation(String attributeName, Object attributeValue, Object request);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 344, value = "Unable to destroy expired conversations of session {0}", format = Format.MESSAGE_FORMAT)
+    void unableToDestroyExpiredConversations(Object session, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 345, value = "Expired conversation with id {0} destroyed", format = Format.MESSAGE_FORMAT)
+    void expiredConversationDestroyed(String cid);
+
 }
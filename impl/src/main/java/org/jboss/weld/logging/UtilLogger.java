@@ -106,4 +106,20 @@ public interface UtilLogger extends WeldLogger {
     @Message(id = 834, value = "Unable to inject resource - most probably incorrect InjectionServices SPI implementation: {0}\n\tat {1}", format = Format.MESSAGE_FORMAT)
     void unableToInjectResource(Object member, Object stackElement);
 
-}
\ No newline at end of file
+    @LogMessage(level = Level.WARN)
+    @Message(id = 835, value = "Unable to register cache statistics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToRegisterCacheStatisticsMBean(Object name, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 836, value = "Unable to unregister cache statistics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToUnregisterCacheStatisticsMBean(Object name, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 837, value = "Unable to register container metrics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToRegisterContainerMetricsMBean(Object name, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 838, value = "Unable to unregister container metrics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToUnregisterContainerMetricsMBean(Object name, @Cause Throwable cause);
+
+}
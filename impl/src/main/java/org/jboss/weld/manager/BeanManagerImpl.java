@@ -947,6 +947,16 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return interceptorResolver;
     }
 
+    /**
+     * Enables the candidates index of the decorator, interceptor and observer method resolvers. For internal use, must only be
+     * called once the deployment is validated.
+     */
+    public void enableResolutionIndexes() {
+        decoratorResolver.enableIndex();
+        interceptorResolver.enableIndex();
+        accessibleLenientObserverNotifier.enableResolutionIndex();
+    }
+
     public NameBasedResolver getNameBasedResolver() {
         return nameBasedResolver;
     }
@@ -26,6 +26,7 @@ import jakarta.inject.Named;
 
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.SharedObjectCache;
@@ -138,12 +139,24 @@ public class MetaAnnotationStore implements Service {
     private final SharedObjectCache sharedObjectCache;
 
     public MetaAnnotationStore(ClassTransformer classTransformer) {
+        this(classTransformer, (Long) ConfigurationKey.QUALIFIER_INSTANCE_CACHE_SIZE.getDefaultValue());
+    }
+
+    /**
+     *
+     * @param classTransformer
+     * @param qualifierInstanceCacheSize the maximum number of cached qualifier instances
+     * @see ConfigurationKey#QUALIFIER_INSTANCE_CACHE_SIZE
+     */
+    public MetaAnnotationStore(ClassTransformer classTransformer, long qualifierInstanceCacheSize) {
         ComputingCacheBuilder cacheBuilder = ComputingCacheBuilder.newBuilder();
         this.stereotypes = cacheBuilder.build(new StereotypeFunction(classTransformer));
         this.scopes = cacheBuilder.build(new ScopeFunction(classTransformer));
         this.qualifiers = cacheBuilder.build(new QualifierFunction(classTransformer));
         this.interceptorBindings = cacheBuilder.build(new InterceptorBindingFunction(classTransformer));
-        this.qualifierInstanceCache = cacheBuilder.build(new QualifierInstanceFunction(this));
+        // Annotation literals may be created dynamically, e.g. for Instance.select(), the cache must not pin them
+        this.qualifierInstanceCache = ComputingCacheBuilder.newBuilder().setWeakKeys().setMaxSize(qualifierInstanceCacheSize)
+                .build(new QualifierInstanceFunction(this));
         this.sharedObjectCache = classTransformer.getSharedObjectCache();
     }
 
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+
+/**
+ * Receives runtime measurements from the container hot paths. An integrator may provide its own implementation, e.g. one
+ * that reports to a metrics library. Otherwise, Weld installs {@link JmxContainerMetrics} if {@link ConfigurationKey#METRICS}
+ * is enabled and {@link NoopContainerMetrics} if not.
+ * <p>
+ * The instrumented components look up the service once, see {@link #getActive(ServiceRegistry)}, and skip the measurement
+ * completely if no metrics are recorded. Implementations must be thread-safe and should not block, the methods are called
+ * on the invocation thread.
+ * <p>
+ * Note that the hits and misses of the resolution caches are not reported through this service. These are recorded by the
+ * caches themselves if {@link ConfigurationKey#CACHE_STATISTICS} is enabled.
+ */
+public interface ContainerMetrics extends Service {
+
+    /**
+     * A new contextual instance was created by a context.
+     *
+     * @param contextual the contextual
+     * @param nanos the time spent in {@link Contextual#create(jakarta.enterprise.context.spi.CreationalContext)}
+     */
+    void beanInstanceCreated(Contextual<?> contextual, long nanos);
+
+    /**
+     * A normal scoped context was asked for a contextual instance. Lookups served by the client proxy and request scoped
+     * instance caches never reach the context and are not reported.
+     *
+     * @param scope the scope of the context
+     * @param hit <code>true</code> if an existing instance was found, <code>false</code> if a new instance is about to be
+     *        created
+     */
+    void contextLookup(Class<? extends Annotation> scope, boolean hit);
+
+    /**
+     * An event was fired, i.e. delivered to the resolved synchronous or asynchronous observer methods.
+     *
+     * @param eventClass the runtime class of the event object
+     */
+    void eventFired(Class<?> eventClass);
+
+    /**
+     * An observer method was notified.
+     *
+     * @param observer the observer method
+     * @param nanos the time spent in the observer method
+     */
+    void observerNotified(ObserverMethod<?> observer, long nanos);
+
+    /**
+     * An {@link jakarta.interceptor.AroundInvoke} interceptor chain was invoked.
+     *
+     * @param method the intercepted method
+     * @param nanos the time spent in the chain, including the target method
+     */
+    void interceptorChainInvoked(Method method, long nanos);
+
+    /**
+     * A proxy or subclass was generated and defined.
+     *
+     * @param proxyClassName the name of the generated class
+     * @param nanos the time spent generating and defining the class
+     */
+    void proxyClassGenerated(String proxyClassName, long nanos);
+
+    /**
+     *
+     * @return <code>true</code> if the measurements are recorded, <code>false</code> otherwise
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    default void cleanup() {
+    }
+
+    /**
+     *
+     * @param services
+     * @return the installed metrics or <code>null</code> if no metrics are recorded
+     */
+    static ContainerMetrics getActive(ServiceRegistry services) {
+        ContainerMetrics metrics = services.get(ContainerMetrics.class);
+        return metrics != null && metrics.isEnabled() ? metrics : null;
+    }
+
+}
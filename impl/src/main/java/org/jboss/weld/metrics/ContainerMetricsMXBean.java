@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link JmxContainerMetrics}. The map keys are the string representations of the measured
+ * beans, scopes, event types, observer methods or intercepted methods.
+ */
+public interface ContainerMetricsMXBean {
+
+    Map<String, TimerStatistics> getBeanInstanceCreation();
+
+    Map<String, Long> getContextHits();
+
+    Map<String, Long> getContextMisses();
+
+    Map<String, Long> getEventsFired();
+
+    Map<String, TimerStatistics> getObserverNotification();
+
+    Map<String, TimerStatistics> getInterceptorChainInvocation();
+
+    TimerStatistics getProxyClassGeneration();
+
+    void reset();
+
+}
@@ -0,0 +1,227 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.logging.UtilLogger;
+
+/**
+ * {@link ContainerMetrics} which keeps counters and timers in memory and exposes them as a platform MBean named
+ * <code>org.jboss.weld:type=ContainerMetrics,container=&lt;contextId&gt;</code>. The MBean is unregistered when the container
+ * is shut down.
+ * <p>
+ * Installed if {@link ConfigurationKey#METRICS} is enabled and the integrator does not provide its own
+ * {@link ContainerMetrics}.
+ * The measured objects are only converted to strings when the statistics are read.
+ */
+public class JmxContainerMetrics implements ContainerMetrics, ContainerMetricsMXBean {
+
+    private static final String DOMAIN = "org.jboss.weld";
+
+    private final ObjectName objectName;
+    private final ConcurrentMap<Contextual<?>, Timer> beanInstanceCreation = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<? extends Annotation>, LongAdder> contextHits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<? extends Annotation>, LongAdder> contextMisses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, LongAdder> eventsFired = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ObserverMethod<?>, Timer> observerNotification = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Timer> interceptorChainInvocation = new ConcurrentHashMap<>();
+    private final Timer proxyClassGeneration = new Timer();
+
+    public JmxContainerMetrics(String contextId) {
+        this.objectName = register(contextId);
+    }
+
+    @Override
+    public void beanInstanceCreated(Contextual<?> contextual, long nanos) {
+        beanInstanceCreation.computeIfAbsent(contextual, k -> new Timer()).record(nanos);
+    }
+
+    @Override
+    public void contextLookup(Class<? extends Annotation> scope, boolean hit) {
+        (hit ? contextHits : contextMisses).computeIfAbsent(scope, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void eventFired(Class<?> eventClass) {
+        eventsFired.computeIfAbsent(eventClass, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void observerNotified(ObserverMethod<?> observer, long nanos) {
+        observerNotification.computeIfAbsent(observer, k -> new Timer()).record(nanos);
+    }
+
+    @Override
+    public void interceptorChainInvoked(Method method, long nanos) {
+        interceptorChainInvocation.computeIfAbsent(method, k -> new Timer()).record(nanos);
+    }
+
+    @Override
+    public void proxyClassGenerated(String proxyClassName, long nanos) {
+        proxyClassGeneration.record(nanos);
+    }
+
+    @Override
+    public Map<String, TimerStatistics> getBeanInstanceCreation() {
+        return timers(beanInstanceCreation);
+    }
+
+    @Override
+    public Map<String, Long> getContextHits() {
+        return counters(contextHits);
+    }
+
+    @Override
+    public Map<String, Long> getContextMisses() {
+        return counters(contextMisses);
+    }
+
+    @Override
+    public Map<String, Long> getEventsFired() {
+        return counters(eventsFired);
+    }
+
+    @Override
+    public Map<String, TimerStatistics> getObserverNotification() {
+        return timers(observerNotification);
+    }
+
+    @Override
+    public Map<String, TimerStatistics> getInterceptorChainInvocation() {
+        return timers(interceptorChainInvocation);
+    }
+
+    @Override
+    public TimerStatistics getProxyClassGeneration() {
+        return proxyClassGeneration.snapshot();
+    }
+
+    /**
+     * Resets all the counters and timers.
+     */
+    @Override
+    public void reset() {
+        beanInstanceCreation.clear();
+        contextHits.clear();
+        contextMisses.clear();
+        eventsFired.clear();
+        observerNotification.clear();
+        interceptorChainInvocation.clear();
+        proxyClassGeneration.reset();
+    }
+
+    @Override
+    public void cleanup() {
+        reset();
+        if (objectName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = getMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException | SecurityException e) {
+            UtilLogger.LOG.unableToUnregisterContainerMetricsMBean(objectName, e);
+        }
+    }
+
+    private ObjectName register(String contextId) {
+        ObjectName name = null;
+        try {
+            name = new ObjectName(DOMAIN + ":type=ContainerMetrics,container=" + ObjectName.quote(contextId));
+            getMBeanServer().registerMBean(this, name);
+            return name;
+        } catch (JMException | SecurityException e) {
+            UtilLogger.LOG.unableToRegisterContainerMetricsMBean(name != null ? name : contextId, e);
+            return null;
+        }
+    }
+
+    private static Map<String, Long> counters(Map<?, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        for (Entry<?, LongAdder> entry : counters.entrySet()) {
+            result.merge(toString(entry.getKey()), entry.getValue().sum(), Long::sum);
+        }
+        return result;
+    }
+
+    private static Map<String, TimerStatistics> timers(Map<?, Timer> timers) {
+        Map<String, TimerStatistics> result = new TreeMap<>();
+        for (Entry<?, Timer> entry : timers.entrySet()) {
+            result.merge(toString(entry.getKey()), entry.getValue().snapshot(), TimerStatistics::combine);
+        }
+        return result;
+    }
+
+    private static String toString(Object key) {
+        if (key instanceof Class<?>) {
+            return ((Class<?>) key).getName();
+        }
+        if (key instanceof Method) {
+            Method method = (Method) key;
+            return method.getDeclaringClass().getName() + "." + method.getName();
+        }
+        return String.valueOf(key);
+    }
+
+    private static MBeanServer getMBeanServer() {
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+
+    private static final class Timer {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0L);
+
+        void record(long nanos) {
+            count.increment();
+            totalTime.add(nanos);
+            maxTime.accumulate(nanos);
+        }
+
+        TimerStatistics snapshot() {
+            return new TimerStatistics(count.sum(), totalTime.sum(), maxTime.get());
+        }
+
+        void reset() {
+            count.reset();
+            totalTime.reset();
+            maxTime.reset();
+        }
+    }
+
+}
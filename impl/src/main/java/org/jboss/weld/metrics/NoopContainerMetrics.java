@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Default {@link ContainerMetrics} implementation which does not record anything. Since it is never enabled, the instrumented
+ * components do not even take the measurements.
+ */
+public class NoopContainerMetrics implements ContainerMetrics {
+
+    public static final ContainerMetrics INSTANCE = new NoopContainerMetrics();
+
+    private NoopContainerMetrics() {
+    }
+
+    @Override
+    public void beanInstanceCreated(Contextual<?> contextual, long nanos) {
+    }
+
+    @Override
+    public void contextLookup(Class<? extends Annotation> scope, boolean hit) {
+    }
+
+    @Override
+    public void eventFired(Class<?> eventClass) {
+    }
+
+    @Override
+    public void observerNotified(ObserverMethod<?> observer, long nanos) {
+    }
+
+    @Override
+    public void interceptorChainInvoked(Method method, long nanos) {
+    }
+
+    @Override
+    public void proxyClassGenerated(String proxyClassName, long nanos) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+}
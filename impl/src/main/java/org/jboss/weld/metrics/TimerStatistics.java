@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * An immutable snapshot of a timer recorded by {@link JmxContainerMetrics}. All the times are in nanoseconds.
+ */
+public final class TimerStatistics {
+
+    private final long count;
+    private final long totalTime;
+    private final long maxTime;
+
+    @ConstructorParameters({ "count", "totalTime", "maxTime" })
+    public TimerStatistics(long count, long totalTime, long maxTime) {
+        this.count = count;
+        this.totalTime = totalTime;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     *
+     * @return the number of recorded events
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    public double getAverageTime() {
+        return count == 0 ? 0.0 : (double) totalTime / count;
+    }
+
+    TimerStatistics combine(TimerStatistics other) {
+        return new TimerStatistics(count + other.count, totalTime + other.totalTime, Math.max(maxTime, other.maxTime));
+    }
+
+    @Override
+    public String toString() {
+        return "TimerStatistics [count=" + count + ", totalTime=" + TimeUnit.NANOSECONDS.toMicros(totalTime) + "us, maxTime="
+                + TimeUnit.NANOSECONDS.toMicros(maxTime) + "us]";
+    }
+
+}
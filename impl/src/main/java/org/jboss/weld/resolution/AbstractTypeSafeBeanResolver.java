@@ -17,17 +17,9 @@
 package org.jboss.weld.resolution;
 
 import java.io.Serializable;
-import java.lang.reflect.GenericArrayType;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -44,13 +36,9 @@ import org.jboss.weld.inject.WeldInstance;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
-import org.jboss.weld.util.LazyValueHolder;
-import org.jboss.weld.util.Primitives;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableSet;
-import org.jboss.weld.util.collections.WeldCollections;
-import org.jboss.weld.util.reflection.Reflections;
 
 /**
  * @author pmuir
@@ -63,7 +51,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final ComputingCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
     private final MetaAnnotationStore store;
 
-    private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
+    private final BeanTypeIndexer indexer;
 
     public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
@@ -139,66 +127,49 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
 
     }
 
-    public AbstractTypeSafeBeanResolver(BeanManagerImpl beanManager, final Iterable<T> beans) {
-        super(beans, beanManager.getServices().get(WeldConfiguration.class));
-        this.beanManager = beanManager;
-        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
-        this.store = beanManager.getServices().get(MetaAnnotationStore.class);
-        // beansByType stores a map of a type to all beans that are assignable to
-        // that type. This means that it most cases we do not need to loop through
-        // every bean in the system when performing resolution
-
-        // we build this map lazily, as we do not have access to all beans when
-        // the resolver is created. Calling the resolvers clear method will also
-        // clear this map.This task is not suitable for a computing hashmap, as
-        // the whole map should be calculated in one hit, so only a single
-        // iteration over all beans is required
-
-        this.beansByType = new LazyValueHolder<Map<Type, ArrayList<T>>>() {
+    /**
+     * Indexes beans by the raw types of their bean types and groups them by their qualifiers. This means that in most cases
+     * we do not need to loop through every bean in the system when performing resolution.
+     */
+    private class BeanTypeIndexer implements ResolutionIndex.Indexer<Resolvable, T, Set<QualifierInstance>> {
 
-            @Override
-            protected Map<Type, ArrayList<T>> computeValue() {
-                Map<Type, ArrayList<T>> map = new HashMap<Type, ArrayList<T>>();
-                for (T bean : beans) {
-                    mapBean(map, bean);
-                }
-                trimArrayListsToSize(map);
-                return WeldCollections.immutableMapView(map);
-            }
+        @Override
+        public Iterable<?> getBeanKeys(T bean) {
+            return ResolutionIndex.getBeanKeys(bean.getTypes());
+        }
 
-            private void mapBean(Map<Type, ArrayList<T>> map, T bean) {
-                for (Type type : bean.getTypes()) {
-                    mapTypeToBean(map, type, bean);
+        @Override
+        public Set<QualifierInstance> getBeanQualifiers(T bean) {
+            return QualifierInstance.of(bean, store);
+        }
 
-                    if (type instanceof ParameterizedType) {
-                        // we need to add the raw type as well
-                        Type rawType = ((ParameterizedType) type).getRawType();
-                        mapTypeToBean(map, rawType, bean);
-                    } else if (type instanceof Class<?>) {
-                        // if the type is a primitive we also need to add the bean
-                        // is also resolvable from the boxed class
-                        Class<?> clazz = (Class<?>) type;
-                        if (clazz.isPrimitive()) {
-                            Class<?> wrapped = Primitives.wrap(clazz);
-                            mapTypeToBean(map, wrapped, bean);
-                        }
-                    }
-                }
+        @Override
+        public Iterable<?> getResolvableKeys(Resolvable resolvable) {
+            if (resolvable.getTypes().contains(Object.class)
+                    || Instance.class.equals(resolvable.getJavaClass())
+                    || Event.class.equals(resolvable.getJavaClass())
+                    || Provider.class.equals(resolvable.getJavaClass())
+                    || InterceptionFactory.class.equals(resolvable.getJavaClass())
+                    || WeldInstance.class.equals(resolvable.getJavaClass())
+                    || WeldEvent.class.equals(resolvable.getJavaClass())
+                    || resolvable.getTypes().contains(Serializable.class)) {
+                return null;
             }
+            return ResolutionIndex.getResolvableKeys(resolvable.getTypes());
+        }
 
-            private void mapTypeToBean(Map<Type, ArrayList<T>> map, Type type, T bean) {
-                if (!map.containsKey(type)) {
-                    map.put(type, new ArrayList<T>());
-                }
-                map.get(type).add(bean);
-            }
+        @Override
+        public boolean matchesQualifiers(Resolvable resolvable, Set<QualifierInstance> qualifiers) {
+            return Beans.containsAllQualifiers(resolvable.getQualifiers(), qualifiers);
+        }
+    }
 
-            private void trimArrayListsToSize(Map<Type, ArrayList<T>> map) {
-                for (Entry<Type, ArrayList<T>> entry : map.entrySet()) {
-                    entry.getValue().trimToSize();
-                }
-            }
-        };
+    public AbstractTypeSafeBeanResolver(BeanManagerImpl beanManager, final Iterable<T> beans) {
+        super(beans, beanManager.getServices().get(WeldConfiguration.class));
+        this.beanManager = beanManager;
+        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
+        this.store = beanManager.getServices().get(MetaAnnotationStore.class);
+        this.indexer = new BeanTypeIndexer();
     }
 
     @Override
@@ -214,42 +185,8 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     }
 
     @Override
-    protected Iterable<? extends T> getAllBeans(Resolvable resolvable) {
-        if (resolvable.getTypes().contains(Object.class)
-                || Instance.class.equals(resolvable.getJavaClass())
-                || Event.class.equals(resolvable.getJavaClass())
-                || Provider.class.equals(resolvable.getJavaClass())
-                || InterceptionFactory.class.equals(resolvable.getJavaClass())
-                || WeldInstance.class.equals(resolvable.getJavaClass())
-                || WeldEvent.class.equals(resolvable.getJavaClass())
-                || resolvable.getTypes().contains(Serializable.class)) {
-            return super.getAllBeans(resolvable);
-        }
-        Set<T> beans = new HashSet<T>();
-        for (Type type : resolvable.getTypes()) {
-            beans.addAll(getBeans(type));
-            if (type instanceof ParameterizedType) {
-                // we also need to consider the raw type
-                Type rawType = ((ParameterizedType) type).getRawType();
-                beans.addAll(getBeans(rawType));
-            } else if (type instanceof Class<?>) {
-                // primitives
-                Class<?> clazz = (Class<?>) type;
-                if (clazz.isPrimitive()) {
-                    clazz = Primitives.wrap(clazz);
-                    beans.addAll(getBeans(clazz));
-                }
-            } else if (type instanceof GenericArrayType) {
-                Class<Object> rawArrayType = Reflections.getRawType(type);
-                beans.addAll(getBeans(rawArrayType));
-            }
-        }
-        return beans;
-    }
-
-    private List<T> getBeans(Type type) {
-        List<T> beansForType = beansByType.get().get(type);
-        return beansForType == null ? Collections.<T> emptyList() : beansForType;
+    protected ResolutionIndex.Indexer<Resolvable, T, ?> getIndexer() {
+        return indexer;
     }
 
     /**
@@ -282,7 +219,6 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     public void clear() {
         super.clear();
         this.disambiguatedBeans.clear();
-        this.beansByType.clear();
     }
 
     MetaAnnotationStore getStore() {
@@ -163,7 +163,10 @@ public class QualifierInstance {
             return false;
         }
         final QualifierInstance that = (QualifierInstance) o;
-
+        // cached instances are usually compared by identity, the precomputed hash code makes most other checks cheap
+        if (hashCode != that.hashCode) {
+            return false;
+        }
         if (!annotationClass.equals(that.annotationClass)) {
             return false;
         }
@@ -0,0 +1,204 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.collections.WeldCollections;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Candidate index used by {@link TypeSafeResolver} so that a cache miss does not need to match every single bean. Beans are
+ * indexed under one or more keys (typically raw types) and, for each key, grouped by their qualifiers. A lookup only
+ * visits the groups registered under the keys of the resolvable and checks the qualifiers once per group.
+ * <p>
+ * The index only prunes the set of candidates, {@link TypeSafeResolver#matches(Resolvable, Object)} is still applied to
+ * each of them. Therefore, an {@link Indexer} must never exclude a bean which would match the given resolvable.
+ * <p>
+ * The index is immutable. {@link TypeSafeResolver} builds it lazily with the first resolution after the resolver was
+ * cleared, i.e. in practice once the deployment is validated.
+ *
+ * @param <R> the resolvable type
+ * @param <T> the bean type
+ */
+public final class ResolutionIndex<R extends Resolvable, T> {
+
+    /**
+     * Resolver-specific strategy which defines how beans and resolvables are mapped to index keys and qualifier groups.
+     *
+     * @param <R> the resolvable type
+     * @param <T> the bean type
+     * @param <Q> the type of the qualifier group
+     */
+    public interface Indexer<R extends Resolvable, T, Q> {
+
+        /**
+         * @param bean
+         * @return the keys the given bean is indexed under or <code>null</code> if the bean cannot be indexed and needs to
+         *         be considered for every resolution
+         */
+        Iterable<?> getBeanKeys(T bean);
+
+        /**
+         * @param bean
+         * @return the qualifier group of the given bean
+         */
+        Q getBeanQualifiers(T bean);
+
+        /**
+         * @param resolvable
+         * @return the keys to look up for the given resolvable or <code>null</code> if every bean needs to be considered
+         */
+        Iterable<?> getResolvableKeys(R resolvable);
+
+        /**
+         * @param resolvable
+         * @param qualifiers
+         * @return <code>true</code> if beans with the given qualifiers may match the resolvable, <code>false</code> otherwise
+         */
+        boolean matchesQualifiers(R resolvable, Q qualifiers);
+    }
+
+    static <R extends Resolvable, T, Q> ResolutionIndex<R, T> of(Iterable<? extends T> beans, Indexer<R, T, Q> indexer) {
+        Map<Object, Map<Object, List<T>>> candidates = new HashMap<>();
+        List<T> unindexed = new ArrayList<>();
+        for (T bean : beans) {
+            Iterable<?> keys = indexer.getBeanKeys(bean);
+            if (keys == null) {
+                unindexed.add(bean);
+                continue;
+            }
+            Q qualifiers = indexer.getBeanQualifiers(bean);
+            for (Object key : keys) {
+                candidates.computeIfAbsent(key, k -> new HashMap<>()).computeIfAbsent(qualifiers, q -> new ArrayList<>())
+                        .add(bean);
+            }
+        }
+        for (Map<Object, List<T>> groups : candidates.values()) {
+            for (List<T> group : groups.values()) {
+                ((ArrayList<T>) group).trimToSize();
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Indexer<R, T, Object> objectIndexer = (Indexer<R, T, Object>) indexer;
+        return new ResolutionIndex<R, T>(objectIndexer, beans, WeldCollections.immutableMapView(candidates),
+                WeldCollections.immutableListView(unindexed));
+    }
+
+    /**
+     * The assignability rules for beans, observers and delegates require identical raw types unless one of the types is an
+     * array, a type variable or a wildcard. For these types this method returns <code>null</code>. Primitive types are
+     * boxed.
+     *
+     * @param type
+     * @return the raw type used as an index key or <code>null</code> if the given type cannot be indexed
+     */
+    static Class<?> getIndexableRawType(Type type) {
+        Type boxed = Types.boxedType(type);
+        if (boxed instanceof Class<?>) {
+            Class<?> clazz = (Class<?>) boxed;
+            return clazz.isArray() ? null : clazz;
+        }
+        if (boxed instanceof ParameterizedType) {
+            return Reflections.getRawType(boxed);
+        }
+        return null;
+    }
+
+    /**
+     * @param types
+     * @return the indexable raw types of all the given bean types or <code>null</code> if any of the types cannot be indexed
+     */
+    static Set<Class<?>> getBeanKeys(Iterable<? extends Type> types) {
+        Set<Class<?>> keys = new HashSet<Class<?>>();
+        for (Type type : types) {
+            Class<?> key = getIndexableRawType(type);
+            if (key == null) {
+                return null;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Types which cannot be indexed are skipped, such types are only assignable to beans which are not indexed either.
+     *
+     * @param types
+     * @return the indexable raw types of the given required types
+     */
+    static Set<Class<?>> getResolvableKeys(Iterable<? extends Type> types) {
+        Set<Class<?>> keys = new HashSet<Class<?>>();
+        for (Type type : types) {
+            Class<?> key = getIndexableRawType(type);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private final Indexer<R, T, Object> indexer;
+    private final Iterable<? extends T> allBeans;
+    private final Map<Object, Map<Object, List<T>>> candidates;
+    private final List<T> unindexed;
+
+    private ResolutionIndex(Indexer<R, T, Object> indexer, Iterable<? extends T> allBeans,
+            Map<Object, Map<Object, List<T>>> candidates, List<T> unindexed) {
+        this.indexer = indexer;
+        this.allBeans = allBeans;
+        this.candidates = candidates;
+        this.unindexed = unindexed;
+    }
+
+    /**
+     * @param resolvable
+     * @return the beans which may match the given resolvable
+     */
+    public Iterable<? extends T> getCandidates(R resolvable) {
+        Iterable<?> keys = indexer.getResolvableKeys(resolvable);
+        if (keys == null) {
+            return allBeans;
+        }
+        Set<T> result = new HashSet<T>(unindexed);
+        for (Object key : keys) {
+            Map<Object, List<T>> groups = candidates.get(key);
+            if (groups != null) {
+                for (Entry<Object, List<T>> group : groups.entrySet()) {
+                    if (indexer.matchesQualifiers(resolvable, group.getKey())) {
+                        result.addAll(group.getValue());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionIndex [keys=" + candidates.size() + ", unindexed=" + unindexed.size() + "]";
+    }
+}
@@ -31,6 +31,8 @@ public class TypeSafeBeanResolver extends AbstractTypeSafeBeanResolver<Bean<?>,
 
     public TypeSafeBeanResolver(BeanManagerImpl beanManager, Iterable<Bean<?>> beans) {
         super(beanManager, beans);
+        // beans are indexed right from the start, the resolver is cleared whenever a bean is added during bootstrap
+        enableIndex();
     }
 
     @Override
@@ -31,11 +31,39 @@ import org.jboss.weld.util.Beans;
  */
 public class TypeSafeDecoratorResolver extends AbstractTypeSafeBeanResolver<Decorator<?>, List<Decorator<?>>> {
 
+    /**
+     * Indexes decorators by the raw type of their delegate type and groups them by their delegate qualifiers.
+     */
+    private class DelegateTypeIndexer implements ResolutionIndex.Indexer<Resolvable, Decorator<?>, Set<QualifierInstance>> {
+
+        @Override
+        public Iterable<?> getBeanKeys(Decorator<?> decorator) {
+            return ResolutionIndex.getBeanKeys(Collections.singleton(decorator.getDelegateType()));
+        }
+
+        @Override
+        public Set<QualifierInstance> getBeanQualifiers(Decorator<?> decorator) {
+            return QualifierInstance.of(decorator.getDelegateQualifiers(), getStore());
+        }
+
+        @Override
+        public Iterable<?> getResolvableKeys(Resolvable resolvable) {
+            return ResolutionIndex.getResolvableKeys(resolvable.getTypes());
+        }
+
+        @Override
+        public boolean matchesQualifiers(Resolvable resolvable, Set<QualifierInstance> qualifiers) {
+            return Beans.containsAllQualifiers(qualifiers, resolvable.getQualifiers());
+        }
+    }
+
     private final AssignabilityRules rules;
+    private final DelegateTypeIndexer indexer;
 
     public TypeSafeDecoratorResolver(BeanManagerImpl manager, Iterable<Decorator<?>> decorators) {
         super(manager, decorators);
         this.rules = DelegateInjectionPointAssignabilityRules.instance();
+        this.indexer = new DelegateTypeIndexer();
     }
 
     @Override
@@ -47,8 +75,8 @@ public class TypeSafeDecoratorResolver extends AbstractTypeSafeBeanResolver<Deco
     }
 
     @Override
-    protected Iterable<? extends Decorator<?>> getAllBeans(Resolvable resolvable) {
-        return getAllBeans();
+    protected ResolutionIndex.Indexer<Resolvable, Decorator<?>, ?> getIndexer() {
+        return indexer;
     }
 
     @Override
@@ -17,11 +17,14 @@
 
 package org.jboss.weld.resolution;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
+import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.enterprise.inject.spi.Interceptor;
 
 import org.jboss.weld.config.WeldConfiguration;
@@ -34,11 +37,46 @@ import org.jboss.weld.util.Beans;
 public class TypeSafeInterceptorResolver
         extends TypeSafeResolver<InterceptorResolvable, Interceptor<?>, List<Interceptor<?>>, List<Interceptor<?>>> {
 
+    /**
+     * Indexes interceptors by the interception types they support and groups them by their interceptor bindings.
+     */
+    private class InterceptionTypeIndexer
+            implements ResolutionIndex.Indexer<InterceptorResolvable, Interceptor<?>, Set<Annotation>> {
+
+        @Override
+        public Iterable<?> getBeanKeys(Interceptor<?> interceptor) {
+            Set<InterceptionType> interceptionTypes = EnumSet.noneOf(InterceptionType.class);
+            for (InterceptionType interceptionType : InterceptionType.values()) {
+                if (interceptor.intercepts(interceptionType)) {
+                    interceptionTypes.add(interceptionType);
+                }
+            }
+            return interceptionTypes;
+        }
+
+        @Override
+        public Set<Annotation> getBeanQualifiers(Interceptor<?> interceptor) {
+            return interceptor.getInterceptorBindings();
+        }
+
+        @Override
+        public Iterable<?> getResolvableKeys(InterceptorResolvable resolvable) {
+            return Collections.singleton(resolvable.getInterceptionType());
+        }
+
+        @Override
+        public boolean matchesQualifiers(InterceptorResolvable resolvable, Set<Annotation> interceptorBindings) {
+            return Beans.containsAllInterceptionBindings(interceptorBindings, resolvable.getQualifiers(), manager);
+        }
+    }
+
     private final BeanManagerImpl manager;
+    private final InterceptionTypeIndexer indexer;
 
     public TypeSafeInterceptorResolver(BeanManagerImpl manager, Iterable<Interceptor<?>> interceptors) {
         super(interceptors, manager.getServices().get(WeldConfiguration.class));
         this.manager = manager;
+        this.indexer = new InterceptionTypeIndexer();
     }
 
     @Override
@@ -49,6 +87,11 @@ public class TypeSafeInterceptorResolver
                 && manager.getEnabled().isInterceptorEnabled(bean.getBeanClass());
     }
 
+    @Override
+    protected ResolutionIndex.Indexer<InterceptorResolvable, Interceptor<?>, ?> getIndexer() {
+        return indexer;
+    }
+
     @Override
     protected List<Interceptor<?>> sortResult(Set<Interceptor<?>> matchedInterceptors) {
         List<Interceptor<?>> sortedInterceptors = new ArrayList<Interceptor<?>>(matchedInterceptors);
@@ -57,14 +57,48 @@ public class TypeSafeObserverResolver
         }
     }
 
+    /**
+     * Indexes observer methods by the raw type of their observed type and groups them by their observed qualifiers.
+     */
+    private class ObservedTypeIndexer
+            implements ResolutionIndex.Indexer<Resolvable, ObserverMethod<?>, Set<QualifierInstance>> {
+
+        @Override
+        public Iterable<?> getBeanKeys(ObserverMethod<?> observer) {
+            return ResolutionIndex.getBeanKeys(Collections.singleton(observer.getObservedType()));
+        }
+
+        @Override
+        public Set<QualifierInstance> getBeanQualifiers(ObserverMethod<?> observer) {
+            return QualifierInstance.of(observer.getObservedQualifiers(), metaAnnotationStore);
+        }
+
+        @Override
+        public Iterable<?> getResolvableKeys(Resolvable resolvable) {
+            return ResolutionIndex.getResolvableKeys(resolvable.getTypes());
+        }
+
+        @Override
+        public boolean matchesQualifiers(Resolvable resolvable, Set<QualifierInstance> qualifiers) {
+            return Beans.containsAllQualifiers(qualifiers, resolvable.getQualifiers());
+        }
+    }
+
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
+    private final ObservedTypeIndexer indexer;
 
     public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers,
             WeldConfiguration configuration) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
         this.rules = EventTypeAssignabilityRules.instance();
+        this.indexer = new ObservedTypeIndexer();
+    }
+
+    @Override
+    protected ResolutionIndex.Indexer<Resolvable, ObserverMethod<?>, ?> getIndexer() {
+        return indexer;
     }
 
     @Override
@@ -22,12 +22,15 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -60,6 +63,11 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     // The beans to search
     private final Iterable<? extends T> allBeans;
     private final ResolvableToBeanCollection<R, T, C, F> resolverFunction;
+    // The candidates index, built lazily as we do not have access to all beans when the resolver is created
+    private final LazyValueHolder<ResolutionIndex<R, T>> index;
+    private volatile boolean indexEnabled;
+    // Incremented whenever the resolver is cleared
+    private final AtomicInteger generation = new AtomicInteger();
 
     /**
      * Constructor
@@ -67,15 +75,40 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
         this.resolved = ComputingCacheBuilder.newBuilder()
-                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .recordStatistics(configuration.getBooleanProperty(ConfigurationKey.CACHE_STATISTICS)).build(resolverFunction);
         this.allBeans = allBeans;
+        this.index = LazyValueHolder.forSupplier(() -> ResolutionIndex.of(this.allBeans, getIndexer()));
     }
 
     /**
-     * Reset all cached resolutions
+     * Enables the candidates index, if the resolver defines one. From this point on, the resolver must be cleared whenever the
+     * set of beans changes. Most resolvers are only indexed after the deployment was validated, i.e. once the set of beans
+     * is final.
+     */
+    public void enableIndex() {
+        if (getIndexer() != null) {
+            this.indexEnabled = true;
+        }
+    }
+
+    /**
+     * Reset all cached resolutions and the candidates index
      */
     public void clear() {
         this.resolved.clear();
+        this.index.clear();
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * The generation is incremented whenever the resolver is cleared, i.e. the set of beans may have changed. A component which
+     * keeps a resolution result may reuse it as long as the generation does not change.
+     *
+     * @return the current generation
+     */
+    public int getGeneration() {
+        return generation.get();
     }
 
     /**
@@ -109,7 +142,17 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return result;
     }
 
+    /**
+     * Gets the beans which may match the given resolvable. If the index is enabled, the candidates are looked up in the index
+     * defined by {@link #getIndexer()}.
+     *
+     * @param resolvable the resolvable
+     * @return the candidates
+     */
     protected Iterable<? extends T> getAllBeans(R resolvable) {
+        if (indexEnabled) {
+            return index.get().getCandidates(resolvable);
+        }
         return allBeans;
     }
 
@@ -123,6 +166,16 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
 
     protected abstract boolean matches(R resolvable, T t);
 
+    /**
+     * The returned indexer defines how the candidates index is built and queried. It must never exclude a bean which would
+     * match a resolvable according to {@link #matches(Resolvable, Object)}.
+     *
+     * @return the indexer used to build the candidates index or <code>null</code> if the resolver does not support indexing
+     */
+    protected ResolutionIndex.Indexer<R, T, ?> getIndexer() {
+        return null;
+    }
+
     protected F makeResultImmutable(C result) {
         if (result instanceof List<?>) {
             return cast(ImmutableList.copyOf(((List<?>) result)));
@@ -144,6 +197,15 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     *
+     * @return the statistics of the resolved injection points cache or <code>null</code> if statistics are not recorded
+     * @see ConfigurationKey#CACHE_STATISTICS
+     */
+    public ComputingCacheStatistics getCacheStatistics() {
+        return resolved.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resources;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.WithAnnotations;
+
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileServices;
+
+/**
+ * Optional capability of a {@link ClassFileServices} implementation which is backed by an index of the whole deployment, e.g.
+ * a Jandex index.
+ * <p>
+ * If the {@link ClassFileServices} implements this interface, {@link WithAnnotations} restrictions of
+ * {@link jakarta.enterprise.inject.spi.ProcessAnnotatedType} observers are evaluated against the candidate sets returned by
+ * the index first. {@link ClassFileInfo#containsAnnotation(Class)} is only invoked for the candidates. As a result, classes
+ * no extension is interested in are neither loaded nor inspected.
+ */
+public interface ClassFileAnnotationIndex {
+
+    /**
+     * The returned set may contain classes which do not contain the annotation but it must contain all the classes for
+     * which {@link ClassFileInfo#containsAnnotation(Class)} returns <code>true</code>.
+     *
+     * @param annotation
+     * @return the names of the classes which may contain the given annotation or <code>null</code> if the index cannot
+     *         determine the candidates
+     */
+    Set<String> getCandidatesContaining(Class<? extends Annotation> annotation);
+
+}
@@ -17,6 +17,9 @@
 package org.jboss.weld.util.bytecode;
 
 import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.util.Boxing;
+import org.jboss.classfilewriter.util.DescriptorUtils;
+import org.jboss.weld.bean.proxy.ProxyFactory;
 
 /**
  * utility class for common bytecode operations
@@ -73,6 +76,40 @@ public class BytecodeUtils {
         }
     }
 
+    /**
+     * Pushes an array holding the (boxed) values of the method parameters onto the stack. The method parameters are
+     * expected to start at variable 1. The shared {@link ProxyFactory#EMPTY_PARAMETERS} array is pushed for methods without
+     * parameters so that such invocations do not allocate.
+     *
+     * @param b the bytecode
+     * @param parameterTypes the parameter type descriptors
+     */
+    public static void pushParameterArray(CodeAttribute b, String[] parameterTypes) {
+        if (parameterTypes.length == 0) {
+            b.getstatic(ProxyFactory.class.getName(), "EMPTY_PARAMETERS", "[Ljava/lang/Object;");
+            return;
+        }
+        b.iconst(parameterTypes.length);
+        b.anewarray(Object.class.getName());
+        int localVariableCount = 1;
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            String typeString = parameterTypes[i];
+            b.dup(); // duplicate the array reference
+            b.iconst(i);
+            // load the parameter value
+            addLoadInstruction(b, typeString, localVariableCount);
+            // box the parameter if necessary
+            Boxing.boxIfNessesary(b, typeString);
+            // and store it in the array
+            b.aastore();
+            if (DescriptorUtils.isWide(typeString)) {
+                localVariableCount = localVariableCount + 2;
+            } else {
+                localVariableCount++;
+            }
+        }
+    }
+
     /**
      * Pushes a class type onto the stack from the string representation This can
      * also handle primitives
@@ -0,0 +1,301 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.weld.util.LazyValueHolder;
+
+/**
+ * A bounded {@link ComputingCache} which evicts entries according to a segmented LRU policy. Unlike
+ * {@link ReentrantMapBackedComputingCache} the cache does not drop all the entries once the bound is exceeded.
+ * <p>
+ * A new entry is placed in the probation segment. A hit only marks the entry as referenced so that the read path does not
+ * need any lock. When the cache is over its bound, the entries in the probation segment are examined in insertion order:
+ * a referenced entry is promoted to the protected segment (roughly 80% of the capacity), an entry which was not referenced
+ * since the last examination is evicted. If the protected segment is full, its least recently promoted entry which was not
+ * referenced in the meantime is demoted back to probation. Therefore, frequently used entries survive a scan of one-off
+ * lookups.
+ * <p>
+ * Values are computed outside the lock and so the computing function may use the cache recursively.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class BoundedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
+
+    private final ConcurrentMap<K, Node<K, V>> map;
+    private final long maxSize;
+    private final long protectedMaxSize;
+    private final Function<K, V> computingFunction;
+    private final ComputingCacheStatistics statistics;
+
+    // the following fields are guarded by lock
+    private final ReentrantLock lock;
+    private final ArrayDeque<Node<K, V>> probation;
+    private final ArrayDeque<Node<K, V>> protectedSegment;
+    // invalidated nodes which are still present in one of the segments
+    private long removedNodes;
+
+    BoundedComputingCache(Function<K, V> computingFunction, long maxSize, boolean recordStatistics) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than zero: " + maxSize);
+        }
+        this.map = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.protectedMaxSize = maxSize * 4 / 5;
+        this.computingFunction = computingFunction;
+        this.statistics = recordStatistics ? new ComputingCacheStatistics(this, maxSize) : null;
+        this.lock = new ReentrantLock();
+        this.probation = new ArrayDeque<>();
+        this.protectedSegment = new ArrayDeque<>();
+    }
+
+    @Override
+    public V getValue(K key) {
+        Node<K, V> node = map.get(key);
+        if (node != null) {
+            node.referenced = true;
+            if (statistics != null) {
+                statistics.recordHit();
+            }
+            return node.value.get();
+        }
+        if (statistics != null) {
+            statistics.recordMiss();
+        }
+        node = new Node<>(key, this);
+        Node<K, V> previous = map.putIfAbsent(key, node);
+        if (previous != null) {
+            previous.referenced = true;
+            return previous.value.get();
+        }
+        lock.lock();
+        try {
+            if (!node.removed) {
+                node.queued = true;
+                probation.offerLast(node);
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return node.value.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        Node<K, V> node = map.get(key);
+        return node != null ? node.value.getIfPresent() : null;
+    }
+
+    @Override
+    public long size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            map.clear();
+            probation.clear();
+            protectedSegment.clear();
+            removedNodes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        Node<K, V> node = map.remove(key);
+        if (node != null) {
+            lock.lock();
+            try {
+                markRemoved(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ComputingCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return this;
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Node<K, V> node : map.values()) {
+            V value = node.value.getIfPresent();
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+
+            private final Iterator<Node<K, V>> delegate = map.values().iterator();
+            private V next = findNext();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            private V findNext() {
+                while (delegate.hasNext()) {
+                    V next = delegate.next().value.getIfPresent();
+                    if (next != null) {
+                        return next;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V current = next;
+                this.next = findNext();
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedComputingCache [size=" + map.size() + ", maxSize=" + maxSize + "]";
+    }
+
+    private void markRemoved(Node<K, V> node) {
+        if (node.removed) {
+            return;
+        }
+        node.removed = true;
+        if (node.queued && ++removedNodes > maxSize) {
+            // do not let invalidated nodes pile up if there is no eviction
+            probation.removeIf(n -> n.removed);
+            protectedSegment.removeIf(n -> n.removed);
+            removedNodes = 0;
+        }
+    }
+
+    private void evict() {
+        // every referenced node may be promoted at most once per round, then the probation head is evicted unconditionally
+        long promotions = probation.size();
+        long evicted = 0;
+        while (map.size() > maxSize) {
+            Node<K, V> node = probation.pollFirst();
+            if (node == null) {
+                break;
+            }
+            if (node.removed) {
+                removedNodes--;
+                continue;
+            }
+            if (node.referenced && promotions-- > 0) {
+                node.referenced = false;
+                promote(node);
+            } else if (map.remove(node.key, node)) {
+                node.removed = true;
+                evicted++;
+            }
+        }
+        if (statistics != null && evicted > 0) {
+            statistics.recordEvictions(evicted);
+        }
+    }
+
+    private void promote(Node<K, V> node) {
+        if (protectedMaxSize == 0) {
+            probation.offerLast(node);
+            return;
+        }
+        protectedSegment.offerLast(node);
+        // give the referenced nodes in the protected segment a second chance
+        int attempts = protectedSegment.size();
+        while (protectedSegment.size() > protectedMaxSize) {
+            Node<K, V> head = protectedSegment.pollFirst();
+            if (head.removed) {
+                removedNodes--;
+            } else if (head.referenced && attempts-- > 0) {
+                head.referenced = false;
+                protectedSegment.offerLast(head);
+            } else {
+                probation.offerLast(head);
+            }
+        }
+    }
+
+    private V compute(K key) {
+        if (statistics == null) {
+            return computingFunction.apply(key);
+        }
+        long start = System.nanoTime();
+        try {
+            return computingFunction.apply(key);
+        } finally {
+            statistics.recordLoad(System.nanoTime() - start);
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final LazyValueHolder<V> value;
+        private volatile boolean referenced;
+        // guarded by the cache lock
+        private boolean queued;
+        private boolean removed;
+
+        private Node(K key, BoundedComputingCache<K, V> cache) {
+            this.key = key;
+            this.value = LazyValueHolder.forSupplier(() -> cache.compute(key));
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value.getIfPresent();
+        }
+    }
+
+}
@@ -81,4 +81,13 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     *
+     * @return the statistics or <code>null</code> if the cache does not record statistics
+     * @see ComputingCacheBuilder#recordStatistics()
+     */
+    default ComputingCacheStatistics getStatistics() {
+        return null;
+    }
+
 }
@@ -19,6 +19,7 @@ package org.jboss.weld.util.cache;
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
 
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +34,10 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private boolean weakKeys;
+
+    private boolean recordStatistics;
+
     private ComputingCacheBuilder() {
     }
 
@@ -45,6 +50,8 @@ public final class ComputingCacheBuilder {
     }
 
     /**
+     * If the cache is bounded and does not use weak values, the least valuable entries are evicted once the bound is exceeded.
+     * Otherwise, all the entries are removed.
      *
      * @param maxSize
      * @return self
@@ -54,6 +61,27 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * The cache should record hit, miss, eviction and load statistics.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStatistics() {
+        return recordStatistics(true);
+    }
+
+    /**
+     *
+     * @param value
+     * @return self
+     * @see #recordStatistics()
+     */
+    public ComputingCacheBuilder recordStatistics(boolean value) {
+        this.recordStatistics = value;
+        return this;
+    }
+
     /**
      * Values stored in the cache should be wrapped in a {@link WeakReference}.
      *
@@ -64,15 +92,39 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * Keys stored in the cache should be wrapped in a {@link WeakReference} so that an entry does not prevent its key from
+     * being garbage collected. Keys are still compared using {@link Object#equals(Object)}. This is useful if the keys are
+     * created dynamically, e.g. annotation literals. Should be combined with {@link #setMaxSize(long)} if the number of
+     * strongly reachable keys is not limited either.
+     *
+     * @return self
+     */
+    public ComputingCacheBuilder setWeakKeys() {
+        this.weakKeys = true;
+        return this;
+    }
+
     /**
      *
      * @param computingFunction
      * @return a new ComputingCache instance
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
+        if (weakKeys) {
+            return new WeakKeyComputingCache<K, V>(this::buildStrongKeyCache, computingFunction);
+        }
+        return buildStrongKeyCache(computingFunction);
+    }
+
+    private <K, V> ComputingCache<K, V> buildStrongKeyCache(Function<K, V> computingFunction) {
         if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize,
+                    recordStatistics);
+        }
+        if (maxSize != null) {
+            return new BoundedComputingCache<>(computingFunction, maxSize, recordStatistics);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, LazyValueHolder::forSupplier, null, recordStatistics);
     }
 }
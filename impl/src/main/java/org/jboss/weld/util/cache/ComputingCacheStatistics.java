@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss, eviction and load statistics of a {@link ComputingCache}. The counters are live, i.e. the values returned by the
+ * getters are updated as the cache is used.
+ *
+ * @see ComputingCacheBuilder#recordStatistics()
+ */
+public final class ComputingCacheStatistics implements ComputingCacheStatisticsMXBean {
+
+    private final ComputingCache<?, ?> cache;
+    private final Long maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    ComputingCacheStatistics(ComputingCache<?, ?> cache, Long maxSize) {
+        this.cache = cache;
+        this.maxSize = maxSize;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEvictions(long count) {
+        evictions.add(count);
+    }
+
+    void recordLoad(long nanos) {
+        loads.increment();
+        loadTime.add(nanos);
+    }
+
+    /**
+     *
+     * @return the current number of entries
+     */
+    @Override
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     *
+     * @return the maximum number of entries or <code>-1</code> if the cache is not bounded
+     */
+    @Override
+    public long getMaxSize() {
+        return maxSize != null ? maxSize : -1L;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     *
+     * @return the ratio of hits to all lookups or <code>1.0</code> if there was no lookup yet
+     */
+    @Override
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long lookups = hitCount + getMissCount();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     *
+     * @return the number of computed values
+     */
+    @Override
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Note that the load time of a value includes the time spent computing other values of the same cache during the
+     * computation (reentrant computations).
+     *
+     * @return the total time spent computing values, in nanoseconds
+     */
+    @Override
+    public long getTotalLoadTime() {
+        return loadTime.sum();
+    }
+
+    /**
+     *
+     * @return the average time spent computing a value, in nanoseconds
+     */
+    @Override
+    public double getAverageLoadTime() {
+        long loadCount = getLoadCount();
+        return loadCount == 0 ? 0.0 : (double) getTotalLoadTime() / loadCount;
+    }
+
+    /**
+     * Resets all the counters.
+     */
+    @Override
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        loads.reset();
+        loadTime.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ComputingCacheStatistics [size=" + getSize() + ", maxSize=" + getMaxSize() + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ", loads=" + getLoadCount()
+                + ", averageLoadTime=" + TimeUnit.NANOSECONDS.toMicros((long) getAverageLoadTime()) + "us]";
+    }
+
+}
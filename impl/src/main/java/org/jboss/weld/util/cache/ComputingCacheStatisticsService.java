@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.logging.UtilLogger;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * Keeps track of the statistics of the container caches and registers each of them as a platform MBean. The service is only
+ * installed if {@link ConfigurationKey#CACHE_STATISTICS} is enabled.
+ * <p>
+ * The MBeans are named
+ * <code>org.jboss.weld:type=ComputingCache,container=&lt;contextId&gt;,owner=&lt;owner&gt;,name=&lt;name&gt;</code>
+ * and unregistered when the container is shut down.
+ */
+public class ComputingCacheStatisticsService implements Service {
+
+    private static final String DOMAIN = "org.jboss.weld";
+
+    private final String contextId;
+    private final Map<ObjectName, ComputingCacheStatistics> statistics;
+
+    public ComputingCacheStatisticsService(String contextId) {
+        this.contextId = contextId;
+        this.statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the given statistics. No-op if the statistics are <code>null</code>, i.e. the cache does not record
+     * statistics.
+     *
+     * @param owner the owner of the cache, e.g. a bean manager id
+     * @param name the name of the cache
+     * @param cacheStatistics
+     */
+    public void register(String owner, String name, ComputingCacheStatistics cacheStatistics) {
+        if (cacheStatistics == null) {
+            return;
+        }
+        ObjectName objectName;
+        try {
+            objectName = new ObjectName(DOMAIN + ":type=ComputingCache,container=" + ObjectName.quote(contextId) + ",owner="
+                    + ObjectName.quote(owner) + ",name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            UtilLogger.LOG.unableToRegisterCacheStatisticsMBean(name, e);
+            return;
+        }
+        if (statistics.putIfAbsent(objectName, cacheStatistics) != null) {
+            return;
+        }
+        try {
+            getMBeanServer().registerMBean(cacheStatistics, objectName);
+        } catch (JMException | SecurityException e) {
+            UtilLogger.LOG.unableToRegisterCacheStatisticsMBean(objectName, e);
+        }
+    }
+
+    /**
+     *
+     * @return an immutable map of all the registered statistics, the keys are the MBean names
+     */
+    public Map<ObjectName, ComputingCacheStatistics> getStatistics() {
+        return ImmutableMap.copyOf(statistics);
+    }
+
+    @Override
+    public void cleanup() {
+        MBeanServer server = getMBeanServer();
+        for (ObjectName objectName : statistics.keySet()) {
+            try {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException | SecurityException e) {
+                UtilLogger.LOG.unableToUnregisterCacheStatisticsMBean(objectName, e);
+            }
+        }
+        statistics.clear();
+    }
+
+    private static MBeanServer getMBeanServer() {
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+
+}
@@ -45,21 +45,37 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     private final ConcurrentMap<K, ValueHolder<V>> map;
     private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
-
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
+    private final ComputingCacheStatistics statistics;
 
     ReentrantMapBackedComputingCache(Function<K, V> computingFunction,
-            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize, boolean recordStatistics) {
         this.map = new ConcurrentHashMap<>();
         this.maxSize = maxSize;
-        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = recordStatistics ? new ComputingCacheStatistics(this, maxSize) : null;
+        if (statistics != null) {
+            this.function = (key) -> valueHolderFunction.apply(() -> {
+                long start = System.nanoTime();
+                try {
+                    return computingFunction.apply(key);
+                } finally {
+                    statistics.recordLoad(System.nanoTime() - start);
+                }
+            });
+        } else {
+            this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        }
     }
 
     @Override
     public V getValue(final K key) {
         ValueHolder<V> value = map.get(key);
+        if (statistics != null) {
+            if (value == null) {
+                statistics.recordMiss();
+            } else {
+                statistics.recordHit();
+            }
+        }
         if (value == null) {
             value = function.apply(key);
             ValueHolder<V> previous = map.putIfAbsent(key, value);
@@ -68,7 +84,11 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             }
             // finally, check that we are not over the bound
             if (maxSize != null && size() > maxSize) {
+                long evicted = size();
                 clear();
+                if (statistics != null) {
+                    statistics.recordEvictions(evicted);
+                }
             }
         }
         return value.get();
@@ -104,6 +124,11 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         map.remove(key);
     }
 
+    @Override
+    public ComputingCacheStatistics getStatistics() {
+        return statistics;
+    }
+
     @Override
     public Iterable<V> getAllPresentValues() {
         return this;
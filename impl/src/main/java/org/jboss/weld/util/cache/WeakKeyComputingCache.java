@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link ComputingCache} which does not prevent its keys from being garbage collected. Keys are wrapped in a
+ * {@link WeakReference} and compared using {@link Object#equals(Object)}, i.e. unlike {@link java.util.WeakHashMap} no
+ * identity semantics is involved. Once a key is collected the corresponding entry is removed with the next lookup.
+ * <p>
+ * The entries are stored in a delegate cache so that the eviction policy is not affected, see
+ * {@link ComputingCacheBuilder#setWeakKeys()}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class WeakKeyComputingCache<K, V> implements ComputingCache<K, V> {
+
+    private final ComputingCache<WeakKey<K>, V> delegate;
+
+    private final ReferenceQueue<K> queue;
+
+    WeakKeyComputingCache(Function<Function<WeakKey<K>, V>, ComputingCache<WeakKey<K>, V>> delegateFunction,
+            Function<K, V> computingFunction) {
+        // the key is strongly reachable from the caller while the value is computed
+        this.delegate = delegateFunction.apply(key -> computingFunction.apply(key.get()));
+        this.queue = new ReferenceQueue<>();
+    }
+
+    @Override
+    public V getValue(K key) {
+        expungeStaleEntries();
+        return delegate.getValue(new WeakKey<>(key, queue));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        return delegate.getValueIfPresent(new WeakKey<>(key, null));
+    }
+
+    @Override
+    public long size() {
+        expungeStaleEntries();
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        // the references of the removed entries do not need to be processed anymore
+        while (queue.poll() != null) {
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void invalidate(Object key) {
+        delegate.invalidate(new WeakKey<>((K) key, null));
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return delegate.getAllPresentValues();
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        delegate.forEachValue(consumer);
+    }
+
+    @Override
+    public ComputingCacheStatistics getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        return "WeakKeyComputingCache [delegate=" + delegate + "]";
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> reference;
+        while ((reference = queue.poll()) != null) {
+            // a cleared key is only equal to itself
+            delegate.invalidate(reference);
+        }
+    }
+
+    static final class WeakKey<K> extends WeakReference<K> {
+
+        private final int hashCode;
+
+        private WeakKey(K referent, ReferenceQueue<? super K> queue) {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WeakKey)) {
+                return false;
+            }
+            WeakKey<?> that = (WeakKey<?>) obj;
+            if (hashCode != that.hashCode) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent.equals(that.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(get());
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class IndexedBeanStoreTest {
+
+    @Test
+    public void testIndexedAndOverflowInstances() {
+        BeanStoreIndex index = buildIndex("a", "b", "c");
+        IndexedBeanStore store = new IndexedBeanStore(index);
+        assertTrue(store.isEmpty());
+
+        BeanIdentifier b = new StringBeanIdentifier("b");
+        BeanIdentifier foo = new StringBeanIdentifier("foo");
+        Instance bInstance = new Instance();
+        Instance fooInstance = new Instance();
+        store.put(b, bInstance);
+        store.put(foo, fooInstance);
+
+        assertFalse(store.isEmpty());
+        assertSame(bInstance, store.get(new StringBeanIdentifier("b")));
+        assertSame(fooInstance, store.get(foo));
+        assertNull(store.get(new StringBeanIdentifier("a")));
+        assertTrue(store.contains(b));
+        assertFalse(store.contains(new StringBeanIdentifier("c")));
+        assertEquals("holding 2 instances", store.toString());
+
+        assertSame(bInstance, store.remove(b));
+        assertNull(store.get(b));
+        assertSame(fooInstance, store.remove(foo));
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void testIterator() {
+        IndexedBeanStore store = new IndexedBeanStore(buildIndex("a", "b", "c"));
+        store.put(new StringBeanIdentifier("c"), new Instance());
+        store.put(new StringBeanIdentifier("a"), new Instance());
+        store.put(new StringBeanIdentifier("foo"), new Instance());
+
+        Set<String> ids = new HashSet<>();
+        for (Iterator<BeanIdentifier> iterator = store.iterator(); iterator.hasNext();) {
+            BeanIdentifier id = iterator.next();
+            ids.add(id.asString());
+            if (!id.asString().equals("c")) {
+                iterator.remove();
+            }
+        }
+        assertEquals(3, ids.size());
+        assertTrue(ids.contains("a"));
+        assertTrue(ids.contains("c"));
+        assertTrue(ids.contains("foo"));
+        assertEquals("holding 1 instances", store.toString());
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertFalse(store.iterator().hasNext());
+    }
+
+    @Test
+    public void testArraySizedToSlotsUsed() throws Exception {
+        String[] ids = new String[200];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "bean" + i;
+        }
+        BeanStoreIndex index = buildIndex(ids);
+        BeanIdentifier first = index.getIdentifier(0);
+        BeanIdentifier tenth = index.getIdentifier(9);
+        IndexedBeanStore store = new IndexedBeanStore(index);
+        store.put(first, new Instance());
+        assertTrue(getInstances(store).length < ids.length);
+        store.put(tenth, new Instance());
+        assertTrue(getInstances(store).length < ids.length);
+        assertEquals("holding 2 instances", store.toString());
+
+        BeanIdentifier last = index.getIdentifier(ids.length - 1);
+        store.put(last, new Instance());
+        assertEquals(ids.length, getInstances(store).length);
+        Set<BeanIdentifier> identifiers = new HashSet<>();
+        store.iterator().forEachRemaining(identifiers::add);
+        assertEquals(Set.of(first, tenth, last), identifiers);
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertNull(store.get(last));
+        assertFalse(store.iterator().hasNext());
+    }
+
+    @Test
+    public void testIndexNotBuilt() {
+        BeanStoreIndex index = new BeanStoreIndex();
+        IndexedBeanStore store = new IndexedBeanStore(index);
+        BeanIdentifier a = new StringBeanIdentifier("a");
+        Instance instance = new Instance();
+        store.put(a, instance);
+        // Building the index later must not affect existing bean stores
+        index.build(Set.of(DummyBean.of("a")));
+        assertSame(instance, store.get(a));
+
+        IndexedBeanStore noIndexStore = new IndexedBeanStore(null);
+        noIndexStore.put(a, instance);
+        assertSame(instance, noIndexStore.get(a));
+    }
+
+    @Test
+    public void testOnlyRequestSessionAndConversationScopedBeansIndexed() {
+        BeanStoreIndex index = new BeanStoreIndex();
+        DummyBean<Object> request = DummyBean.of("a");
+        index.build(Set.of(request, new DummyBean<>(ApplicationScoped.class, new StringBeanIdentifier("b"))));
+        assertEquals(1, index.size());
+        assertEquals(0, index.getSlot(request.getIdentifier()));
+        assertEquals(-1, index.getSlot(new StringBeanIdentifier("b")));
+    }
+
+    private static ContextualInstance<?>[] getInstances(IndexedBeanStore store) throws Exception {
+        Field instances = IndexedBeanStore.class.getDeclaredField("instances");
+        instances.setAccessible(true);
+        return (ContextualInstance<?>[]) instances.get(store);
+    }
+
+    private static BeanStoreIndex buildIndex(String... ids) {
+        Set<Bean<?>> beans = new HashSet<>();
+        for (String id : ids) {
+            beans.add(DummyBean.of(id));
+        }
+        BeanStoreIndex index = new BeanStoreIndex();
+        index.build(beans);
+        return index;
+    }
+
+    private static class Instance implements ContextualInstance<Object> {
+
+        @Override
+        public Object getInstance() {
+            return this;
+        }
+
+        @Override
+        public CreationalContext<Object> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<Object> getContextual() {
+            return null;
+        }
+    }
+
+    private static class DummyBean<T> extends CommonBean<T> {
+
+        private final Class<? extends Annotation> scope;
+
+        static <T> DummyBean<T> of(String id) {
+            return new DummyBean<>(RequestScoped.class, new StringBeanIdentifier(id));
+        }
+
+        protected DummyBean(Class<? extends Annotation> scope, BeanIdentifier identifier) {
+            super(null, identifier);
+            this.scope = scope;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return scope;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return null;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return null;
+        }
+
+        @Override
+        public T create(CreationalContext<T> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(T instance, CreationalContext<T> creationalContext) {
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class LockStoreTest {
+
+    private static final BeanIdentifier FOO = new StringBeanIdentifier("foo");
+
+    private static final BeanIdentifier BAR = new StringBeanIdentifier("bar");
+
+    @Test
+    public void testLockIsExclusivePerBean() throws Exception {
+        LockStore store = new LockStore();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicInteger maxConcurrent = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 1000; j++) {
+                        LockedBean lock = store.lock(new StringBeanIdentifier("foo"));
+                        try {
+                            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                            concurrent.decrementAndGet();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1, maxConcurrent.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDifferentBeansDoNotBlock() throws Exception {
+        LockStore store = new LockStore();
+        LockedBean foo = store.lock(FOO);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(executor.submit(() -> {
+                store.lock(BAR).unlock();
+                return true;
+            }).get(10, TimeUnit.SECONDS));
+            Future<Boolean> blocked = executor.submit(() -> {
+                store.lock(FOO).unlock();
+                return true;
+            });
+            Thread.sleep(50);
+            assertFalse(blocked.isDone());
+            foo.unlock();
+            assertTrue(blocked.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLockIsReentrant() {
+        LockStore store = new LockStore();
+        LockedBean outer = store.lock(FOO);
+        LockedBean inner = store.lock(FOO);
+        inner.unlock();
+        outer.unlock();
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        LockStore store = new LockStore();
+        LockedBean lock = store.lock(FOO);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(store);
+        }
+        lock.unlock();
+        LockStore deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (LockStore) in.readObject();
+        }
+        assertNotNull(deserialized);
+        deserialized.lock(FOO).unlock();
+    }
+
+}
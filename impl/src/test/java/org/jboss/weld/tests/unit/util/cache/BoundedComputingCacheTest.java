@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for a bounded {@link ComputingCache} and {@link ComputingCacheStatistics}.
+ */
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testSizeIsBounded() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).build(String::valueOf);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.getValue(i));
+            Assert.assertTrue(cache.size() <= 10);
+        }
+        Assert.assertEquals(10, cache.size());
+        // the most recent entry is never evicted right away
+        Assert.assertEquals("99", cache.getValueIfPresent(99));
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurviveScan() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).build(String::valueOf);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5; i++) {
+                cache.getValue(i);
+            }
+        }
+        // one-off lookups
+        for (int i = 100; i < 200; i++) {
+            cache.getValue(i);
+            cache.getValue(i % 5);
+        }
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.getValueIfPresent(i));
+        }
+        Assert.assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).build(i -> {
+            computations.incrementAndGet();
+            return String.valueOf(i);
+        });
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.invalidate(1);
+        Assert.assertNull(cache.getValueIfPresent(1));
+        Assert.assertEquals(1, cache.size());
+        for (int i = 10; i < 30; i++) {
+            cache.getValue(i);
+            cache.invalidate(i);
+        }
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals("2", cache.getValue(2));
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals("2", cache.getValue(2));
+        Assert.assertEquals(23, computations.get());
+    }
+
+    @Test
+    public void testReentrantComputation() {
+        ComputingCache<Integer, Integer>[] holder = new ComputingCache[1];
+        holder[0] = ComputingCacheBuilder.newBuilder().setMaxSize(4)
+                .<Integer, Integer> build(i -> i == 0 ? 0 : i + holder[0].getValue(i - 1));
+        Assert.assertEquals(Integer.valueOf(55), holder[0].getValue(10));
+        Assert.assertTrue(holder[0].size() <= 4);
+    }
+
+    @Test
+    public void testStatistics() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(2).recordStatistics()
+                .build(String::valueOf);
+        ComputingCacheStatistics statistics = cache.getStatistics();
+        Assert.assertNotNull(statistics);
+        Assert.assertEquals(2, statistics.getMaxSize());
+        Assert.assertEquals(1.0, statistics.getHitRate(), 0.0);
+        cache.getValue(1);
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.getValue(3);
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(3, statistics.getMissCount());
+        Assert.assertEquals(3, statistics.getLoadCount());
+        Assert.assertEquals(1, statistics.getEvictionCount());
+        Assert.assertEquals(2, statistics.getSize());
+        Assert.assertEquals(0.25, statistics.getHitRate(), 0.0);
+        Assert.assertTrue(statistics.getTotalLoadTime() >= 0);
+        statistics.reset();
+        Assert.assertEquals(0, statistics.getHitCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testUnboundedStatistics() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().recordStatistics().build(String::valueOf);
+        cache.getValue(1);
+        cache.getValue(1);
+        ComputingCacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(-1, statistics.getMaxSize());
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+        Assert.assertNull(ComputingCacheBuilder.newBuilder().build(String::valueOf).getStatistics());
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.util.cache.WeakKeyComputingCache.WeakKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for a {@link ComputingCache} with weak keys.
+ */
+public class WeakKeyComputingCacheTest {
+
+    @Test
+    public void testKeysComparedByEquality() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<String, Integer> cache = ComputingCacheBuilder.newBuilder().setWeakKeys().build(key -> {
+            computations.incrementAndGet();
+            return key.length();
+        });
+        String key = new String("foo");
+        Assert.assertEquals(Integer.valueOf(3), cache.getValue(key));
+        Assert.assertEquals(Integer.valueOf(3), cache.getValue(new String("foo")));
+        Assert.assertEquals(Integer.valueOf(3), cache.getValueIfPresent(new String("foo")));
+        Assert.assertEquals(1, computations.get());
+        Assert.assertEquals(1, cache.size());
+        cache.invalidate(new String("foo"));
+        Assert.assertNull(cache.getValueIfPresent(key));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setWeakKeys().setMaxSize(10)
+                .build(String::valueOf);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.getValue(i));
+            Assert.assertTrue(cache.size() <= 10);
+        }
+    }
+
+    @Test
+    public void testCollectedKeysAreRemoved() {
+        // the weak references stored in the delegate cache
+        List<Reference<?>> references = new ArrayList<>();
+        ComputingCache<Object, String> cache = new WeakKeyComputingCache<Object, String>(
+                computingFunction -> ComputingCacheBuilder.newBuilder().<WeakKey<Object>, String> build(weakKey -> {
+                    references.add(weakKey);
+                    return computingFunction.apply(weakKey);
+                }), String::valueOf);
+        Object key = new Object();
+        Object collectedKey = new Object();
+        cache.getValue(key);
+        cache.getValue(collectedKey);
+        Assert.assertEquals(2, references.size());
+        Assert.assertEquals(2, cache.size());
+
+        // this is what the garbage collector does once the key is weakly reachable
+        Reference<?> reference = references.get(1);
+        reference.clear();
+        Assert.assertTrue(reference.enqueue());
+
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(String.valueOf(key), cache.getValueIfPresent(key));
+        Assert.assertNull(cache.getValueIfPresent(collectedKey));
+    }
+
+}
@@ -16,13 +16,9 @@
  */
 package org.jboss.weld.module.jta;
 
-import jakarta.enterprise.context.RequestScoped;
 import jakarta.enterprise.inject.spi.EventMetadata;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 
-import org.jboss.weld.Container;
-import org.jboss.weld.context.RequestContext;
-import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.event.CurrentEventMetadata;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
 import org.jboss.weld.logging.EventLogger;
@@ -42,7 +38,6 @@ class DeferredEventNotification<T> implements Runnable {
     private final T event;
     protected final EventMetadata metadata;
     private final CurrentEventMetadata currentEventMetadata;
-    private final String contextId;
 
     private final Status status;
     private final boolean before;
@@ -53,9 +48,8 @@ class DeferredEventNotification<T> implements Runnable {
      * @param observer The observer to be notified
      * @param metadata The event being fired
      */
-    public DeferredEventNotification(String contextId, T event, EventMetadata metadata, ObserverMethod<? super T> observer,
+    public DeferredEventNotification(T event, EventMetadata metadata, ObserverMethod<? super T> observer,
             CurrentEventMetadata currentEventMetadata, Status status, boolean before) {
-        this.contextId = contextId;
         this.observer = observer;
         this.event = event;
         this.metadata = metadata;
@@ -64,29 +58,29 @@ class DeferredEventNotification<T> implements Runnable {
         this.before = before;
     }
 
+    /**
+     * Notifies the observer. The request context is activated by the caller, see
+     * {@link TransactionNotificationSynchronization}.
+     */
     public void run() {
         try {
             EventLogger.LOG.asyncFire(metadata, observer);
-            new RunInRequest(contextId) {
-
-                @Override
-                protected void execute() {
-                    final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
-                    try {
-                        Observers.notify(observer, event, metadata);
-                    } finally {
-                        stack.pop();
-                    }
-                }
-
-            }.run();
-
+            final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
+            try {
+                Observers.notify(observer, event, metadata);
+            } finally {
+                stack.pop();
+            }
         } catch (Exception e) {
             EventLogger.LOG.asyncObserverFailure(observer, metadata, e.getCause() != null ? e.getCause() : e);
             EventLogger.LOG.catchingDebug(e);
         }
     }
 
+    T getEvent() {
+        return event;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -99,37 +93,4 @@ class DeferredEventNotification<T> implements Runnable {
     public String toString() {
         return "Deferred event [" + event + "] for [" + observer + "]";
     }
-
-    private abstract static class RunInRequest {
-
-        private final String contextId;
-
-        public RunInRequest(String contextId) {
-            this.contextId = contextId;
-        }
-
-        protected abstract void execute();
-
-        public void run() {
-
-            if (isRequestContextActive()) {
-                execute();
-            } else {
-                RequestContext requestContext = Container.instance(contextId).deploymentManager().instance()
-                        .select(RequestContext.class, UnboundLiteral.INSTANCE).get();
-                try {
-                    requestContext.activate();
-                    execute();
-                } finally {
-                    requestContext.invalidate();
-                    requestContext.deactivate();
-                }
-            }
-        }
-
-        private boolean isRequestContextActive() {
-            return Container.instance(contextId).deploymentManager().isContextActive(RequestScoped.class);
-        }
-
-    }
 }
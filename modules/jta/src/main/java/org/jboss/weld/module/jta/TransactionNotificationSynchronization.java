@@ -16,25 +16,89 @@
  */
 package org.jboss.weld.module.jta;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.Synchronization;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+
 /**
- * A JTA transaction synchronization which wraps all defferred transactional event notifications.
+ * A JTA transaction synchronization which wraps all defferred transactional event notifications. The request context is
+ * activated once for all the notifications delivered in a given phase of the transaction.
+ * <p>
+ * The synchronization is thread-safe. Notifications may be added by the application thread while the transaction manager
+ * completes the transaction on another thread, e.g. if the transaction is rolled back after a timeout.
+ * </p>
  *
  * @author David Allen
  */
 class TransactionNotificationSynchronization implements Synchronization {
 
+    private static final int NO_STATUS = -1;
+
+    private final String contextId;
+
+    private final Object lock = new Object();
+
+    // guarded by lock
     private final List<DeferredEventNotification<?>> notifications;
 
+    // guarded by lock, null if identical notifications are not coalesced
+    private final Set<NotificationKey> notificationKeys;
+
+    // guarded by lock, the status passed to afterCompletion() or NO_STATUS if the transaction is not completed yet
+    private int completionStatus = NO_STATUS;
+
+    // only set while holding the lock
+    private volatile boolean beforeCompletionDone;
+
     /**
      *
-     * @param notifications The ordered list of notifications
+     * @param contextId The container id
+     * @param coalesce If set to <code>true</code>, a notification identical to an already added one is ignored
      */
-    public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
-        this.notifications = notifications;
+    TransactionNotificationSynchronization(String contextId, boolean coalesce) {
+        this.contextId = contextId;
+        this.notifications = new ArrayList<DeferredEventNotification<?>>();
+        this.notificationKeys = coalesce ? new HashSet<NotificationKey>() : null;
+    }
+
+    /**
+     * Notifications are delivered in the order they were added. A notification may also be added while notifications are
+     * being delivered, e.g. if a before completion observer fires another event.
+     * <p>
+     * A notification added once its phase is in progress or over is not queued. If it matches the phase, it's delivered
+     * right away. Otherwise, e.g. a before completion notification added after the transaction was completed, it's
+     * ignored.
+     * </p>
+     *
+     * @param notification
+     */
+    void add(DeferredEventNotification<?> notification) {
+        int status;
+        synchronized (lock) {
+            if (notificationKeys != null && !notificationKeys.add(new NotificationKey(notification))) {
+                return;
+            }
+            status = completionStatus;
+            if (status == NO_STATUS && (!notification.isBefore() || !beforeCompletionDone)) {
+                notifications.add(notification);
+                return;
+            }
+        }
+        if (notification.isBefore() ? status == NO_STATUS : notification.getStatus().matches(status)) {
+            deliver(notification);
+        }
     }
 
     /*
@@ -43,11 +107,11 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
-        for (DeferredEventNotification<?> notification : notifications) {
-            if (!notification.isBefore() && notification.getStatus().matches(status)) {
-                notification.run();
-            }
+        synchronized (lock) {
+            // from now on, notifications are not queued anymore
+            completionStatus = status;
         }
+        deliver(notification -> !notification.isBefore() && notification.getStatus().matches(status), false);
     }
 
     /*
@@ -56,10 +120,122 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
-            if (notification.isBefore()) {
-                notification.run();
+        try {
+            deliver(DeferredEventNotification::isBefore, true);
+        } finally {
+            synchronized (lock) {
+                beforeCompletionDone = true;
+            }
+        }
+    }
+
+    /**
+     * Before completion notifications added once this method returns <code>true</code> would never be delivered, e.g. if an
+     * event is fired by another synchronization which is called later.
+     *
+     * @return <code>true</code> if the before completion notifications were delivered already
+     */
+    boolean isBeforeCompletionDone() {
+        return beforeCompletionDone;
+    }
+
+    /**
+     *
+     * @param filter
+     * @param beforeCompletion If set to <code>true</code>, the before completion phase is marked as done as soon as there
+     *        are no more notifications to deliver
+     */
+    private void deliver(Predicate<DeferredEventNotification<?>> filter, boolean beforeCompletion) {
+        boolean started = false;
+        // null if the request context was already active
+        RequestContext requestContext = null;
+        try {
+            // notifications may be added during iteration
+            for (int i = 0;; i++) {
+                DeferredEventNotification<?> notification;
+                synchronized (lock) {
+                    if (i == notifications.size()) {
+                        if (beforeCompletion) {
+                            // no notification may be queued between the last check and marking the phase as done
+                            beforeCompletionDone = true;
+                        }
+                        break;
+                    }
+                    notification = notifications.get(i);
+                }
+                if (filter.test(notification)) {
+                    if (!started) {
+                        started = true;
+                        requestContext = activateRequestContextIfNeeded();
+                    }
+                    notification.run();
+                }
+            }
+        } finally {
+            deactivateRequestContext(requestContext);
+        }
+    }
+
+    private void deliver(DeferredEventNotification<?> notification) {
+        RequestContext requestContext = activateRequestContextIfNeeded();
+        try {
+            notification.run();
+        } finally {
+            deactivateRequestContext(requestContext);
+        }
+    }
+
+    private RequestContext activateRequestContextIfNeeded() {
+        Container container = Container.instance(contextId);
+        if (container.deploymentManager().isContextActive(RequestScoped.class)) {
+            return null;
+        }
+        RequestContext requestContext = container.deploymentManager().instance()
+                .select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+        requestContext.activate();
+        return requestContext;
+    }
+
+    private void deactivateRequestContext(RequestContext requestContext) {
+        if (requestContext != null) {
+            requestContext.invalidate();
+            requestContext.deactivate();
+        }
+    }
+
+    /**
+     * Two notifications are identical if they notify the same observer method of equal events with equal qualifiers.
+     */
+    private static final class NotificationKey {
+
+        private final ObserverMethod<?> observer;
+        private final Object event;
+        private final Set<Annotation> qualifiers;
+        private final int hashCode;
+
+        private NotificationKey(DeferredEventNotification<?> notification) {
+            this.observer = notification.observer;
+            this.event = notification.getEvent();
+            this.qualifiers = notification.metadata != null ? notification.metadata.getQualifiers() : null;
+            this.hashCode = Objects.hash(observer, event, qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotificationKey)) {
+                return false;
             }
+            NotificationKey that = (NotificationKey) obj;
+            return observer.equals(that.observer) && Objects.equals(event, that.event)
+                    && Objects.equals(qualifiers, that.qualifiers);
         }
     }
 }
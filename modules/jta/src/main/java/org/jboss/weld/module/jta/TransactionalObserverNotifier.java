@@ -16,7 +16,6 @@
  */
 package org.jboss.weld.module.jta;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,10 +23,14 @@ import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.spi.EventMetadata;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.RollbackException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.module.ObserverNotifierFactory;
+import org.jboss.weld.module.jta.spi.TransactionSynchronizationRegistryService;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.transaction.spi.TransactionServices;
 
@@ -47,13 +50,27 @@ class TransactionalObserverNotifier extends ObserverNotifier {
     };
 
     private final TransactionServices transactionServices;
+    private final TransactionSynchronizationRegistry synchronizationRegistry;
     private final String contextId;
+    private final Object synchronizationKey;
+    private final boolean coalesce;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services,
             boolean strict) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        TransactionSynchronizationRegistryService registryService = services
+                .get(TransactionSynchronizationRegistryService.class);
+        if (registryService == null && transactionServices instanceof TransactionSynchronizationRegistryService) {
+            registryService = (TransactionSynchronizationRegistryService) transactionServices;
+        }
+        this.synchronizationRegistry = registryService != null ? registryService.getTransactionSynchronizationRegistry()
+                : null;
+        // shared by all the bean managers of a container
+        this.synchronizationKey = TransactionNotificationSynchronization.class.getName() + "." + contextId;
+        this.coalesce = services.get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.TRANSACTIONAL_OBSERVER_COALESCING);
     }
 
     /**
@@ -63,12 +80,11 @@ class TransactionalObserverNotifier extends ObserverNotifier {
      * @param metadata The event object
      */
     private <T> void deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer,
-            final List<DeferredEventNotification<?>> notifications) {
+            final TransactionNotificationSynchronization synchronization) {
         TransactionPhase transactionPhase = observer.getTransactionPhase();
         boolean before = transactionPhase.equals(TransactionPhase.BEFORE_COMPLETION);
         Status status = Status.valueOf(transactionPhase);
-        notifications.add(
-                new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
+        synchronization.add(new DeferredEventNotification<T>(event, metadata, observer, currentEventMetadata, status, before));
     }
 
     @Override
@@ -80,29 +96,71 @@ class TransactionalObserverNotifier extends ObserverNotifier {
         if (transactionServices == null || !transactionServices.isTransactionActive()) {
             // Transaction is not active - no deferred notifications
             notifySyncObservers(observers, event, metadata, handler);
-        } else {
-            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>();
-            for (ObserverMethod<? super T> observer : observers) {
-                deferNotification(event, metadata, observer, notifications);
-            }
-            try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
-            } catch (Exception e) {
-                if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
-                    List<ObserverMethod<? super T>> filteredObservers = observers.stream()
-                            .filter(observerMethod -> !observerMethod.getTransactionPhase()
-                                    .equals(TransactionPhase.AFTER_SUCCESS))
-                            .sorted((o1, o2) -> {
-                                // using descending order since we only need to ensure that BEFORE_COMPLETION precedes AFTER_COMPLETION
-                                return o2.getTransactionPhase().toString().compareTo(o1.getTransactionPhase().toString());
-                            })
-                            .collect(Collectors.toList());
-                    notifySyncObservers(filteredObservers, event, metadata, handler);
-                } else {
-                    throw e;
+            return;
+        }
+        TransactionNotificationSynchronization synchronization = getTransactionSynchronization();
+        if (synchronization != null) {
+            if (synchronizationRegistry.getTransactionStatus() == jakarta.transaction.Status.STATUS_MARKED_ROLLBACK) {
+                // a new synchronization could not be registered either
+                notifyObserversOfFailedTransaction(observers, event, metadata, handler);
+            } else if (synchronization.isBeforeCompletionDone()) {
+                // e.g. an event fired by an interposed synchronization which flushes a persistence context
+                TransactionNotificationSynchronization beforeCompletion = new TransactionNotificationSynchronization(contextId,
+                        false);
+                for (ObserverMethod<? super T> observer : observers) {
+                    deferNotification(event, metadata, observer,
+                            TransactionPhase.BEFORE_COMPLETION.equals(observer.getTransactionPhase()) ? beforeCompletion
+                                    : synchronization);
                 }
-
+                // the transaction is completing already, deliver the before completion notifications right away
+                beforeCompletion.beforeCompletion();
+            } else {
+                for (ObserverMethod<? super T> observer : observers) {
+                    deferNotification(event, metadata, observer, synchronization);
+                }
+            }
+            return;
+        }
+        synchronization = new TransactionNotificationSynchronization(contextId, coalesce);
+        for (ObserverMethod<? super T> observer : observers) {
+            deferNotification(event, metadata, observer, synchronization);
+        }
+        try {
+            transactionServices.registerSynchronization(synchronization);
+        } catch (Exception e) {
+            if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
+                notifyObserversOfFailedTransaction(observers, event, metadata, handler);
+                return;
             }
+            throw e;
         }
+        if (synchronizationRegistry != null) {
+            synchronizationRegistry.putResource(synchronizationKey, synchronization);
+        }
+    }
+
+    /**
+     *
+     * @return the synchronization already registered with the current transaction, or <code>null</code>
+     */
+    private TransactionNotificationSynchronization getTransactionSynchronization() {
+        if (synchronizationRegistry == null) {
+            // one synchronization per event fired
+            return null;
+        }
+        return (TransactionNotificationSynchronization) synchronizationRegistry.getResource(synchronizationKey);
+    }
+
+    private <T> void notifyObserversOfFailedTransaction(List<ObserverMethod<? super T>> observers, T event,
+            EventMetadata metadata, ObserverExceptionHandler handler) {
+        List<ObserverMethod<? super T>> filteredObservers = observers.stream()
+                .filter(observerMethod -> !observerMethod.getTransactionPhase()
+                        .equals(TransactionPhase.AFTER_SUCCESS))
+                .sorted((o1, o2) -> {
+                    // using descending order since we only need to ensure that BEFORE_COMPLETION precedes AFTER_COMPLETION
+                    return o2.getTransactionPhase().toString().compareTo(o1.getTransactionPhase().toString());
+                })
+                .collect(Collectors.toList());
+        notifySyncObservers(filteredObservers, event, metadata, handler);
     }
 }
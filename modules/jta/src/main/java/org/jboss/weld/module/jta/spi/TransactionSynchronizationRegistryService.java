@@ -0,0 +1,41 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta.spi;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+/**
+ * Optional service provided by the integrator. If available, deferred notifications of transactional observer methods are
+ * aggregated per transaction: a single synchronization is registered for all the events fired within a transaction.
+ * Otherwise, a synchronization is registered for each event fired.
+ * <p>
+ * The service may also be implemented by the {@link TransactionServices} implementation.
+ */
+public interface TransactionSynchronizationRegistryService extends Service {
+
+    /**
+     * The registry is only used to associate the aggregated notifications with the current transaction, synchronizations are
+     * always registered through {@link TransactionServices#registerSynchronization(jakarta.transaction.Synchronization)}.
+     *
+     * @return the transaction synchronization registry of the transaction manager, or <code>null</code> if not available
+     */
+    TransactionSynchronizationRegistry getTransactionSynchronizationRegistry();
+
+}
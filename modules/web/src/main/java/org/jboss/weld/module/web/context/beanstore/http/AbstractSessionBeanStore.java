@@ -12,6 +12,7 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.beanstore.AttributeBeanStore;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.beanstore.LockStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.logging.ContextLogger;
@@ -46,7 +47,7 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
      */
     public AbstractSessionBeanStore(NamingScheme namingScheme, boolean attributeLazyFetchingEnabled,
             ServiceRegistry serviceRegistry) {
-        super(namingScheme, attributeLazyFetchingEnabled);
+        super(namingScheme, attributeLazyFetchingEnabled, serviceRegistry.get(BeanStoreIndex.class));
         this.resetHttpSessionAttributeOnBeanAccess = serviceRegistry.get(WeldConfiguration.class)
                 .getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
     }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.jboss.weld.contexts.beanstore.AttributeBeanStore;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.beanstore.LockStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.module.web.servlet.HttpContextLifecycle;
@@ -28,7 +29,11 @@ public class RequestBeanStore extends AttributeBeanStore {
     private final HttpServletRequest request;
 
     public RequestBeanStore(HttpServletRequest request, NamingScheme namingScheme) {
-        super(namingScheme, false);
+        this(request, namingScheme, null);
+    }
+
+    public RequestBeanStore(HttpServletRequest request, NamingScheme namingScheme, BeanStoreIndex index) {
+        super(namingScheme, false, index);
         this.request = request;
     }
 
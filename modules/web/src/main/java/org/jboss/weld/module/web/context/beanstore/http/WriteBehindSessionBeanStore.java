@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.context.beanstore.http;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.contexts.beanstore.NamingScheme;
+import org.jboss.weld.logging.ContextLogger;
+
+/**
+ * <p>
+ * A {@link LazySessionBeanStore} which defers repeated writes of the same attribute until the bean store is detached, i.e.
+ * until the end of the request.
+ * </p>
+ * <p>
+ * Containers replicating HTTP sessions usually treat every {@code HttpSession.setAttribute()} as a modification. If an
+ * attribute which is already stored in the session is set again, e.g. because
+ * {@link org.jboss.weld.config.ConfigurationKey#RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS} is enabled, the new value is only
+ * recorded as dirty and all dirty attributes are written once when the request ends. An attribute which is not yet stored
+ * in the session is always written through so that a newly created instance is immediately visible to concurrent
+ * requests.
+ * </p>
+ * <p>
+ * This class is not threadsafe
+ * </p>
+ */
+public class WriteBehindSessionBeanStore extends LazySessionBeanStore {
+
+    // Keys known to be stored in the session
+    private final Set<String> stored;
+
+    // Dirty attributes waiting to be written when the bean store is detached
+    private final Map<String, Object> dirty;
+
+    /**
+     *
+     * @param request
+     * @param namingScheme
+     * @param attributeLazyFetchingEnabled
+     * @param serviceRegistry
+     */
+    public WriteBehindSessionBeanStore(HttpServletRequest request, NamingScheme namingScheme,
+            boolean attributeLazyFetchingEnabled, ServiceRegistry serviceRegistry) {
+        super(request, namingScheme, attributeLazyFetchingEnabled, serviceRegistry);
+        this.stored = new HashSet<>();
+        this.dirty = new LinkedHashMap<>();
+    }
+
+    @Override
+    protected void setAttribute(String key, Object instance) {
+        if (stored.contains(key)) {
+            dirty.put(key, instance);
+        } else {
+            super.setAttribute(key, instance);
+            stored.add(key);
+        }
+    }
+
+    @Override
+    protected Object getAttribute(String prefixedId) {
+        Object value = dirty.get(prefixedId);
+        if (value == null) {
+            value = super.getAttribute(prefixedId);
+            if (value != null) {
+                stored.add(prefixedId);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    protected void removeAttribute(String key) {
+        dirty.remove(key);
+        stored.remove(key);
+        super.removeAttribute(key);
+    }
+
+    @Override
+    protected Iterator<String> getAttributeNames() {
+        if (dirty.isEmpty()) {
+            return super.getAttributeNames();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Iterator<String> iterator = super.getAttributeNames(); iterator.hasNext();) {
+            names.add(iterator.next());
+        }
+        names.addAll(dirty.keySet());
+        return names.iterator();
+    }
+
+    @Override
+    public boolean detach() {
+        if (isAttached()) {
+            flush();
+        }
+        return super.detach();
+    }
+
+    /**
+     * Discard all the dirty attributes, e.g. because the context was invalidated and the instances are going to be
+     * destroyed.
+     */
+    public void discard() {
+        dirty.clear();
+    }
+
+    /**
+     * Write all the dirty attributes to the session. Nothing is written if the session does not exist anymore, i.e. a
+     * new session is never created.
+     */
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        // Copy first - if the session cannot be obtained the bean store is detached
+        Map<String, Object> attributes = new LinkedHashMap<>(dirty);
+        dirty.clear();
+        try {
+            HttpSession session = getSession(false);
+            if (session == null) {
+                // The session was invalidated in the meantime
+                return;
+            }
+            for (Entry<String, Object> entry : attributes.entrySet()) {
+                session.setAttribute(entry.getKey(), entry.getValue());
+                ContextLogger.LOG.addedKeyToSession(entry.getKey(), session.getId());
+            }
+        } catch (IllegalStateException e) {
+            // The session was invalidated in the meantime
+            ContextLogger.LOG.unableToWriteDirtySessionAttributes(attributes.keySet(), e);
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import org.jboss.weld.context.http.HttpRequestContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
@@ -55,7 +56,7 @@ public class HttpRequestContextImpl extends AbstractBoundContext<HttpServletRequ
             }
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        beanStore = new RequestBeanStore(request, namingScheme);
+        beanStore = new RequestBeanStore(request, namingScheme, getServiceRegistry().get(BeanStoreIndex.class));
         setBeanStore(beanStore);
         beanStore.attach();
         return true;
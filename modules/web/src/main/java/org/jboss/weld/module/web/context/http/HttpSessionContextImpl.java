@@ -20,6 +20,7 @@ import org.jboss.weld.contexts.beanstore.SimpleBeanIdentifierIndexNamingScheme;
 import org.jboss.weld.logging.ContextLogger;
 import org.jboss.weld.module.web.context.beanstore.http.EagerSessionBeanStore;
 import org.jboss.weld.module.web.context.beanstore.http.LazySessionBeanStore;
+import org.jboss.weld.module.web.context.beanstore.http.WriteBehindSessionBeanStore;
 import org.jboss.weld.serialization.BeanIdentifierIndex;
 
 public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequest> implements HttpSessionContext {
@@ -44,10 +45,13 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
             ContextLogger.LOG.beanStoreLeakDuringAssociation(this.getClass().getName(), request);
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        setBeanStore(new LazySessionBeanStore(request, namingScheme,
-                getServiceRegistry().getRequired(WeldConfiguration.class).getBooleanProperty(
-                        ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH),
-                getServiceRegistry()));
+        WeldConfiguration configuration = getServiceRegistry().getRequired(WeldConfiguration.class);
+        boolean lazyFetch = configuration.getBooleanProperty(ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH);
+        if (configuration.getBooleanProperty(ConfigurationKey.HTTP_SESSION_WRITE_BEHIND)) {
+            setBeanStore(new WriteBehindSessionBeanStore(request, namingScheme, lazyFetch, getServiceRegistry()));
+        } else {
+            setBeanStore(new LazySessionBeanStore(request, namingScheme, lazyFetch, getServiceRegistry()));
+        }
         checkBeanIdentifierIndexConsistency(request);
         return true;
     }
@@ -82,6 +86,16 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
         }
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        final BoundBeanStore beanStore = getBeanStore();
+        if (beanStore instanceof WriteBehindSessionBeanStore) {
+            // The instances are going to be destroyed - never write them back to the session
+            ((WriteBehindSessionBeanStore) beanStore).discard();
+        }
+    }
+
     public Class<? extends Annotation> getScope() {
         return SessionScoped.class;
     }
@@ -23,6 +23,7 @@ import jakarta.el.ELResolver;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.bean.ContextualInstance;
 import org.jboss.weld.logging.ElLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 
@@ -73,14 +74,21 @@ public abstract class AbstractWeldELResolver extends ELResolver {
                 // let the standard EL resolver chain handle the property
                 return null;
             }
-            final String name;
-            if (namespace != null) {
-                // Try looking in the manager for a bean
-                name = namespace.qualifyName(propertyString);
+            Object value;
+            BeanNameTable nameTable = getNameTable();
+            if (nameTable != null) {
+                Bean<?> bean = nameTable.get(namespace, propertyString);
+                value = bean != null ? lookup(beanManager, context, bean) : null;
             } else {
-                name = propertyString;
+                final String name;
+                if (namespace != null) {
+                    // Try looking in the manager for a bean
+                    name = namespace.qualifyName(propertyString);
+                } else {
+                    name = propertyString;
+                }
+                value = lookup(beanManager, context, beanManager.resolve(beanManager.getBeans(name)));
             }
-            Object value = lookup(beanManager, context, name);
             if (value != null) {
                 context.setPropertyResolved(true);
                 ElLogger.LOG.propertyResolved(propertyString, value);
@@ -90,13 +98,17 @@ public abstract class AbstractWeldELResolver extends ELResolver {
         return null;
     }
 
-    private Object lookup(BeanManagerImpl beanManager, ELContext context, String name) {
-        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+    private Object lookup(BeanManagerImpl beanManager, ELContext context, Bean<?> bean) {
         if (bean == null) {
             return null;
         }
         Class<? extends Annotation> scope = bean.getScope();
         if (!scope.equals(Dependent.class)) {
+            // Only allocate a creational context if a new instance is needed
+            Object instance = ContextualInstance.getIfExists(bean, beanManager);
+            if (instance != null) {
+                return instance;
+            }
             return beanManager.getReference(bean, null, beanManager.createCreationalContext(bean), true);
         } else {
             // Need to use a "special" creationalContext that can make sure that we do share dependent instances referenced by the EL Expression
@@ -136,4 +148,14 @@ public abstract class AbstractWeldELResolver extends ELResolver {
     }
 
     protected abstract Namespace getRootNamespace();
+
+    /**
+     * Subclasses may provide a precomputed table of bean names once the container is initialized. If no table is available,
+     * each name is resolved through {@link BeanManagerImpl#getBeans(String)}.
+     *
+     * @return the bean name table or <code>null</code>
+     */
+    protected BeanNameTable getNameTable() {
+        return null;
+    }
 }
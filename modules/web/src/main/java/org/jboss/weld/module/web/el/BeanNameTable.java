@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * An immutable table of the bean names accessible from a bean manager. Each name is mapped to the resolved bean, both under
+ * the full name and under the last segment within its {@link Namespace}. Since no bean can be added once the container is
+ * initialized, a name which is not in the table does not belong to any bean and resolving it costs a single hash lookup.
+ *
+ * @see AbstractWeldELResolver#getNameTable()
+ */
+public final class BeanNameTable {
+
+    /**
+     * Builds the table. Must not be called before the deployment is validated.
+     *
+     * @param manager
+     * @return the name table for the given bean manager
+     */
+    public static BeanNameTable of(BeanManagerImpl manager) {
+        Set<String> names = new HashSet<>();
+        for (Bean<?> bean : manager.getDynamicAccessibleBeans()) {
+            if (bean.getName() != null) {
+                names.add(bean.getName());
+            }
+        }
+        Map<String, Bean<?>> beans = new HashMap<>();
+        Map<String, Map<String, Bean<?>>> namespaces = new HashMap<>();
+        for (String name : names) {
+            Bean<?> bean = manager.resolve(manager.getBeans(name));
+            if (bean == null) {
+                continue;
+            }
+            beans.put(name, bean);
+            int lastDot = name.lastIndexOf('.');
+            if (lastDot > 0) {
+                namespaces.computeIfAbsent(name.substring(0, lastDot), n -> new HashMap<>()).put(name.substring(lastDot + 1),
+                        bean);
+            }
+        }
+        ImmutableMap.Builder<String, Map<String, Bean<?>>> namespacesBuilder = ImmutableMap.builder();
+        for (Map.Entry<String, Map<String, Bean<?>>> entry : namespaces.entrySet()) {
+            namespacesBuilder.put(entry.getKey(), ImmutableMap.copyOf(entry.getValue()));
+        }
+        return new BeanNameTable(ImmutableMap.copyOf(beans), namespacesBuilder.build());
+    }
+
+    private final Map<String, Bean<?>> beans;
+    private final Map<String, Map<String, Bean<?>>> namespaces;
+
+    private BeanNameTable(Map<String, Bean<?>> beans, Map<String, Map<String, Bean<?>>> namespaces) {
+        this.beans = beans;
+        this.namespaces = namespaces;
+    }
+
+    /**
+     *
+     * @param namespace the namespace or <code>null</code> for the root namespace
+     * @param name the name within the namespace
+     * @return the bean with the given name or <code>null</code> if there is no such bean
+     */
+    public Bean<?> get(Namespace namespace, String name) {
+        if (namespace == null || namespace.getQualifiedName() == null) {
+            return beans.get(name);
+        }
+        Map<String, Bean<?>> namespaceBeans = namespaces.get(namespace.getQualifiedName());
+        return namespaceBeans != null ? namespaceBeans.get(name) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanNameTable [names=" + beans.size() + ", namespaces=" + namespaces.size() + "]";
+    }
+
+}
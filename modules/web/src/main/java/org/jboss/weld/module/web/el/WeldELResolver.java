@@ -18,6 +18,8 @@ package org.jboss.weld.module.web.el;
 
 import jakarta.el.ELContext;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.LazyValueHolder;
 
@@ -29,6 +31,7 @@ public class WeldELResolver extends AbstractWeldELResolver {
 
     private final BeanManagerImpl beanManager;
     private final LazyValueHolder<Namespace> rootNamespace;
+    private volatile BeanNameTable nameTable;
 
     public WeldELResolver(BeanManagerImpl manager) {
         this.beanManager = manager;
@@ -45,4 +48,15 @@ public class WeldELResolver extends AbstractWeldELResolver {
         return rootNamespace.get();
     }
 
+    @Override
+    protected BeanNameTable getNameTable() {
+        BeanNameTable table = nameTable;
+        if (table == null && Container.instance(beanManager).getState() == ContainerState.INITIALIZED) {
+            // Building the table concurrently is harmless, the result is always the same
+            table = BeanNameTable.of(beanManager);
+            nameTable = table;
+        }
+        return table;
+    }
+
 }
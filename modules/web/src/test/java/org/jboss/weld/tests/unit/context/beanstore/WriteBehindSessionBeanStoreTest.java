@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
+import org.jboss.weld.module.web.context.beanstore.http.WriteBehindSessionBeanStore;
+import org.jboss.weld.module.web.servlet.SessionHolder;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WriteBehindSessionBeanStoreTest {
+
+    private static final String PREFIX = "test";
+
+    private static final BeanIdentifier FOO = new StringBeanIdentifier("foo");
+
+    private MockSession session;
+
+    private int createdSessions;
+
+    private WriteBehindSessionBeanStore beanStore;
+
+    @Before
+    public void init() {
+        session = new MockSession();
+        SessionHolder.sessionCreated(session.proxy);
+        HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getSession")) {
+                        if (session.invalidated && args != null && (Boolean) args[0]) {
+                            // The container creates a new session
+                            session = new MockSession();
+                            createdSessions++;
+                            SessionHolder.sessionCreated(session.proxy);
+                        }
+                        return session.invalidated ? null : session.proxy;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        beanStore = new WriteBehindSessionBeanStore(request, new SimpleNamingScheme(PREFIX), true, createServices());
+        beanStore.attach();
+    }
+
+    @After
+    public void cleanup() {
+        SessionHolder.clear();
+    }
+
+    @Test
+    public void testNewAttributeWrittenThrough() {
+        ContextualInstance<String> instance = instance("foo");
+        beanStore.put(FOO, instance);
+        assertEquals(1, session.writes(FOO));
+        assertSame(instance, session.attributes.get(key(FOO)));
+    }
+
+    @Test
+    public void testRepeatedSetDeferredAndFlushedOnceOnDetach() {
+        ContextualInstance<String> first = instance("first");
+        ContextualInstance<String> second = instance("second");
+        ContextualInstance<String> third = instance("third");
+        beanStore.put(FOO, first);
+        beanStore.put(FOO, second);
+        beanStore.put(FOO, third);
+        // Only the first write reached the session
+        assertEquals(1, session.writes(FOO));
+        assertSame(first, session.attributes.get(key(FOO)));
+        // The bean store still sees the latest instance
+        assertSame(third, beanStore.get(FOO));
+
+        assertTrue(beanStore.detach());
+        assertEquals(2, session.writes(FOO));
+        assertSame(third, session.attributes.get(key(FOO)));
+
+        // Nothing left to write
+        beanStore.flush();
+        assertFalse(beanStore.detach());
+        assertEquals(2, session.writes(FOO));
+    }
+
+    @Test
+    public void testInvalidatedSessionHandledOnFlush() {
+        beanStore.put(FOO, instance("first"));
+        beanStore.put(FOO, instance("second"));
+        session.invalidated = true;
+        assertTrue(beanStore.detach());
+        assertEquals(1, session.writes(FOO));
+    }
+
+    @Test
+    public void testNoNewSessionCreatedOnFlush() {
+        beanStore.put(FOO, instance("first"));
+        beanStore.put(FOO, instance("second"));
+        // The session is invalidated during the request
+        session.invalidated = true;
+        SessionHolder.clear();
+        assertTrue(beanStore.detach());
+        assertEquals(0, createdSessions);
+    }
+
+    @Test
+    public void testDirtyAttributesDiscardedOnInvalidation() {
+        ContextualInstance<String> first = instance("first");
+        beanStore.put(FOO, first);
+        beanStore.put(FOO, instance("second"));
+        // HttpSessionContextImpl.invalidate() discards the dirty attributes
+        beanStore.discard();
+        assertTrue(beanStore.detach());
+        assertEquals(1, session.writes(FOO));
+        assertSame(first, session.attributes.get(key(FOO)));
+    }
+
+    private static String key(BeanIdentifier id) {
+        return new SimpleNamingScheme(PREFIX).prefix(id);
+    }
+
+    private static ContextualInstance<String> instance(String value) {
+        return new ContextualInstance<String>() {
+
+            @Override
+            public String getInstance() {
+                return value;
+            }
+
+            @Override
+            public CreationalContext<String> getCreationalContext() {
+                return null;
+            }
+
+            @Override
+            public Contextual<String> getContextual() {
+                return null;
+            }
+        };
+    }
+
+    private static ServiceRegistry createServices() {
+        ServiceRegistry services = new SimpleServiceRegistry();
+        services.add(WeldConfiguration.class, new WeldConfiguration(services, new Deployment() {
+
+            @Override
+            public Collection<BeanDeploymentArchive> getBeanDeploymentArchives() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return null;
+            }
+
+            @Override
+            public ServiceRegistry getServices() {
+                return services;
+            }
+
+            @Override
+            public Iterable<Metadata<Extension>> getExtensions() {
+                return Collections.emptyList();
+            }
+        }));
+        return services;
+    }
+
+    private static class MockSession {
+
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private final Map<String, Integer> writes = new HashMap<>();
+
+        private boolean invalidated;
+
+        private final HttpSession proxy = (HttpSession) Proxy.newProxyInstance(MockSession.class.getClassLoader(),
+                new Class<?>[] { HttpSession.class }, (proxy, method, args) -> {
+                    if (invalidated) {
+                        throw new IllegalStateException("Session invalidated");
+                    }
+                    switch (method.getName()) {
+                        case "getId":
+                            return "session";
+                        case "getAttribute":
+                            return attributes.get(args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            writes.merge((String) args[0], 1, Integer::sum);
+                            return null;
+                        case "removeAttribute":
+                            attributes.remove(args[0]);
+                            return null;
+                        case "getAttributeNames":
+                            return Collections.enumeration(attributes.keySet());
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        private int writes(BeanIdentifier id) {
+            return writes.getOrDefault(key(id), 0);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.eager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ConcurrentEagerInitializationTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ConcurrentEagerInitializationTest.class))
+                .addPackage(ConcurrentEagerInitializationTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.CONCURRENT_EAGER_INITIALIZATION.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    LazyService lazyService;
+
+    @Test
+    public void testBeansCreatedBeforeEventIsFired() {
+        List<String> entries = Journal.ENTRIES;
+        assertEquals(entries.toString(), 6, entries.size());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(entries.toString(), entries.get(i).startsWith("created:"));
+        }
+        // Priority wave
+        assertEquals("created:Cache", entries.get(0));
+        // Dependencies first
+        assertTrue(entries.indexOf("created:ConnectionPool") < entries.indexOf("created:Repository"));
+        // Not observing the event
+        assertFalse(entries.contains("created:LazyService"));
+        lazyService.ping();
+        assertTrue(entries.contains("created:LazyService"));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.cache.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
+import org.jboss.weld.util.cache.ComputingCacheStatisticsService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ComputingCacheStatisticsTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ComputingCacheStatisticsTest.class))
+                .addPackage(ComputingCacheStatisticsTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.CACHE_STATISTICS.get(), "true").build(),
+                        "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testBeanResolverStatistics() {
+        ComputingCacheStatistics statistics = beanManager.getBeanResolver().getCacheStatistics();
+        assertNotNull(statistics);
+        long misses = statistics.getMissCount();
+        long hits = statistics.getHitCount();
+        assertEquals(1, beanManager.getBeans(Ping.class).size());
+        assertEquals(1, beanManager.getBeans(Ping.class).size());
+        assertTrue(statistics.getMissCount() + statistics.getHitCount() >= misses + hits + 2);
+        assertTrue(statistics.getLoadCount() > 0);
+    }
+
+    @Test
+    public void testStatisticsRegisteredAsMBeans() throws Exception {
+        ComputingCacheStatisticsService service = beanManager.getServices().get(ComputingCacheStatisticsService.class);
+        assertNotNull(service);
+        Map<ObjectName, ComputingCacheStatistics> statistics = service.getStatistics();
+        assertTrue(statistics.size() >= 4);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName beanResolver = null;
+        for (ObjectName name : statistics.keySet()) {
+            assertTrue(server.isRegistered(name));
+            if (name.getKeyProperty("name").equals(ObjectName.quote("beanResolver"))
+                    && name.getKeyProperty("owner").equals(ObjectName.quote(beanManager.getId()))) {
+                beanResolver = name;
+            }
+        }
+        assertNotNull(beanResolver);
+        assertEquals(beanManager.getBeanResolver().getCacheStatistics().getMaxSize(),
+                server.getAttribute(beanResolver, "MaxSize"));
+    }
+
+}
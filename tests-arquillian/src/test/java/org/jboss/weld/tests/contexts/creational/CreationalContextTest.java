@@ -17,7 +17,9 @@
 package org.jboss.weld.tests.contexts.creational;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -56,6 +58,7 @@ public class CreationalContextTest {
         assertNotNull(instance.id);
 
         WeldCreationalContext<InjectedBean> wcc = (WeldCreationalContext<InjectedBean>) cc;
+        assertTrue(wcc.hasDependentInstances());
         assertEquals(5, wcc.getDependentInstances().size());
 
         @SuppressWarnings("serial")
@@ -74,4 +77,17 @@ public class CreationalContextTest {
         }
         assertEquals(expectedDependentInstanceClasses, actualDependentInstanceClasses);
     }
+
+    @Test
+    public void testCreationalContextWithoutDependentInstances(BeanManager manager) {
+        Bean<Alpha> bean = Reflections.cast(manager.getBeans(Alpha.class).iterator().next());
+        CreationalContext<Alpha> cc = manager.createCreationalContext(bean);
+        Alpha instance = bean.create(cc);
+        assertNotNull(instance);
+
+        WeldCreationalContext<Alpha> wcc = (WeldCreationalContext<Alpha>) cc;
+        assertFalse(wcc.hasDependentInstances());
+        assertTrue(wcc.getDependentInstances().isEmpty());
+        bean.destroy(instance, cc);
+    }
 }
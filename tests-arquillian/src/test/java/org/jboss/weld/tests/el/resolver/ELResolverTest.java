@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 
 import jakarta.el.ELContext;
 import jakarta.el.ExpressionFactory;
+import jakarta.el.PropertyNotFoundException;
 import jakarta.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -122,4 +123,19 @@ public class ELResolverTest {
         Assert.assertTrue(foo instanceof String);
         Assert.assertEquals("foo", foo);
     }
+
+    @Test
+    public void testNonBeanNames(BeanManagerImpl beanManager) {
+        ELContext ctx = EL.createELContext(beanManager);
+        try {
+            EL.EXPRESSION_FACTORY.createValueExpression(ctx, "#{unknownName}", Object.class).getValue(ctx);
+            Assert.fail();
+        } catch (PropertyNotFoundException expected) {
+            // not resolved by any resolver
+        }
+        Assert.assertNull(EL.EXPRESSION_FACTORY.createValueExpression(ctx, "#{com.acme.unknown}", Object.class).getValue(ctx));
+        // The namespace itself is resolved, the bean under it is still found
+        Object bean = EL.EXPRESSION_FACTORY.createValueExpression(ctx, "#{com.acme.settings}", Object.class).getValue(ctx);
+        Assert.assertTrue(bean instanceof MyBean);
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.event.ResolvedObservers;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ObserverDispatchTableTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ObserverDispatchTableTest.class))
+                .addPackage(ObserverDispatchTableTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.CACHE_STATISTICS.get(), "true").build(),
+                        "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testDispatchTable() {
+        ObserverNotifier notifier = beanManager.getGlobalLenientObserverNotifier();
+        notifier.clear();
+        ComputingCacheStatistics statistics = notifier.getDispatchTableStatistics();
+        assertNotNull(statistics);
+        long loads = statistics.getLoadCount();
+
+        ResolvedObservers<Signal> observers = notifier.resolveObserverMethods(Signal.class);
+        assertEquals(1, observers.getAllObservers().size());
+        assertEquals(loads + 1, statistics.getLoadCount());
+        // the array and the set variant share the entry
+        assertSame(observers, notifier.resolveObserverMethods(Signal.class));
+        assertSame(observers, notifier.resolveObserverMethods(Signal.class, Collections.emptySet()));
+        assertEquals(loads + 1, statistics.getLoadCount());
+
+        ResolvedObservers<Signal> loudObservers = notifier.resolveObserverMethods(Signal.class, Loud.Literal.INSTANCE);
+        assertEquals(2, loudObservers.getAllObservers().size());
+        assertSame(loudObservers,
+                notifier.resolveObserverMethods(Signal.class, Collections.singleton(Loud.Literal.INSTANCE)));
+        assertEquals(loads + 2, statistics.getLoadCount());
+    }
+
+    @Test
+    public void testClearInvalidatesDispatchTable() {
+        ObserverNotifier notifier = beanManager.getGlobalLenientObserverNotifier();
+        ComputingCacheStatistics statistics = notifier.getDispatchTableStatistics();
+        ResolvedObservers<Signal> observers = notifier.resolveObserverMethods(Signal.class);
+        long loads = statistics.getLoadCount();
+
+        notifier.clear();
+        ResolvedObservers<Signal> resolvedAgain = notifier.resolveObserverMethods(Signal.class);
+        assertNotSame(observers, resolvedAgain);
+        assertEquals(observers.getAllObservers(), resolvedAgain.getAllObservers());
+        assertEquals(loads + 1, statistics.getLoadCount());
+    }
+
+    @Test
+    public void testDuplicateQualifiersRejected() {
+        try {
+            beanManager.getGlobalLenientObserverNotifier().resolveObserverMethods(Signal.class, Loud.Literal.INSTANCE,
+                    Loud.Literal.INSTANCE);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.Interceptor;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.UserTransaction;
+
+import org.jboss.weld.module.jta.spi.TransactionSynchronizationRegistryService;
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+/**
+ * Simulates a single transaction, the transaction is completed by {@link #commit()}.
+ */
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 1000)
+public class MockTransactionServices implements TransactionServices, TransactionSynchronizationRegistryService {
+
+    private static final List<Synchronization> SYNCHRONIZATIONS = new CopyOnWriteArrayList<>();
+
+    private static final Map<Object, Object> RESOURCES = new ConcurrentHashMap<>();
+
+    private static volatile int status = Status.STATUS_NO_TRANSACTION;
+
+    private static final TransactionSynchronizationRegistry REGISTRY = new TransactionSynchronizationRegistry() {
+
+        @Override
+        public Object getTransactionKey() {
+            return isActive() ? SYNCHRONIZATIONS : null;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            RESOURCES.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return RESOURCES.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            SYNCHRONIZATIONS.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return status;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            status = Status.STATUS_MARKED_ROLLBACK;
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return status == Status.STATUS_MARKED_ROLLBACK;
+        }
+    };
+
+    static void begin() {
+        SYNCHRONIZATIONS.clear();
+        RESOURCES.clear();
+        status = Status.STATUS_ACTIVE;
+    }
+
+    static void commit() {
+        status = Status.STATUS_PREPARING;
+        // Synchronizations may be registered while the transaction is completing
+        for (int i = 0; i < SYNCHRONIZATIONS.size(); i++) {
+            SYNCHRONIZATIONS.get(i).beforeCompletion();
+        }
+        status = Status.STATUS_COMMITTED;
+        for (Synchronization synchronization : SYNCHRONIZATIONS) {
+            synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        }
+        status = Status.STATUS_NO_TRANSACTION;
+    }
+
+    static void rollbackAfterTimeout() {
+        // The transaction is rolled back by another thread, the application thread still sees it as active meanwhile
+        for (Synchronization synchronization : SYNCHRONIZATIONS) {
+            synchronization.afterCompletion(Status.STATUS_ROLLEDBACK);
+        }
+        status = Status.STATUS_NO_TRANSACTION;
+    }
+
+    static int getSynchronizationCount() {
+        return SYNCHRONIZATIONS.size();
+    }
+
+    static TransactionSynchronizationRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    private static boolean isActive() {
+        return status == Status.STATUS_ACTIVE || status == Status.STATUS_MARKED_ROLLBACK
+                || status == Status.STATUS_PREPARING;
+    }
+
+    @Override
+    public void registerSynchronization(Synchronization synchronizedObserver) {
+        if (status == Status.STATUS_MARKED_ROLLBACK) {
+            throw new RuntimeException(new RollbackException());
+        }
+        SYNCHRONIZATIONS.add(synchronizedObserver);
+    }
+
+    @Override
+    public boolean isTransactionActive() {
+        return isActive();
+    }
+
+    @Override
+    public UserTransaction getUserTransaction() {
+        return null;
+    }
+
+    @Override
+    public TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+        return REGISTRY;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batch;
+
+import java.util.Objects;
+
+public class Order {
+
+    private final String id;
+
+    private final boolean shipped;
+
+    public Order(String id) {
+        this(id, false);
+    }
+
+    public Order(String id, boolean shipped) {
+        this.id = id;
+        this.shipped = shipped;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isShipped() {
+        return shipped;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, shipped);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Order)) {
+            return false;
+        }
+        Order that = (Order) obj;
+        return id.equals(that.id) && shipped == that.shipped;
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batch;
+
+import static jakarta.enterprise.event.TransactionPhase.AFTER_COMPLETION;
+import static jakarta.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+import static jakarta.enterprise.event.TransactionPhase.BEFORE_COMPLETION;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class OrderObserver {
+
+    static final List<String> NOTIFICATIONS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    AuditLog auditLog;
+
+    @Inject
+    Event<Shipment> shipmentEvent;
+
+    void beforeCompletion(@Observes(during = BEFORE_COMPLETION) Order order) {
+        auditLog.record();
+        NOTIFICATIONS.add("before:" + order.getId());
+        if (order.isShipped()) {
+            shipmentEvent.fire(new Shipment(order.getId()));
+        }
+    }
+
+    void afterSuccess(@Observes(during = AFTER_SUCCESS) Order order) {
+        auditLog.record();
+        NOTIFICATIONS.add("afterSuccess:" + order.getId());
+    }
+
+    void afterCompletion(@Observes(during = AFTER_COMPLETION) Order order) {
+        NOTIFICATIONS.add("afterCompletion:" + order.getId());
+    }
+
+    void shipmentBeforeCompletion(@Observes(during = BEFORE_COMPLETION) Shipment shipment) {
+        NOTIFICATIONS.add("shipment:before:" + shipment.getOrderId());
+    }
+
+    void shipmentAfterSuccess(@Observes(during = AFTER_SUCCESS) Shipment shipment) {
+        NOTIFICATIONS.add("shipment:afterSuccess:" + shipment.getOrderId());
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batch;
+
+import static java.util.Collections.frequency;
+import static org.jboss.weld.tests.event.observer.transactional.batch.OrderObserver.NOTIFICATIONS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.context.control.RequestContextController;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Synchronization;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class TransactionalObserverBatchTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(TransactionalObserverBatchTest.class))
+                .addClasses(Order.class, Shipment.class, AuditLog.class, OrderObserver.class, MockTransactionServices.class)
+                .addAsServiceProvider(Service.class, MockTransactionServices.class);
+    }
+
+    @Inject
+    Event<Order> orderEvent;
+
+    @Inject
+    RequestContextController requestContextController;
+
+    @Before
+    public void begin() {
+        NOTIFICATIONS.clear();
+        AuditLog.CREATED.set(0);
+        MockTransactionServices.begin();
+    }
+
+    @Test
+    public void testSingleSynchronizationPerTransaction() throws InterruptedException {
+        orderEvent.fire(new Order("1"));
+        orderEvent.fire(new Order("2"));
+        orderEvent.fire(new Order("1"));
+        assertEquals(1, MockTransactionServices.getSynchronizationCount());
+        assertTrue(NOTIFICATIONS.isEmpty());
+        commit();
+        // Identical notifications are not coalesced by default
+        assertEquals(NOTIFICATIONS.toString(), 2, frequency(NOTIFICATIONS, "before:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "before:2"));
+        assertEquals(NOTIFICATIONS.toString(), 2, frequency(NOTIFICATIONS, "afterSuccess:1"));
+        assertEquals(NOTIFICATIONS.toString(), 2, frequency(NOTIFICATIONS, "afterCompletion:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterSuccess:2"));
+        assertTrue(NOTIFICATIONS.indexOf("afterSuccess:1") > NOTIFICATIONS.lastIndexOf("before:1"));
+    }
+
+    @Test
+    public void testRequestContextActivatedOncePerPhase() throws InterruptedException {
+        orderEvent.fire(new Order("1"));
+        orderEvent.fire(new Order("2"));
+        commit();
+        assertEquals(NOTIFICATIONS.toString(), 6, NOTIFICATIONS.size());
+        // One request context for the before completion observers and one for the after completion observers
+        assertEquals(2, AuditLog.CREATED.get());
+    }
+
+    @Test
+    public void testEventFiredByBeforeCompletionObserverDelivered() throws InterruptedException {
+        orderEvent.fire(new Order("1", true));
+        commit();
+        assertEquals(1, MockTransactionServices.getSynchronizationCount());
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "shipment:before:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "shipment:afterSuccess:1"));
+    }
+
+    @Test
+    public void testEventFiredAfterBeforeCompletionDelivered() throws InterruptedException {
+        orderEvent.fire(new Order("1"));
+        // E.g. a persistence context flushed by an interposed synchronization, called after the Weld synchronization
+        MockTransactionServices.getRegistry().registerInterposedSynchronization(new Synchronization() {
+
+            @Override
+            public void beforeCompletion() {
+                orderEvent.fire(new Order("flushed"));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+            }
+        });
+        commit();
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "before:flushed"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterSuccess:flushed"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterCompletion:flushed"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterSuccess:1"));
+    }
+
+    @Test
+    public void testEventFiredAfterCompletionStartedDelivered() throws InterruptedException {
+        orderEvent.fire(new Order("1"));
+        // Called after the Weld synchronization, e.g. the application thread fires an event while the transaction times out
+        MockTransactionServices.getRegistry().registerInterposedSynchronization(new Synchronization() {
+
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                orderEvent.fire(new Order("late"));
+            }
+        });
+        Thread thread = new Thread(MockTransactionServices::rollbackAfterTimeout);
+        thread.start();
+        thread.join();
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterCompletion:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterCompletion:late"));
+        assertFalse(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("afterSuccess:late"));
+        assertFalse(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("before:late"));
+    }
+
+    @Test
+    public void testMarkedRollbackFallback() {
+        orderEvent.fire(new Order("1"));
+        MockTransactionServices.getRegistry().setRollbackOnly();
+        boolean activated = requestContextController.activate();
+        try {
+            orderEvent.fire(new Order("2"));
+        } finally {
+            if (activated) {
+                requestContextController.deactivate();
+            }
+        }
+        // Notified right away, as if the transaction failed
+        assertTrue(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("before:2"));
+        assertTrue(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("afterCompletion:2"));
+        assertTrue(NOTIFICATIONS.indexOf("before:2") < NOTIFICATIONS.indexOf("afterCompletion:2"));
+        assertFalse(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("afterSuccess:2"));
+        assertFalse(NOTIFICATIONS.toString(), NOTIFICATIONS.contains("before:1"));
+        assertEquals(1, MockTransactionServices.getSynchronizationCount());
+    }
+
+    static void commit() throws InterruptedException {
+        // No request context is active on a new thread
+        Thread thread = new Thread(MockTransactionServices::commit);
+        thread.start();
+        thread.join();
+    }
+
+}
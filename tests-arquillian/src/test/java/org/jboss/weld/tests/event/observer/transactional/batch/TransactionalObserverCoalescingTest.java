@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batch;
+
+import static java.util.Collections.frequency;
+import static org.jboss.weld.tests.event.observer.transactional.batch.OrderObserver.NOTIFICATIONS;
+import static org.junit.Assert.assertEquals;
+
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class TransactionalObserverCoalescingTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(TransactionalObserverCoalescingTest.class))
+                .addClasses(Order.class, Shipment.class, AuditLog.class, OrderObserver.class, MockTransactionServices.class,
+                        TransactionalObserverBatchTest.class, PropertiesBuilder.class)
+                .addAsServiceProvider(Service.class, MockTransactionServices.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.TRANSACTIONAL_OBSERVER_COALESCING.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    Event<Order> orderEvent;
+
+    @Test
+    public void testIdenticalNotificationsCoalesced() throws InterruptedException {
+        NOTIFICATIONS.clear();
+        MockTransactionServices.begin();
+        orderEvent.fire(new Order("1"));
+        orderEvent.fire(new Order("2"));
+        orderEvent.fire(new Order("1"));
+        assertEquals(1, MockTransactionServices.getSynchronizationCount());
+        TransactionalObserverBatchTest.commit();
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "before:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "before:2"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterSuccess:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterCompletion:1"));
+        assertEquals(NOTIFICATIONS.toString(), 1, frequency(NOTIFICATIONS, "afterSuccess:2"));
+    }
+
+}
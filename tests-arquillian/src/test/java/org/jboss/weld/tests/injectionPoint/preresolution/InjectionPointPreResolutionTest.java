@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionPoint.preresolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.injection.CacheableInjectionPoint;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.jboss.weld.util.reflection.Reflections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class InjectionPointPreResolutionTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(InjectionPointPreResolutionTest.class))
+                .addPackage(InjectionPointPreResolutionTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.INJECTION_POINT_PRE_RESOLUTION.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testInjectionPointsResolvedDuringValidation() {
+        Bean<?> consumerBean = beanManager.resolve(beanManager.getBeans(Consumer.class));
+        Bean<?> fooBean = beanManager.resolve(beanManager.getBeans(Foo.class));
+        Bean<?> barBean = beanManager.resolve(beanManager.getBeans(Bar.class));
+        assertEquals(3, consumerBean.getInjectionPoints().size());
+        for (InjectionPoint injectionPoint : consumerBean.getInjectionPoints()) {
+            assertTrue(injectionPoint instanceof CacheableInjectionPoint);
+            CacheableInjectionPoint cacheable = (CacheableInjectionPoint) injectionPoint;
+            Class<?> rawType = Reflections.getRawType(injectionPoint.getType());
+            if (Instance.class.equals(rawType)) {
+                assertFalse(cacheable.isCacheable());
+                assertNull(cacheable.getCachedBean());
+            } else {
+                assertTrue(cacheable.isCacheable());
+                assertNotNull(cacheable.getCachedBean());
+                assertEquals(Foo.class.equals(rawType) ? fooBean : barBean, cacheable.getCachedBean());
+            }
+        }
+        Consumer consumer = (Consumer) beanManager.getReference(consumerBean, Consumer.class,
+                beanManager.createCreationalContext(consumerBean));
+        assertNotNull(consumer.foo);
+        assertNotNull(consumer.bar);
+        assertTrue(consumer.fooInstance.isResolvable());
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.InstanceSelector;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class InstanceSelectorTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(InstanceSelectorTest.class))
+                .addPackage(InstanceSelectorTest.class.getPackage());
+    }
+
+    @Inject
+    @Any
+    Instance<Plugin> plugins;
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testSelector() {
+        InstanceSelector<Plugin> acme = InstanceSelector.of(plugins, Plugin.class, new Tenant.Literal("acme"));
+        assertTrue(acme.isResolvable());
+        Plugin plugin = acme.get();
+        assertEquals("acme", plugin.getTenant());
+        assertEquals(plugin, acme.get());
+
+        InstanceSelector<InitechPlugin> initech = InstanceSelector.of(plugins, new TypeLiteral<InitechPlugin>() {
+        }, new Tenant.Literal("initech"));
+        assertEquals("initech", initech.get().getTenant());
+        // A new dependent instance for each call
+        assertNotSame(initech.get(), initech.get());
+    }
+
+    @Test
+    public void testUnsatisfiedSelector() {
+        InstanceSelector<Plugin> unknown = InstanceSelector.of(plugins, Plugin.class, new Tenant.Literal("unknown"));
+        assertFalse(unknown.isResolvable());
+        try {
+            unknown.get();
+            fail();
+        } catch (UnsatisfiedResolutionException expected) {
+        }
+    }
+
+    @Test
+    public void testSelectorAfterResolverCleared() {
+        InstanceSelector<Plugin> acme = InstanceSelector.of(plugins, Plugin.class, new Tenant.Literal("acme"));
+        assertEquals("acme", acme.get().getTenant());
+        int generation = beanManager.getBeanResolver().getGeneration();
+        beanManager.getBeanResolver().clear();
+        assertEquals(generation + 1, beanManager.getBeanResolver().getGeneration());
+        assertEquals("acme", acme.get().getTenant());
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.methodhandles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Audited
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class AuditInterceptor {
+
+    static final List<String> INVOCATIONS = new CopyOnWriteArrayList<String>();
+
+    static volatile boolean invokedThroughMethodHandle;
+
+    @PostConstruct
+    void postConstruct(InvocationContext ctx) throws Exception {
+        INVOCATIONS.add("postConstruct");
+        ctx.proceed();
+    }
+
+    @AroundInvoke
+    Object audit(InvocationContext ctx) throws Exception {
+        INVOCATIONS.add(ctx.getMethod().getName());
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (element.getClassName().endsWith("SimpleInterceptorInvocation$MethodHandleInvocation")) {
+                invokedThroughMethodHandle = true;
+            }
+        }
+        Object result = ctx.proceed();
+        return result instanceof String ? result + "!" : result;
+    }
+
+}
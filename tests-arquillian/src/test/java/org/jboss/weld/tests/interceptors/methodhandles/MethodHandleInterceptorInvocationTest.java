@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.methodhandles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class MethodHandleInterceptorInvocationTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap
+                .create(BeanArchive.class, Utils.getDeploymentNameAsHash(MethodHandleInterceptorInvocationTest.class))
+                .addPackage(MethodHandleInterceptorInvocationTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Inject
+    AuditedService service;
+
+    @Test
+    public void testInterceptorMethodsInvoked() {
+        assertTrue(beanManager.getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES));
+        assertEquals("foo!", service.ping("foo"));
+        // The instance may have been created by another test method
+        List<String> invocations = AuditInterceptor.INVOCATIONS;
+        assertTrue(invocations.indexOf("postConstruct") >= 0);
+        assertEquals(invocations.indexOf("postConstruct") + 1, invocations.indexOf("init"));
+        assertEquals("ping", invocations.get(invocations.size() - 1));
+        assertTrue(AuditInterceptor.invokedThroughMethodHandle);
+    }
+
+    @Test(expected = IOException.class)
+    public void testCheckedExceptionIsNotWrapped() throws IOException {
+        service.fail();
+    }
+
+}
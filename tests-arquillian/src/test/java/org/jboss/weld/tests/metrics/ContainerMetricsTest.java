@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.metrics.ContainerMetrics;
+import org.jboss.weld.metrics.JmxContainerMetrics;
+import org.jboss.weld.metrics.TimerStatistics;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ContainerMetricsTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ContainerMetricsTest.class))
+                .addPackage(ContainerMetricsTest.class.getPackage())
+                .addClass(PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.METRICS.get(), "true").build(),
+                        "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Inject
+    Counter counter;
+
+    @Inject
+    Event<Tick> event;
+
+    @Test
+    public void testMetricsRecorded() {
+        JmxContainerMetrics metrics = getMetrics();
+        metrics.reset();
+
+        counter.increment();
+        event.fire(new Tick());
+        Bean<?> counterBean = beanManager.resolve(beanManager.getBeans(Counter.class));
+        assertNotNull(beanManager.getContext(RequestScoped.class).get(counterBean));
+
+        assertEquals(Long.valueOf(1), metrics.getEventsFired().get(Tick.class.getName()));
+        assertEquals(Long.valueOf(1), metrics.getContextMisses().get(RequestScoped.class.getName()));
+        assertEquals(Long.valueOf(1), metrics.getContextHits().get(RequestScoped.class.getName()));
+
+        TimerStatistics increment = metrics.getInterceptorChainInvocation().get(Counter.class.getName() + ".increment");
+        assertNotNull(increment);
+        assertEquals(2, increment.getCount());
+        assertTrue(increment.getMaxTime() > 0);
+
+        assertEquals(1, count(metrics.getBeanInstanceCreation(), Counter.class.getName()));
+        assertEquals(1, count(metrics.getBeanInstanceCreation(), TickObserver.class.getName()));
+        assertEquals(1, count(metrics.getObserverNotification(), TickObserver.class.getName()));
+    }
+
+    @Test
+    public void testMetricsRegisteredAsMBean() throws Exception {
+        getMetrics();
+        counter.increment();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(
+                "org.jboss.weld:type=ContainerMetrics,container=" + ObjectName.quote(beanManager.getContextId()));
+        assertTrue(server.isRegistered(name));
+        TabularData interceptorChainInvocation = (TabularData) server.getAttribute(name, "InterceptorChainInvocation");
+        assertFalse(interceptorChainInvocation.isEmpty());
+        assertTrue(server.getAttribute(name, "ProxyClassGeneration") instanceof CompositeData);
+    }
+
+    private JmxContainerMetrics getMetrics() {
+        ContainerMetrics metrics = beanManager.getServices().get(ContainerMetrics.class);
+        assertTrue(metrics instanceof JmxContainerMetrics);
+        return (JmxContainerMetrics) metrics;
+    }
+
+    private static long count(Map<String, TimerStatistics> timers, String name) {
+        long count = 0;
+        for (Map.Entry<String, TimerStatistics> entry : timers.entrySet()) {
+            if (entry.getKey().contains(name)) {
+                count += entry.getValue().getCount();
+            }
+        }
+        return count;
+    }
+
+}